@@ -2,8 +2,10 @@ package org.example.project;
 
 
 import org.example.project.factory.RepositoryFactory;
+import org.example.project.index.ReceiptIndex;
 import org.example.project.model.*;
 import org.example.project.observer.*;
+import org.example.project.repo.CandidateIndex;
 import org.example.project.service.VoteService;
 import org.example.project.strategy.*;
 
@@ -14,23 +16,39 @@ public class VotingApp {
 
     private final VoteService service;
     private final Scanner scanner;
+    // Tampon réutilisé pour l'affichage des résultats
+    private final StringBuilder resultsBuffer = new StringBuilder(256);
+    private final ReceiptIndex receipts;
 
     public VotingApp(VoteService service) {
         this(service, new Scanner(System.in));
     }
+    // Votes en mémoire : une clé de reçus propre au processus suffit
     public VotingApp(VoteService service, Scanner scanner) {
         this.service = service;
         this.scanner = scanner;
+        this.receipts = new ReceiptIndex(service::getCurrentVote);
+        initialize();
+    }
+    // Votes durables : la clé doit être persistée avec eux (voir ReceiptIndex.loadOrCreateKey)
+    public VotingApp(VoteService service, Scanner scanner, byte[] receiptKey) {
+        this.service = service;
+        this.scanner = scanner;
+        this.receipts = new ReceiptIndex(service::getCurrentVote, receiptKey);
         initialize();
     }
 
     private void initialize() {
-        // Ajouter les candidats par défaut
-        service.addCandidate("C1", "Alice");
-        service.addCandidate("C2", "Bob");
+        addDefaultCandidates();
 
         service.addListener(new LoggingVoteListener());
         service.addListener(new AuditVoteListener());
+        service.addListener(receipts);
+    }
+
+    private void addDefaultCandidates() {
+        service.addCandidate("C1", "Alice");
+        service.addCandidate("C2", "Bob");
     }
 
     public void start() {
@@ -52,11 +70,12 @@ public class VotingApp {
                     case "reset" -> handleReset();
                     case "list" -> handleListCandidates();
                     case "voters" -> handleListVoters();
+                    case "verify" -> handleVerify();
                     case "exit" -> {
                         System.out.println("Goodbye!");
                         running = false;
                     }
-                    default -> System.out.println("❌ Unknown command. Try: vote, count, add, list, voters, reset, exit");
+                    default -> System.out.println("❌ Unknown command. Try: vote, count, add, list, voters, verify, reset, exit");
                 }
             } catch (Exception e) {
                 System.err.printf("❌ Error: %s%n", e.getMessage());
@@ -88,6 +107,22 @@ public class VotingApp {
         String candidateId = scanner.nextLine().trim();
 
         service.castVote(voterId, candidateId);
+        receipts.receiptFor(voterId).ifPresent(receipt ->
+                System.out.printf("🧾 Receipt: %s%n", ReceiptIndex.formatReceipt(receipt)));
+    }
+
+    private void handleVerify() {
+        System.out.print("Enter receipt: ");
+        long receipt = ReceiptIndex.parseReceipt(scanner.nextLine().trim().toLowerCase());
+
+        Vote vote = receipts.findByReceipt(receipt);
+        if (vote != null) {
+            System.out.printf("✓ Vote for %s recorded%n", vote.getCandidateName());
+        } else if (receipts.contains(receipt)) {
+            System.out.println("⚠️  This vote was superseded or retracted");
+        } else {
+            System.out.println("❌ No vote found for this receipt");
+        }
     }
 
     private void handleCount() {
@@ -96,45 +131,54 @@ public class VotingApp {
             return;
         }
 
+        // Un seul passage sur les votes pour les deux stratégies et leurs gagnants
+        List<CountingEngine.Outcome> outcomes = service.countAll(
+                List.of(new PluralityCountingStrategy(), new RankedChoiceCountingStrategy()));
+
         System.out.println("\n📊 Results (Plurality Strategy):");
-        Map<String, Integer> results = service.countVotes(new PluralityCountingStrategy());
-        displayResults(results);
+        displayResults(outcomes.get(0).results());
 
         // Afficher le gagnant
-        Candidate winner = service.getWinner(new PluralityCountingStrategy());
+        Candidate winner = service.resolveCandidate(outcomes.get(0).winnerId());
         if (winner != null) {
-            System.out.printf("\n🏆 Winner: %s%n", winner.getName());
+            System.out.printf("\n🏆 Winner: %s%n", displayName(winner));
         }
 
         System.out.println("\n📊 Results (Ranked Choice Strategy):");
-        Map<String, Integer> rankedResults = service.countVotes(new RankedChoiceCountingStrategy());
-        displayResults(rankedResults);
+        displayResults(outcomes.get(1).results());
 
-        Candidate rankedWinner = service.getWinner(new RankedChoiceCountingStrategy());
+        Candidate rankedWinner = service.resolveCandidate(outcomes.get(1).winnerId());
         if (rankedWinner != null) {
-            System.out.printf("\n🏆 Winner (Ranked): %s%n", rankedWinner.getName());
+            System.out.printf("\n🏆 Winner (Ranked): %s%n", displayName(rankedWinner));
         }
     }
 
 
-    private void displayResults(Map<String, Integer> results) {
-        results.entrySet().stream()
-                .sorted((e1, e2) -> Integer.compare(e2.getValue(), e1.getValue()))
-                .forEach(e -> {
-                    Candidate c = null;
-                    for (Candidate candidate : service.getCandidates()) {
-                        if (candidate.getId().equals(e.getKey())) {
-                            c = candidate;
-                            break;
-                        }
-                    }
-                    if (c != null) {
-                        System.out.printf("  %s: %d votes%n", c.getName(), e.getValue());
-                    }
-                });
+    private static String displayName(Candidate candidate) {
+        return candidate.isWriteIn() ? candidate.getName() + " (write-in)" : candidate.getName();
+    }
 
-        int total = results.values().stream().mapToInt(Integer::intValue).sum();
-        System.out.printf("  Total: %d votes%n", total);
+    private void displayResults(Map<String, Integer> results) {
+        CandidateIndex candidates = service.getCandidateIndex();
+        List<Map.Entry<String, Integer>> entries = new ArrayList<>(results.entrySet());
+        entries.sort((e1, e2) -> Integer.compare(e2.getValue(), e1.getValue()));
+
+        String newLine = System.lineSeparator();
+        StringBuilder out = resultsBuffer;
+        out.setLength(0);
+        int total = 0;
+        for (Map.Entry<String, Integer> e : entries) {
+            total += e.getValue();
+            String name = candidates.nameOf(e.getKey());
+            if (name == null) {
+                // Candidat libre ou inconnu : la ligne reste affichée pour que le total s'explique
+                Candidate resolved = service.resolveCandidate(e.getKey());
+                name = resolved != null ? displayName(resolved) : e.getKey();
+            }
+            out.append("  ").append(name).append(": ").append(e.getValue().intValue()).append(" votes").append(newLine);
+        }
+        out.append("  Total: ").append(total).append(" votes").append(newLine);
+        System.out.print(out);
     }
 
     private void handleAddCandidate() {
@@ -180,23 +224,23 @@ public class VotingApp {
 
         if (confirm.equals("yes")) {
             service.reset();
-            initialize();
+            // Les listeners survivent au reset : seuls les candidats sont à recréer
+            addDefaultCandidates();
             System.out.println("✓ System reset");
         }
     }
 
 
     public static void main(String[] args) {
-        // Factory Pattern : Créer les repositories
-        var voteRepository = RepositoryFactory.createVoteRepository("memory");
-        var candidateRepository = RepositoryFactory.createCandidateRepository("memory");
-        var voterRepository = RepositoryFactory.createVoterRepository("memory");
-
-        // Créer le service avec injection de dépendances
-        var service = new VoteService(voteRepository, candidateRepository, voterRepository);
+        // Factory Pattern : chaque reset obtient des repositories neufs ; les votes
+        // sont stockés en colonnes, sans un objet Vote conservé par bulletin
+        var service = VoteService.withGenerations(
+                () -> RepositoryFactory.createVoteRepository("columnar"),
+                () -> RepositoryFactory.createCandidateRepository("memory"),
+                () -> RepositoryFactory.createVoterRepository("memory"));
 
         // Lancer l'application
-        var app = new VotingApp(service, new Scanner(System.in));
+        var app = new VotingApp(service);
         app.start();
     }
 }
\ No newline at end of file
@@ -0,0 +1,131 @@
+package org.example.project.election;
+
+import org.example.project.model.Candidate;
+import org.example.project.model.Vote;
+import org.example.project.repo.ColumnarVoteRepository;
+import org.example.project.repo.SnapshotCandidateRepository;
+import org.example.project.repo.VoterRepository;
+import org.example.project.service.CastResult;
+import org.example.project.service.VoteService;
+import org.example.project.strategy.CountingStrategy;
+import org.example.project.tally.LiveTally;
+
+import java.util.*;
+
+public class Election {
+
+    private final String id;
+    private final String name;
+    private final EligibleVoterRepository eligibleVoters;
+    private final VoteService service;
+    private final LiveTally tally = new LiveTally();
+
+    Election(String id, String name, VoterRepository voterRoll, boolean openToAllVoters) {
+        if (id == null || id.isBlank()) {
+            throw new IllegalArgumentException("Election ID cannot be null or blank");
+        }
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("Election name cannot be null or blank");
+        }
+        this.id = id;
+        this.name = name;
+        this.eligibleVoters = new EligibleVoterRepository(voterRoll, openToAllVoters);
+        // Les noms d'électeurs viennent de la liste partagée, pas de la colonne des votes
+        this.service = new VoteService(ColumnarVoteRepository.resolvingNamesFrom(voterRoll),
+                new SnapshotCandidateRepository(), eligibleVoters);
+        this.service.addListener(tally);
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void addCandidate(String candidateId, String candidateName) {
+        service.addCandidate(candidateId, candidateName);
+    }
+
+    public List<Candidate> getCandidates() {
+        return service.getCandidates();
+    }
+
+    public void grantEligibility(String voterId) {
+        if (voterId == null || voterId.isBlank()) {
+            throw new IllegalArgumentException("Voter ID cannot be null or blank");
+        }
+        eligibleVoters.grant(voterId);
+    }
+
+    public void revokeEligibility(String voterId) {
+        eligibleVoters.revoke(voterId);
+        service.invalidateVoter(voterId);
+    }
+
+    public boolean isEligible(String voterId) {
+        return eligibleVoters.isEligible(voterId);
+    }
+
+    public void castVote(String voterId, String candidateId) {
+        service.castVote(voterId, candidateId);
+    }
+
+    public void openPolls() {
+        service.openPolls();
+    }
+
+    public void closePolls() {
+        service.closePolls();
+    }
+
+    public boolean isPollsOpen() {
+        return service.isPollsOpen();
+    }
+
+    public CastResult tryCastVote(String voterId, String candidateId) {
+        return service.tryCastVote(voterId, candidateId);
+    }
+
+    public CastResult tryChangeVote(String voterId, String candidateId) {
+        return service.tryChangeVote(voterId, candidateId);
+    }
+
+    public CastResult tryRetractVote(String voterId) {
+        return service.tryRetractVote(voterId);
+    }
+
+    public boolean hasVoted(String voterId) {
+        return service.hasVoted(voterId);
+    }
+
+    public Map<String, Integer> getResults() {
+        return tally.snapshot();
+    }
+
+    public Map<String, Integer> countVotes(CountingStrategy strategy) {
+        return service.countVotes(strategy);
+    }
+
+    public Candidate getWinner(CountingStrategy strategy) {
+        return service.getWinner(strategy);
+    }
+
+    public int getTotalVoteCount() {
+        return service.getTotalVoteCount();
+    }
+
+    public List<Vote> getAllVotes() {
+        return service.getAllVotes();
+    }
+
+    public VoteService getService() {
+        return service;
+    }
+
+    @Override
+    public String toString() {
+        return name + "(" + id + ")";
+    }
+}
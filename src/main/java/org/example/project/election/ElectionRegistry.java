@@ -0,0 +1,82 @@
+package org.example.project.election;
+
+import org.example.project.model.Voter;
+import org.example.project.repo.ConcurrentVoterRepository;
+import org.example.project.repo.VoterRepository;
+import org.example.project.service.CastResult;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Héberge plusieurs élections dans la même JVM autour d'une liste électorale partagée.
+ */
+public class ElectionRegistry {
+
+    private final VoterRepository voterRoll;
+    private final Map<String, Election> elections = new ConcurrentHashMap<>();
+
+    public ElectionRegistry() {
+        this(new ConcurrentVoterRepository());
+    }
+
+    public ElectionRegistry(VoterRepository voterRoll) {
+        if (voterRoll == null) {
+            throw new IllegalArgumentException("VoterRepository cannot be null");
+        }
+        this.voterRoll = voterRoll;
+    }
+
+    public Election createElection(String id, String name) {
+        return createElection(id, name, true);
+    }
+
+    public Election createElection(String id, String name, boolean openToAllVoters) {
+        Election election = new Election(id, name, voterRoll, openToAllVoters);
+        if (elections.putIfAbsent(id, election) != null) {
+            throw new IllegalStateException("Election already exists: " + id);
+        }
+        return election;
+    }
+
+    public Election getElection(String id) {
+        Election election = id == null ? null : elections.get(id);
+        if (election == null) {
+            throw new IllegalArgumentException("Election does not exist: " + id);
+        }
+        return election;
+    }
+
+    public boolean exists(String id) {
+        return id != null && elections.containsKey(id);
+    }
+
+    public Election removeElection(String id) {
+        return id == null ? null : elections.remove(id);
+    }
+
+    public List<Election> getElections() {
+        return new ArrayList<>(elections.values());
+    }
+
+    public void registerVoter(String id, String name) {
+        voterRoll.register(new Voter(id, name));
+    }
+
+    public VoterRepository getVoterRoll() {
+        return voterRoll;
+    }
+
+    public void castVote(String electionId, String voterId, String candidateId) {
+        getElection(electionId).castVote(voterId, candidateId);
+    }
+
+    // Élection inconnue : aucun scrutin ouvert sous cet identifiant
+    public CastResult tryCastVote(String electionId, String voterId, String candidateId) {
+        Election election = electionId == null ? null : elections.get(electionId);
+        if (election == null) {
+            return CastResult.CLOSED;
+        }
+        return election.tryCastVote(voterId, candidateId);
+    }
+}
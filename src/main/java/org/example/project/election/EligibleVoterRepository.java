@@ -0,0 +1,82 @@
+package org.example.project.election;
+
+import org.example.project.model.Voter;
+import org.example.project.repo.VoterRepository;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Vue d'une élection sur la liste électorale partagée : seuls les électeurs
+ * éligibles sont visibles. Les objets Voter ne sont jamais dupliqués.
+ */
+class EligibleVoterRepository implements VoterRepository {
+
+    private final VoterRepository voterRoll;
+    private final boolean openToAllVoters;
+    private final Set<String> eligibleIds = ConcurrentHashMap.newKeySet();
+    // Consulté en premier : une révocation vaut aussi pour une élection ouverte à tous
+    private final Set<String> revokedIds = ConcurrentHashMap.newKeySet();
+
+    EligibleVoterRepository(VoterRepository voterRoll, boolean openToAllVoters) {
+        this.voterRoll = voterRoll;
+        this.openToAllVoters = openToAllVoters;
+    }
+
+    void grant(String voterId) {
+        eligibleIds.add(voterId);
+        revokedIds.remove(voterId);
+    }
+
+    void revoke(String voterId) {
+        if (voterId == null) {
+            return;
+        }
+        revokedIds.add(voterId);
+        eligibleIds.remove(voterId);
+    }
+
+    boolean isEligible(String voterId) {
+        return voterId != null && !revokedIds.contains(voterId)
+                && (openToAllVoters || eligibleIds.contains(voterId));
+    }
+
+    @Override
+    public void register(Voter voter) {
+        voterRoll.register(voter);
+        grant(voter.getId());
+    }
+
+    @Override
+    public List<Voter> findAll() {
+        List<Voter> voters = new ArrayList<>();
+        for (Voter voter : voterRoll.findAll()) {
+            if (isEligible(voter.getId())) {
+                voters.add(voter);
+            }
+        }
+        return voters;
+    }
+
+    @Override
+    public Voter findById(String id) {
+        return isEligible(id) ? voterRoll.findById(id) : null;
+    }
+
+    @Override
+    public VoterSlot findSlot(String id) {
+        return isEligible(id) ? voterRoll.findSlot(id) : null;
+    }
+
+    @Override
+    public boolean isRegistered(String id) {
+        return isEligible(id) && voterRoll.isRegistered(id);
+    }
+
+    @Override
+    public void clear() {
+        // Ne vide jamais la liste partagée, seulement l'éligibilité locale
+        eligibleIds.clear();
+        revokedIds.clear();
+    }
+}
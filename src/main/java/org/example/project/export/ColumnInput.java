@@ -0,0 +1,48 @@
+package org.example.project.export;
+
+import java.io.EOFException;
+import java.nio.charset.StandardCharsets;
+
+// Lecture séquentielle d'une colonne décompressée
+class ColumnInput {
+
+    private final byte[] bytes;
+    private final int limit;
+    private int position;
+
+    ColumnInput(byte[] bytes, int limit) {
+        this.bytes = bytes;
+        this.limit = limit;
+    }
+
+    long readVarLong() throws EOFException {
+        long value = 0;
+        int shift = 0;
+        while (true) {
+            if (position >= limit) {
+                throw new EOFException("Truncated column");
+            }
+            byte b = bytes[position++];
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+            shift += 7;
+        }
+    }
+
+    long readZigZag() throws EOFException {
+        long raw = readVarLong();
+        return (raw >>> 1) ^ -(raw & 1);
+    }
+
+    String readString() throws EOFException {
+        int length = (int) readVarLong();
+        if (position + length > limit) {
+            throw new EOFException("Truncated column");
+        }
+        String value = new String(bytes, position, length, StandardCharsets.UTF_8);
+        position += length;
+        return value;
+    }
+}
@@ -0,0 +1,154 @@
+package org.example.project.export;
+
+import org.example.project.model.Vote;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * Relit un fichier produit par {@link ColumnarVoteWriter}, bloc par bloc.
+ */
+public class ColumnarVoteReader implements Closeable {
+
+    private final FileChannel channel;
+    private final Inflater inflater = new Inflater();
+    private final List<String> candidateIds = new ArrayList<>();
+    private final List<String> candidateNames = new ArrayList<>();
+    private final Map<String, Integer> results = new LinkedHashMap<>();
+    private final ByteBuffer header = ByteBuffer.allocate(Integer.BYTES * 2);
+    private byte[] compressed = new byte[64 * 1024];
+    private final boolean hasSequences;
+
+    public ColumnarVoteReader(Path path) throws IOException {
+        if (path == null) {
+            throw new IllegalArgumentException("Path cannot be null");
+        }
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        ByteBuffer magic = ByteBuffer.allocate(Long.BYTES);
+        readFully(magic);
+        long version = magic.flip().getLong();
+        if (version != ColumnarVoteWriter.MAGIC && version != ColumnarVoteWriter.MAGIC_V1) {
+            channel.close();
+            throw new IOException("Not a columnar vote file: " + path);
+        }
+        this.hasSequences = version == ColumnarVoteWriter.MAGIC;
+    }
+
+    public long forEach(Consumer<? super Vote> action) throws IOException {
+        if (action == null) {
+            throw new IllegalArgumentException("Action cannot be null");
+        }
+        long count = 0;
+        long previousTimestamp = 0;
+        long previousSequence = 0;
+        while (true) {
+            ByteBuffer marker = ByteBuffer.allocate(Integer.BYTES);
+            readFully(marker);
+            int votes = marker.flip().getInt();
+            if (votes == ColumnarVoteWriter.END_MARKER) {
+                return count;
+            }
+            int entries = readInt();
+            if (votes == ColumnarVoteWriter.RESULTS_MARKER) {
+                ColumnInput column = readColumn();
+                for (int i = 0; i < entries; i++) {
+                    results.put(column.readString(), (int) column.readVarLong());
+                }
+                continue;
+            }
+
+            ColumnInput dictionary = readColumn();
+            for (int i = 0; i < entries; i++) {
+                candidateIds.add(dictionary.readString());
+                candidateNames.add(dictionary.readString());
+            }
+            ColumnInput ordinals = readColumn();
+            ColumnInput timestamps = readColumn();
+            ColumnInput sequences = hasSequences ? readColumn() : null;
+            ColumnInput voterIds = readColumn();
+            ColumnInput voterNames = readColumn();
+            for (int i = 0; i < votes; i++) {
+                int ordinal = (int) ordinals.readVarLong();
+                previousTimestamp += timestamps.readZigZag();
+                if (sequences != null) {
+                    previousSequence += sequences.readZigZag();
+                }
+                action.accept(new Vote(voterIds.readString(), voterNames.readString(),
+                        candidateIds.get(ordinal), candidateNames.get(ordinal), previousTimestamp, previousSequence));
+                count++;
+            }
+        }
+    }
+
+    public List<Vote> readAll() throws IOException {
+        List<Vote> votes = new ArrayList<>();
+        forEach(votes::add);
+        return votes;
+    }
+
+    // Disponible après la lecture complète
+    public Map<String, Integer> getResults() {
+        return new LinkedHashMap<>(results);
+    }
+
+    private int readInt() throws IOException {
+        ByteBuffer value = ByteBuffer.allocate(Integer.BYTES);
+        readFully(value);
+        return value.flip().getInt();
+    }
+
+    private ColumnInput readColumn() throws IOException {
+        header.clear();
+        readFully(header);
+        header.flip();
+        int compressedLength = header.getInt();
+        int rawLength = header.getInt();
+        if (compressed.length < compressedLength) {
+            compressed = new byte[compressedLength];
+        }
+        readFully(ByteBuffer.wrap(compressed, 0, compressedLength));
+
+        byte[] raw = new byte[rawLength];
+        inflater.reset();
+        inflater.setInput(compressed, 0, compressedLength);
+        try {
+            int inflated = 0;
+            while (inflated < rawLength && !inflater.finished()) {
+                int n = inflater.inflate(raw, inflated, rawLength - inflated);
+                if (n == 0 && inflater.needsInput()) {
+                    break;
+                }
+                inflated += n;
+            }
+            if (inflated != rawLength) {
+                throw new IOException("Corrupted column: expected " + rawLength + " bytes, got " + inflated);
+            }
+        } catch (DataFormatException e) {
+            throw new IOException("Corrupted column", e);
+        }
+        return new ColumnInput(raw, rawLength);
+    }
+
+    private void readFully(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                throw new EOFException("Unexpected end of columnar vote file");
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        inflater.end();
+        channel.close();
+    }
+}
@@ -0,0 +1,174 @@
+package org.example.project.export;
+
+import org.example.project.model.Vote;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.zip.Deflater;
+
+/**
+ * Écrit les votes dans un fichier binaire en colonnes, par blocs de taille bornée.
+ * Chaque bloc : dictionnaire des nouveaux candidats, ordinaux de candidats (varint),
+ * horodatages et séquences (delta zigzag), identifiants et noms d'électeurs ; chaque colonne
+ * est compressée séparément (Deflate).
+ */
+public class ColumnarVoteWriter implements Closeable {
+
+    static final long MAGIC = 0x564F5445434F4C32L;  // "VOTECOL2"
+    // Format précédent, sans colonne de séquences : toujours lisible
+    static final long MAGIC_V1 = 0x564F5445434F4C31L;  // "VOTECOL1"
+    static final int RESULTS_MARKER = -1;
+    static final int END_MARKER = 0;
+    public static final int DEFAULT_BLOCK_SIZE = 64 * 1024;
+
+    private final FileChannel channel;
+    private final int blockSize;
+    private final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+    private byte[] compressed = new byte[64 * 1024];
+
+    private final Map<String, Integer> dictionary = new HashMap<>();
+    private final ColumnBuffer newCandidates = new ColumnBuffer(256);
+    private final ColumnBuffer ordinals;
+    private final ColumnBuffer timestamps;
+    private final ColumnBuffer sequences;
+    private final ColumnBuffer voterIds;
+    private final ColumnBuffer voterNames;
+    private int newCandidateCount;
+    private int blockCount;
+    private long previousTimestamp;
+    private long previousSequence;
+    private long written;
+    private boolean closed;
+
+    public ColumnarVoteWriter(Path path) throws IOException {
+        this(path, DEFAULT_BLOCK_SIZE);
+    }
+
+    public ColumnarVoteWriter(Path path, int blockSize) throws IOException {
+        if (path == null) {
+            throw new IllegalArgumentException("Path cannot be null");
+        }
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("Block size must be positive");
+        }
+        this.blockSize = blockSize;
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        this.ordinals = new ColumnBuffer(blockSize * 2);
+        this.timestamps = new ColumnBuffer(blockSize * 2);
+        this.sequences = new ColumnBuffer(blockSize * 2);
+        this.voterIds = new ColumnBuffer(blockSize * 8);
+        this.voterNames = new ColumnBuffer(blockSize * 12);
+
+        ByteBuffer header = ByteBuffer.allocate(Long.BYTES).putLong(MAGIC).flip();
+        writeFully(header);
+    }
+
+    public void write(Vote vote) throws IOException {
+        if (vote == null) {
+            throw new IllegalArgumentException("Vote cannot be null");
+        }
+        Integer ordinal = dictionary.get(vote.getCandidateId());
+        if (ordinal == null) {
+            ordinal = dictionary.size();
+            dictionary.put(vote.getCandidateId(), ordinal);
+            newCandidates.writeString(vote.getCandidateId());
+            newCandidates.writeString(vote.getCandidateName());
+            newCandidateCount++;
+        }
+        ordinals.writeVarLong(ordinal);
+        timestamps.writeZigZag(vote.getTimestamp() - previousTimestamp);
+        previousTimestamp = vote.getTimestamp();
+        sequences.writeZigZag(vote.getSequence() - previousSequence);
+        previousSequence = vote.getSequence();
+        voterIds.writeString(vote.getVoterId());
+        voterNames.writeString(vote.getVoterName());
+
+        written++;
+        if (++blockCount == blockSize) {
+            flushBlock();
+        }
+    }
+
+    public void writeResults(Map<String, Integer> results) throws IOException {
+        if (results == null) {
+            throw new IllegalArgumentException("Results cannot be null");
+        }
+        flushBlock();
+        ColumnBuffer column = new ColumnBuffer(results.size() * 16);
+        for (Map.Entry<String, Integer> entry : results.entrySet()) {
+            column.writeString(entry.getKey());
+            column.writeVarLong(entry.getValue());
+        }
+        writeFully(ByteBuffer.allocate(Integer.BYTES * 2).putInt(RESULTS_MARKER).putInt(results.size()).flip());
+        writeColumn(column);
+    }
+
+    public long getWrittenCount() {
+        return written;
+    }
+
+    private void flushBlock() throws IOException {
+        if (blockCount == 0) {
+            return;
+        }
+        writeFully(ByteBuffer.allocate(Integer.BYTES * 2).putInt(blockCount).putInt(newCandidateCount).flip());
+        writeColumn(newCandidates);
+        writeColumn(ordinals);
+        writeColumn(timestamps);
+        writeColumn(sequences);
+        writeColumn(voterIds);
+        writeColumn(voterNames);
+
+        newCandidates.reset();
+        ordinals.reset();
+        timestamps.reset();
+        sequences.reset();
+        voterIds.reset();
+        voterNames.reset();
+        newCandidateCount = 0;
+        blockCount = 0;
+    }
+
+    private void writeColumn(ColumnBuffer column) throws IOException {
+        deflater.reset();
+        deflater.setInput(column.array(), 0, column.size());
+        deflater.finish();
+        int length = 0;
+        while (!deflater.finished()) {
+            if (length == compressed.length) {
+                compressed = Arrays.copyOf(compressed, compressed.length * 2);
+            }
+            length += deflater.deflate(compressed, length, compressed.length - length);
+        }
+        writeFully(ByteBuffer.allocate(Integer.BYTES * 2).putInt(length).putInt(column.size()).flip());
+        writeFully(ByteBuffer.wrap(compressed, 0, length));
+    }
+
+    private void writeFully(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            flushBlock();
+            writeFully(ByteBuffer.allocate(Integer.BYTES).putInt(END_MARKER).flip());
+            channel.force(false);
+        } finally {
+            deflater.end();
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package org.example.project.export;
+
+import org.example.project.service.VoteService;
+import org.example.project.strategy.CountingStrategy;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+
+public final class VoteExporter {
+
+    private VoteExporter() {
+    }
+
+    // Parcourt le stockage sans copie complète et ajoute les résultats en fin de fichier
+    public static long export(VoteService service, CountingStrategy strategy, Path path) throws IOException {
+        if (service == null) {
+            throw new IllegalArgumentException("VoteService cannot be null");
+        }
+        try (ColumnarVoteWriter writer = new ColumnarVoteWriter(path)) {
+            try {
+                service.forEachVote(vote -> {
+                    try {
+                        writer.write(vote);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            if (strategy != null) {
+                writer.writeResults(service.countVotes(strategy));
+            }
+            return writer.getWrittenCount();
+        }
+    }
+}
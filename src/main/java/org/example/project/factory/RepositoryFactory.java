@@ -2,6 +2,11 @@ package org.example.project.factory;
 
 
 import org.example.project.repo.*;
+import org.example.project.tier.TieredVoteRepository;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
 
 public class RepositoryFactory {
 
@@ -12,11 +17,22 @@ public class RepositoryFactory {
 
         return switch (type.toLowerCase()) {
             case "memory" -> new InMemoryVoteRepository();
+            case "columnar" -> new ColumnarVoteRepository();
+            case "tiered" -> createTieredVoteRepository();
             default -> throw new IllegalArgumentException("Unknown vote repository type: " + type);
         };
     }
 
 
+    private static VoteRepository createTieredVoteRepository() {
+        try {
+            return new TieredVoteRepository(Files.createTempDirectory("votes-tiered"));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create spill directory", e);
+        }
+    }
+
+
     public static CandidateRepository createCandidateRepository(String type) {
         if (type == null || type.isBlank()) {
             throw new IllegalArgumentException("Repository type cannot be null or blank");
@@ -24,6 +40,8 @@ public class RepositoryFactory {
 
         return switch (type.toLowerCase()) {
             case "memory" -> new InMemoryCandidateRepository();
+            case "concurrent" -> new ConcurrentCandidateRepository();
+            case "snapshot" -> new SnapshotCandidateRepository();
             default -> throw new IllegalArgumentException("Unknown candidate repository type: " + type);
         };
     }
@@ -36,6 +54,7 @@ public class RepositoryFactory {
 
         return switch (type.toLowerCase()) {
             case "memory" -> new InMemoryVoterRepository();
+            case "concurrent" -> new ConcurrentVoterRepository();
             default -> throw new IllegalArgumentException("Unknown voter repository type: " + type);
         };
     }
@@ -0,0 +1,27 @@
+package org.example.project.importer;
+
+import java.util.List;
+
+public record ImportReport(long linesRead, long accepted, List<RejectedRow> rejected, long elapsedNanos) {
+
+    public ImportReport {
+        rejected = List.copyOf(rejected);
+    }
+
+    public long rejectedCount() {
+        return rejected.size();
+    }
+
+    public double votersPerSecond() {
+        if (elapsedNanos <= 0) {
+            return 0;
+        }
+        return accepted * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Import: %d lines, %d accepted, %d rejected in %d ms (%.0f voters/s)",
+                linesRead, accepted, rejected.size(), elapsedNanos / 1_000_000, votersPerSecond());
+    }
+}
@@ -0,0 +1,9 @@
+package org.example.project.importer;
+
+public record RejectedRow(long lineNumber, String line, String reason) {
+
+    @Override
+    public String toString() {
+        return "line " + lineNumber + ": " + reason + " [" + line + "]";
+    }
+}
@@ -0,0 +1,315 @@
+package org.example.project.importer;
+
+import org.example.project.model.District;
+import org.example.project.model.Voter;
+import org.example.project.repo.VoterRepository;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.stream.IntStream;
+
+/**
+ * Import en masse d'une liste électorale CSV/TSV (colonnes : id, nom, et
+ * optionnellement région, circonscription, bureau). Le séparateur est déduit
+ * une fois de la première ligne ; les champs entre guillemets suivent la
+ * RFC 4180, sauf les sauts de ligne, interdits dans un champ.
+ * Le fichier est découpé en blocs alignés sur les fins de ligne, chaque bloc
+ * est mappé en mémoire et analysé en parallèle, puis le lot est inséré via
+ * {@link VoterRepository#registerAll}.
+ */
+public class VoterRollImporter {
+
+    public static final int DEFAULT_CHUNK_SIZE = 4 * 1024 * 1024;
+    static final int MAX_ID_LENGTH = 64;
+    static final int MAX_NAME_LENGTH = 256;
+
+    private final VoterRepository voterRepository;
+    private final int chunkSize;
+    private final boolean hasHeader;
+
+    public VoterRollImporter(VoterRepository voterRepository) {
+        this(voterRepository, DEFAULT_CHUNK_SIZE, false);
+    }
+
+    public VoterRollImporter(VoterRepository voterRepository, int chunkSize, boolean hasHeader) {
+        if (voterRepository == null) {
+            throw new IllegalArgumentException("VoterRepository cannot be null");
+        }
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive");
+        }
+        this.voterRepository = voterRepository;
+        this.chunkSize = chunkSize;
+        this.hasHeader = hasHeader;
+    }
+
+    public ImportReport importFile(Path path) throws IOException {
+        if (path == null) {
+            throw new IllegalArgumentException("Path cannot be null");
+        }
+        long start = System.nanoTime();
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long[] bounds = chunkBoundaries(channel);
+            char delimiter = detectDelimiter(channel);
+
+            List<ChunkResult> chunks = IntStream.range(0, bounds.length - 1)
+                    .parallel()
+                    .mapToObj(i -> parseChunk(channel, bounds[i], bounds[i + 1], i == 0 && hasHeader, delimiter))
+                    .toList();
+
+            // Fusion séquentielle : numéros de ligne globaux et doublons dans le fichier
+            List<Voter> accepted = new ArrayList<>();
+            List<RejectedRow> rejected = new ArrayList<>();
+            Set<String> seenIds = new HashSet<>();
+            long lineOffset = 0;
+            for (ChunkResult chunk : chunks) {
+                for (RejectedRow row : chunk.rejected) {
+                    rejected.add(new RejectedRow(lineOffset + row.lineNumber(), row.line(), row.reason()));
+                }
+                for (int i = 0; i < chunk.voters.size(); i++) {
+                    Voter voter = chunk.voters.get(i);
+                    if (seenIds.add(voter.getId())) {
+                        accepted.add(voter);
+                    } else {
+                        rejected.add(new RejectedRow(lineOffset + chunk.voterLines[i],
+                                voter.getId() + "," + voter.getName(), "Duplicate voter ID"));
+                    }
+                }
+                lineOffset += chunk.lineCount;
+            }
+            rejected.sort(Comparator.comparingLong(RejectedRow::lineNumber));
+
+            voterRepository.registerAll(accepted);
+            return new ImportReport(lineOffset, accepted.size(), rejected, System.nanoTime() - start);
+        }
+    }
+
+    private long[] chunkBoundaries(FileChannel channel) throws IOException {
+        long size = channel.size();
+        List<Long> bounds = new ArrayList<>();
+        bounds.add(0L);
+        ByteBuffer probe = ByteBuffer.allocate(256);
+        long position = 0;
+        while (position < size) {
+            long next = Math.min(size, position + chunkSize);
+            // Avancer jusqu'à la fin de la ligne courante
+            while (next < size) {
+                probe.clear();
+                int read = channel.read(probe, next);
+                if (read <= 0) {
+                    next = size;
+                    break;
+                }
+                int newline = -1;
+                for (int i = 0; i < read; i++) {
+                    if (probe.get(i) == '\n') {
+                        newline = i;
+                        break;
+                    }
+                }
+                if (newline >= 0) {
+                    next += newline + 1;
+                    break;
+                }
+                next += read;
+            }
+            bounds.add(next);
+            position = next;
+        }
+        return bounds.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    // Tabulation si la première ligne (en-tête ou données) en contient une, virgule sinon
+    private static char detectDelimiter(FileChannel channel) throws IOException {
+        ByteBuffer probe = ByteBuffer.allocate(4096);
+        long position = 0;
+        while (true) {
+            probe.clear();
+            int read = channel.read(probe, position);
+            if (read <= 0) {
+                return ',';
+            }
+            for (int i = 0; i < read; i++) {
+                byte b = probe.get(i);
+                if (b == '\t') {
+                    return '\t';
+                }
+                if (b == '\n') {
+                    return ',';
+                }
+            }
+            position += read;
+        }
+    }
+
+    private ChunkResult parseChunk(FileChannel channel, long from, long to, boolean skipFirstLine, char delimiter) {
+        MappedByteBuffer buffer;
+        try {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, from, to - from);
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot map voter roll chunk at " + from, e);
+        }
+
+        ChunkResult result = new ChunkResult();
+        byte[] line = new byte[512];
+        int length = 0;
+        int limit = buffer.limit();
+        for (int i = 0; i <= limit; i++) {
+            byte b = i < limit ? buffer.get(i) : (byte) '\n';
+            if (b != '\n') {
+                if (length == line.length) {
+                    line = Arrays.copyOf(line, length * 2);
+                }
+                line[length++] = b;
+                continue;
+            }
+            if (i == limit && length == 0) {
+                break;  // pas de ligne finale sans saut de ligne
+            }
+            result.lineCount++;
+            if (length > 0 && line[length - 1] == '\r') {
+                length--;
+            }
+            if (!(skipFirstLine && result.lineCount == 1) && length > 0) {
+                parseLine(new String(line, 0, length, StandardCharsets.UTF_8), delimiter, result);
+            }
+            length = 0;
+        }
+        return result;
+    }
+
+    private static void parseLine(String line, char delimiter, ChunkResult result) {
+        if (line.isBlank()) {
+            return;
+        }
+        List<String> fields = splitFields(line, delimiter);
+        if (fields == null) {
+            result.reject(line, "Malformed quoted field");
+            return;
+        }
+        String[] columns = fields.toArray(new String[0]);
+        if (columns.length != 2 && columns.length != 5) {
+            result.reject(line, "Expected 2 or 5 columns");
+            return;
+        }
+
+        String id = columns[0].trim();
+        String name = columns[1].trim();
+        String reason = validate(id, name);
+        if (reason != null) {
+            result.reject(line, reason);
+            return;
+        }
+        if (columns.length == 2) {
+            result.accept(new Voter(id, name));
+            return;
+        }
+        String region = columns[2].trim();
+        String district = columns[3].trim();
+        String precinct = columns[4].trim();
+        if (region.isEmpty() || district.isEmpty() || precinct.isEmpty()) {
+            result.reject(line, "District columns cannot be blank");
+            return;
+        }
+        result.accept(new Voter(id, name, new District(region, district, precinct)));
+    }
+
+    // Découpage RFC 4180 : "" vaut un guillemet dans un champ cité ; null si la ligne est mal formée
+    static List<String> splitFields(String line, char delimiter) {
+        List<String> fields = new ArrayList<>(5);
+        StringBuilder field = new StringBuilder();
+        int i = 0;
+        int length = line.length();
+        while (true) {
+            int start = i;
+            while (i < length && line.charAt(i) == ' ') {
+                i++;
+            }
+            if (i < length && line.charAt(i) == '"') {
+                i++;
+                while (true) {
+                    if (i == length) {
+                        return null;  // guillemet jamais refermé
+                    }
+                    char c = line.charAt(i++);
+                    if (c != '"') {
+                        field.append(c);
+                    } else if (i < length && line.charAt(i) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        break;
+                    }
+                }
+                while (i < length && line.charAt(i) == ' ') {
+                    i++;
+                }
+                if (i < length && line.charAt(i) != delimiter) {
+                    return null;  // texte après le guillemet fermant
+                }
+            } else {
+                i = start;
+                while (i < length && line.charAt(i) != delimiter) {
+                    char c = line.charAt(i++);
+                    if (c == '"') {
+                        return null;  // guillemet au milieu d'un champ non cité
+                    }
+                    field.append(c);
+                }
+            }
+            fields.add(field.toString());
+            field.setLength(0);
+            if (i == length) {
+                return fields;
+            }
+            i++;  // séparateur
+        }
+    }
+
+    static String validate(String id, String name) {
+        if (id.isEmpty()) {
+            return "Voter ID cannot be blank";
+        }
+        if (id.length() > MAX_ID_LENGTH) {
+            return "Voter ID too long";
+        }
+        for (int i = 0; i < id.length(); i++) {
+            if (Character.isWhitespace(id.charAt(i))) {
+                return "Voter ID cannot contain whitespace";
+            }
+        }
+        if (name.isEmpty()) {
+            return "Voter name cannot be blank";
+        }
+        if (name.length() > MAX_NAME_LENGTH) {
+            return "Voter name too long";
+        }
+        return null;
+    }
+
+    private static final class ChunkResult {
+        private final List<Voter> voters = new ArrayList<>();
+        private final List<RejectedRow> rejected = new ArrayList<>();
+        private long[] voterLines = new long[64];
+        private long lineCount;
+
+        void accept(Voter voter) {
+            if (voters.size() == voterLines.length) {
+                voterLines = Arrays.copyOf(voterLines, voterLines.length * 2);
+            }
+            voterLines[voters.size()] = lineCount;
+            voters.add(voter);
+        }
+
+        void reject(String line, String reason) {
+            rejected.add(new RejectedRow(lineCount, line, reason));
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package org.example.project.index;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Ensemble de bits concurrent découpé en pages de 65 536 bits allouées à la
+ * demande (comme les conteneurs d'un bitmap roaring) : une zone vide ne coûte
+ * qu'une référence nulle. Toutes les opérations sont sans verrou sauf
+ * l'allocation d'une page et la croissance du répertoire.
+ */
+public class AtomicBitSet {
+
+    private static final int PAGE_BITS = 16;
+    private static final int WORDS_PER_PAGE = (1 << PAGE_BITS) / Long.SIZE;
+
+    private volatile AtomicReferenceArray<AtomicLongArray> pages = new AtomicReferenceArray<>(16);
+
+    public boolean get(int index) {
+        AtomicLongArray page = pageOrNull(index);
+        return page != null && (page.get(wordIndex(index)) & mask(index)) != 0;
+    }
+
+    // Retourne true si le bit était à 0 et vient d'être positionné (un seul gagnant)
+    public boolean testAndSet(int index) {
+        AtomicLongArray page = page(index);
+        int word = wordIndex(index);
+        long mask = mask(index);
+        long current;
+        do {
+            current = page.get(word);
+            if ((current & mask) != 0) {
+                return false;
+            }
+        } while (!page.compareAndSet(word, current, current | mask));
+        return true;
+    }
+
+    public void set(int index) {
+        testAndSet(index);
+    }
+
+    // Retourne true si le bit était à 1
+    public boolean clear(int index) {
+        AtomicLongArray page = pageOrNull(index);
+        if (page == null) {
+            return false;
+        }
+        int word = wordIndex(index);
+        long mask = mask(index);
+        long current;
+        do {
+            current = page.get(word);
+            if ((current & mask) == 0) {
+                return false;
+            }
+        } while (!page.compareAndSet(word, current, current & ~mask));
+        return true;
+    }
+
+    public long cardinality() {
+        AtomicReferenceArray<AtomicLongArray> snapshot = pages;
+        long count = 0;
+        for (int p = 0; p < snapshot.length(); p++) {
+            AtomicLongArray page = snapshot.get(p);
+            if (page != null) {
+                for (int w = 0; w < WORDS_PER_PAGE; w++) {
+                    count += Long.bitCount(page.get(w));
+                }
+            }
+        }
+        return count;
+    }
+
+    public long allocatedBytes() {
+        AtomicReferenceArray<AtomicLongArray> snapshot = pages;
+        long bytes = (long) snapshot.length() * Integer.BYTES;
+        for (int p = 0; p < snapshot.length(); p++) {
+            if (snapshot.get(p) != null) {
+                bytes += (long) WORDS_PER_PAGE * Long.BYTES;
+            }
+        }
+        return bytes;
+    }
+
+    public synchronized void clearAll() {
+        pages = new AtomicReferenceArray<>(16);
+    }
+
+    private AtomicLongArray pageOrNull(int index) {
+        checkIndex(index);
+        AtomicReferenceArray<AtomicLongArray> snapshot = pages;
+        int p = index >>> PAGE_BITS;
+        return p < snapshot.length() ? snapshot.get(p) : null;
+    }
+
+    private AtomicLongArray page(int index) {
+        checkIndex(index);
+        int p = index >>> PAGE_BITS;
+        AtomicReferenceArray<AtomicLongArray> snapshot = pages;
+        if (p < snapshot.length()) {
+            AtomicLongArray page = snapshot.get(p);
+            if (page != null) {
+                return page;
+            }
+        }
+        return allocate(p);
+    }
+
+    // Même moniteur que la croissance : une page ne peut pas être posée dans un
+    // répertoire déjà recopié, elle figure toujours dans le répertoire publié
+    private synchronized AtomicLongArray allocate(int pageIndex) {
+        AtomicReferenceArray<AtomicLongArray> current = pages;
+        if (pageIndex >= current.length()) {
+            int length = current.length();
+            while (length <= pageIndex) {
+                length *= 2;
+            }
+            AtomicReferenceArray<AtomicLongArray> grown = new AtomicReferenceArray<>(length);
+            for (int p = 0; p < current.length(); p++) {
+                grown.set(p, current.get(p));
+            }
+            pages = grown;
+            current = grown;
+        }
+        AtomicLongArray page = current.get(pageIndex);
+        if (page == null) {
+            page = new AtomicLongArray(WORDS_PER_PAGE);
+            current.set(pageIndex, page);
+        }
+        return page;
+    }
+
+    private static int wordIndex(int index) {
+        return (index & ((1 << PAGE_BITS) - 1)) >>> 6;
+    }
+
+    private static long mask(int index) {
+        return 1L << (index & 63);
+    }
+
+    private static void checkIndex(int index) {
+        if (index < 0) {
+            throw new IndexOutOfBoundsException("Negative bit index: " + index);
+        }
+    }
+}
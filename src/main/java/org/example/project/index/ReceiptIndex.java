@@ -0,0 +1,239 @@
+package org.example.project.index;
+
+import org.example.project.model.Vote;
+import org.example.project.observer.VoteListener;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+/**
+ * Index de vérification des reçus : un reçu mène en O(1) à la séquence du
+ * vote dans le repository. L'index ne garde pas de copie des votes : il ne
+ * retient que séquence et électeur, et relit le vote courant à la demande.
+ */
+public class ReceiptIndex implements VoteListener {
+
+    private static final int CHUNK_BITS = 12;
+    private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+    private static final int MISSING = -1;
+    private static final String MAC_ALGORITHM = "HmacSHA256";
+    public static final int KEY_BYTES = 32;
+
+    // HMAC par thread : un reçu ne dit rien des reçus voisins sans la clé
+    private final ThreadLocal<Mac> macs;
+    // Vote courant d'un électeur, tel que le repository le connaît
+    private final Function<String, ? extends Vote> currentVotes;
+    private final LongIntMap byReceipt = new LongIntMap();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private long[][] sequences = new long[0][];
+    private String[][] voterIds = new String[0][];
+    private int size;
+
+    // Clé tirée pour ce processus : suffit tant que les votes ne survivent pas au redémarrage
+    public ReceiptIndex(Function<String, ? extends Vote> currentVotes) {
+        this(currentVotes, randomKey());
+    }
+
+    // Clé fournie : à persister avec le repository quand celui-ci est durable
+    public ReceiptIndex(Function<String, ? extends Vote> currentVotes, byte[] key) {
+        if (currentVotes == null) {
+            throw new IllegalArgumentException("Vote lookup cannot be null");
+        }
+        if (key == null || key.length < KEY_BYTES) {
+            throw new IllegalArgumentException("Receipt key must have at least " + KEY_BYTES + " bytes");
+        }
+        SecretKeySpec spec = new SecretKeySpec(key.clone(), MAC_ALGORITHM);
+        this.currentVotes = currentVotes;
+        this.macs = ThreadLocal.withInitial(() -> {
+            try {
+                Mac mac = Mac.getInstance(MAC_ALGORITHM);
+                mac.init(spec);
+                return mac;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException(MAC_ALGORITHM + " is not available", e);
+            }
+        });
+    }
+
+    private static byte[] randomKey() {
+        byte[] key = new byte[KEY_BYTES];
+        new SecureRandom().nextBytes(key);
+        return key;
+    }
+
+    // Lit la clé du fichier, ou la tire au hasard et l'y enregistre au premier lancement
+    public static byte[] loadOrCreateKey(Path path) {
+        if (path == null) {
+            throw new IllegalArgumentException("Key path cannot be null");
+        }
+        try {
+            if (Files.notExists(path)) {
+                try {
+                    Files.write(path, randomKey(), StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+                } catch (FileAlreadyExistsException e) {
+                    // Créée entre-temps par un autre processus : c'est elle qui fait foi
+                }
+            }
+            byte[] key = Files.readAllBytes(path);
+            if (key.length != KEY_BYTES) {
+                throw new IllegalStateException("Corrupt receipt key file: " + path);
+            }
+            return key;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Reçu remis à l'électeur : HMAC-SHA256 de la séquence persistée, tronqué à 64 bits
+    public long receiptOf(Vote vote) {
+        if (vote == null) {
+            throw new IllegalArgumentException("Vote cannot be null");
+        }
+        if (vote.getSequence() <= 0) {
+            throw new IllegalArgumentException("Vote has not been stored yet");
+        }
+        Mac mac = macs.get();
+        byte[] digest = mac.doFinal(ByteBuffer.allocate(Long.BYTES).putLong(vote.getSequence()).array());
+        return ByteBuffer.wrap(digest).getLong();
+    }
+
+    public static String formatReceipt(long receipt) {
+        return HexFormat.of().toHexDigits(receipt);
+    }
+
+    public static long parseReceipt(String receipt) {
+        if (receipt == null || receipt.length() != 16 || !receipt.chars().allMatch(HexFormat::isHexDigit)) {
+            throw new IllegalArgumentException("Invalid receipt: " + receipt);
+        }
+        return HexFormat.fromHexDigitsToLong(receipt);
+    }
+
+    @Override
+    public void onVote(Vote vote) {
+        long receipt = receiptOf(vote);
+        lock.writeLock().lock();
+        try {
+            if (!byReceipt.containsKey(receipt)) {
+                byReceipt.put(receipt, append(vote.getSequence(), vote.getVoterId()), MISSING);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // L'ancien reçu reste connu, mais ne désigne plus le vote courant
+    @Override
+    public void onVoteChanged(Vote previous, Vote current) {
+        onVote(current);
+    }
+
+    // Rien à faire : le repository ne renvoie plus de vote courant pour l'électeur
+    @Override
+    public void onVoteRetracted(Vote vote) {
+    }
+
+    @Override
+    public void onReset() {
+        clear();
+    }
+
+    private int append(long sequence, String voterId) {
+        int chunk = size >>> CHUNK_BITS;
+        if (chunk == sequences.length) {
+            int capacity = Math.max(4, sequences.length * 2);
+            sequences = Arrays.copyOf(sequences, capacity);
+            voterIds = Arrays.copyOf(voterIds, capacity);
+        }
+        if (sequences[chunk] == null) {
+            sequences[chunk] = new long[CHUNK_SIZE];
+            voterIds[chunk] = new String[CHUNK_SIZE];
+        }
+        sequences[chunk][size & (CHUNK_SIZE - 1)] = sequence;
+        voterIds[chunk][size & (CHUNK_SIZE - 1)] = voterId;
+        return size++;
+    }
+
+    // Le reçu a-t-il été délivré, qu'il soit encore courant ou non ?
+    public boolean contains(long receipt) {
+        lock.readLock().lock();
+        try {
+            return byReceipt.containsKey(receipt);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Vote encore compté pour le reçu, null s'il est inconnu, remplacé ou retiré
+    public Vote findByReceipt(long receipt) {
+        String voterId;
+        long sequence;
+        lock.readLock().lock();
+        try {
+            int position = byReceipt.get(receipt, MISSING);
+            if (position == MISSING) {
+                return null;
+            }
+            voterId = voterIds[position >>> CHUNK_BITS][position & (CHUNK_SIZE - 1)];
+            sequence = sequences[position >>> CHUNK_BITS][position & (CHUNK_SIZE - 1)];
+        } finally {
+            lock.readLock().unlock();
+        }
+        // Lecture du repository hors verrou : l'index ne bloque jamais l'ingestion
+        Vote vote = currentVotes.apply(voterId);
+        return vote != null && vote.getSequence() == sequence ? vote : null;
+    }
+
+    // Vote actuellement compté pour l'électeur, null s'il n'a pas voté ou s'est retiré
+    public Vote findByVoter(String voterId) {
+        return voterId == null ? null : currentVotes.apply(voterId);
+    }
+
+    // Reçu du vote courant, s'il a déjà été indexé
+    public OptionalLong receiptFor(String voterId) {
+        Vote vote = findByVoter(voterId);
+        if (vote == null || vote.getSequence() <= 0) {
+            return OptionalLong.empty();
+        }
+        long receipt = receiptOf(vote);
+        return contains(receipt) ? OptionalLong.of(receipt) : OptionalLong.empty();
+    }
+
+    // Le reçu désigne-t-il le vote encore compté pour son électeur ?
+    public boolean isCurrent(long receipt) {
+        return findByReceipt(receipt) != null;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            byReceipt.clear();
+            sequences = new long[0][];
+            voterIds = new String[0][];
+            size = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package org.example.project.index;
+
+import org.example.project.repo.VoterRepository;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Index d'état des électeurs : deux bitmaps indexés par l'ordinal dense que
+ * le repository d'électeurs attribue à l'inscription. Aucune entrée par
+ * électeur n'est ajoutée ; marquer "a voté" est un seul CAS, ce qui rend la
+ * détection de doublon atomique.
+ */
+public class VoterStatusIndex {
+
+    // "a voté" déjà initialisé depuis le repository de votes pour cet ordinal
+    private final AtomicBitSet seen = new AtomicBitSet();
+    private final AtomicBitSet voted = new AtomicBitSet();
+    // Repli pour les repositories qui n'attribuent pas d'ordinal
+    private final ConcurrentHashMap<String, Integer> fallbackOrdinals = new ConcurrentHashMap<>();
+    private final AtomicInteger nextFallbackOrdinal = new AtomicInteger();
+
+    public int ordinalOf(VoterRepository.VoterSlot slot) {
+        if (slot == null) {
+            throw new IllegalArgumentException("Voter slot cannot be null");
+        }
+        if (slot.ordinal() >= 0) {
+            return slot.ordinal();
+        }
+        return fallbackOrdinals.computeIfAbsent(slot.voter().getId(), id -> nextFallbackOrdinal.getAndIncrement());
+    }
+
+    public boolean isSeen(int ordinal) {
+        return seen.get(ordinal);
+    }
+
+    // À appeler après avoir reporté l'état connu du repository de votes
+    public void markSeen(int ordinal) {
+        seen.set(ordinal);
+    }
+
+    // L'état sera relu depuis le repository de votes au prochain accès
+    public void forget(int ordinal) {
+        seen.clear(ordinal);
+    }
+
+    public boolean markVoted(int ordinal) {
+        return voted.testAndSet(ordinal);
+    }
+
+    public void unmarkVoted(int ordinal) {
+        voted.clear(ordinal);
+    }
+
+    public boolean hasVoted(int ordinal) {
+        return voted.get(ordinal);
+    }
+
+    public long votedCount() {
+        return voted.cardinality();
+    }
+
+    public long bitmapBytes() {
+        return seen.allocatedBytes() + voted.allocatedBytes();
+    }
+
+    public void clear() {
+        seen.clearAll();
+        voted.clearAll();
+        fallbackOrdinals.clear();
+    }
+}
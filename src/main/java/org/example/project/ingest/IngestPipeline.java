@@ -0,0 +1,264 @@
+package org.example.project.ingest;
+
+import org.example.project.model.Vote;
+import org.example.project.observer.VoteListener;
+import org.example.project.service.CastResult;
+import org.example.project.service.VoteService;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Ingestion séquencée à écrivain unique (disposition « disruptor ») :
+ * les producteurs ne font que réserver et remplir un emplacement d'un anneau
+ * pré-alloué ; un seul thread valide puis écrit les votes par lots, dans
+ * l'ordre, directement dans les stores du service, puis chaque étape aval (audit, journal…) relit le même anneau sur son
+ * propre thread. Les producteurs attendent l'étape la plus lente quand
+ * l'anneau est plein.
+ */
+public class IngestPipeline implements AutoCloseable {
+
+    public static final int DEFAULT_CAPACITY = 1 << 14;
+    private static final int SPINS_BEFORE_PARK = 100;
+    // Bit de fermeture porté par le compteur de séquences : réserver et vérifier la
+    // fermeture est une seule opération atomique, aucune réservation n'échappe à close()
+    private static final long CLOSED = Long.MIN_VALUE;
+
+    private static final class Slot {
+        String voterId;
+        String candidateId;
+        // Écrits par l'écrivain, lus par les étapes après son curseur
+        Vote vote;
+        // Séquence publiée par le producteur : l'emplacement est prêt quand elle vaut la sienne
+        volatile long published = -1;
+    }
+
+    private final VoteService service;
+    private final Slot[] ring;
+    private final int mask;
+    private final AtomicLong nextSequence = new AtomicLong();
+    private final AtomicLong writerCursor = new AtomicLong(-1);
+    private final AtomicLong[] stageCursors;
+    private final List<Thread> threads = new ArrayList<>();
+    // Dernier minimum observé des curseurs de fin de chaîne : évite de tous les relire
+    private volatile long gatingCache = -1;
+    private volatile boolean running = true;
+
+    // Propres au thread écrivain : lot courant, recopié de l'anneau
+    private final long[] resultCounts = new long[CastResult.values().length];
+    private final String[] batchVoters;
+    private final String[] batchCandidates;
+    private final Vote[] batchVotes;
+    private final CastResult[] batchResults;
+
+    public IngestPipeline(VoteService service) {
+        this(service, DEFAULT_CAPACITY, List.of());
+    }
+
+    public IngestPipeline(VoteService service, int capacity, List<? extends VoteListener> stages) {
+        if (service == null) {
+            throw new IllegalArgumentException("VoteService cannot be null");
+        }
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        if (stages == null || stages.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("Stages cannot be null");
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        this.service = service;
+        this.ring = new Slot[size];
+        for (int i = 0; i < size; i++) {
+            ring[i] = new Slot();
+        }
+        this.mask = size - 1;
+        this.batchVoters = new String[size];
+        this.batchCandidates = new String[size];
+        this.batchVotes = new Vote[size];
+        this.batchResults = new CastResult[size];
+        this.stageCursors = new AtomicLong[stages.size()];
+
+        threads.add(new Thread(this::writeLoop, "ingest-writer"));
+        for (int i = 0; i < stages.size(); i++) {
+            AtomicLong cursor = new AtomicLong(-1);
+            stageCursors[i] = cursor;
+            VoteListener stage = stages.get(i);
+            threads.add(new Thread(() -> stageLoop(stage, cursor), "ingest-stage-" + i));
+        }
+        for (Thread thread : threads) {
+            thread.setDaemon(true);
+            thread.start();
+        }
+    }
+
+    // Réserve un emplacement, le remplit et le publie ; renvoie sa séquence
+    public long submit(String voterId, String candidateId) {
+        long sequence;
+        do {
+            sequence = nextSequence.get();
+            if ((sequence & CLOSED) != 0) {
+                throw new IllegalStateException("Pipeline is closed");
+            }
+        } while (!nextSequence.compareAndSet(sequence, sequence + 1));
+        long wrapPoint = sequence - ring.length;
+        if (wrapPoint > gatingCache) {
+            int idle = 0;
+            long gating;
+            while (wrapPoint > (gating = gatingSequence())) {
+                idle = idle(idle);
+            }
+            gatingCache = gating;
+        }
+        Slot slot = ring[(int) (sequence & mask)];
+        slot.voterId = voterId;
+        slot.candidateId = candidateId;
+        slot.published = sequence;
+        return sequence;
+    }
+
+    private long gatingSequence() {
+        if (stageCursors.length == 0) {
+            return writerCursor.get();
+        }
+        long min = Long.MAX_VALUE;
+        for (AtomicLong cursor : stageCursors) {
+            min = Math.min(min, cursor.get());
+        }
+        return min;
+    }
+
+    private void writeLoop() {
+        long next = 0;
+        int idle = 0;
+        while (true) {
+            Slot slot = ring[(int) (next & mask)];
+            if (slot.published != next) {
+                if (!running) {
+                    return;
+                }
+                idle = idle(idle);
+                continue;
+            }
+            idle = 0;
+            // Tout ce qui est déjà publié forme un lot : au plus un tour d'anneau
+            long batchEnd = next;
+            do {
+                batchVoters[(int) (batchEnd - next)] = slot.voterId;
+                batchCandidates[(int) (batchEnd - next)] = slot.candidateId;
+                slot = ring[(int) (++batchEnd & mask)];
+            } while (slot.published == batchEnd && batchEnd - next < ring.length);
+            write(next, (int) (batchEnd - next));
+            next = batchEnd;
+            writerCursor.set(next - 1);
+        }
+    }
+
+    // Validation et écriture du lot dans les stores, sans repasser par tryCastVote vote à vote
+    private void write(long first, int length) {
+        try {
+            service.castBatch(batchVoters, batchCandidates, length, batchVotes, batchResults);
+        } catch (RuntimeException e) {
+            System.err.printf("Error ingesting votes: %s%n", e.getMessage());
+            Arrays.fill(batchVotes, 0, length, null);
+            Arrays.fill(batchResults, 0, length, CastResult.CLOSED);
+        }
+        for (int i = 0; i < length; i++) {
+            ring[(int) ((first + i) & mask)].vote = batchVotes[i];
+            resultCounts[batchResults[i].ordinal()]++;
+            batchVotes[i] = null;
+            batchVoters[i] = null;
+            batchCandidates[i] = null;
+        }
+    }
+
+    private void stageLoop(VoteListener stage, AtomicLong cursor) {
+        long next = 0;
+        int idle = 0;
+        while (true) {
+            long available = writerCursor.get();
+            if (available < next) {
+                if (!running) {
+                    return;
+                }
+                idle = idle(idle);
+                continue;
+            }
+            idle = 0;
+            for (; next <= available; next++) {
+                Vote vote = ring[(int) (next & mask)].vote;
+                if (vote != null) {
+                    try {
+                        stage.onVote(vote);
+                    } catch (Exception e) {
+                        System.err.printf("Error notifying stage: %s%n", e.getMessage());
+                    }
+                }
+            }
+            cursor.set(available);
+        }
+    }
+
+    // Attente active courte, puis parking bref : aucun verrou ni signal
+    private static int idle(int idle) {
+        if (idle < SPINS_BEFORE_PARK) {
+            Thread.onSpinWait();
+        } else {
+            LockSupport.parkNanos(50_000);
+        }
+        return idle + 1;
+    }
+
+    // Attend que tout ce qui a été soumis soit passé par toutes les étapes
+    public void drain() {
+        long target = (nextSequence.get() & ~CLOSED) - 1;
+        int idle = 0;
+        while (writerCursor.get() < target || gatingSequence() < target) {
+            idle = idle(idle);
+        }
+    }
+
+    public long getProcessedCount() {
+        return writerCursor.get() + 1;
+    }
+
+    // Fiable après drain() : compteurs tenus par l'écrivain seul
+    public Map<CastResult, Long> getResultCounts() {
+        Map<CastResult, Long> counts = new EnumMap<>(CastResult.class);
+        for (CastResult result : CastResult.values()) {
+            long count = resultCounts[result.ordinal()];
+            if (count > 0) {
+                counts.put(result, count);
+            }
+        }
+        return counts;
+    }
+
+    public int getCapacity() {
+        return ring.length;
+    }
+
+    public boolean isClosed() {
+        return (nextSequence.get() & CLOSED) != 0;
+    }
+
+    // Ferme les réservations, puis attend que toutes celles déjà accordées soient traitées
+    @Override
+    public void close() {
+        if ((nextSequence.getAndUpdate(sequence -> sequence | CLOSED) & CLOSED) != 0) {
+            return;
+        }
+        drain();
+        running = false;
+        try {
+            for (Thread thread : threads) {
+                thread.join();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
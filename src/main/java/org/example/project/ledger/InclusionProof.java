@@ -0,0 +1,53 @@
+package org.example.project.ledger;
+
+import java.util.*;
+
+/**
+ * Preuve d'inclusion d'une entrée dans l'arbre de Merkle du registre
+ * (chemin d'audit au sens de la RFC 9162).
+ */
+public record InclusionProof(long index, long treeSize, byte[] leafHash, List<byte[]> path) {
+
+    public InclusionProof {
+        if (index < 0 || index >= treeSize) {
+            throw new IllegalArgumentException("Index out of range: " + index);
+        }
+        if (leafHash == null || path == null) {
+            throw new IllegalArgumentException("Leaf hash and path cannot be null");
+        }
+        leafHash = leafHash.clone();
+        path = path.stream().map(byte[]::clone).toList();
+    }
+
+    @Override
+    public byte[] leafHash() {
+        return leafHash.clone();
+    }
+
+    // Recalcule la racine à partir de la feuille et du chemin, en O(log n)
+    public boolean verify(byte[] root) {
+        if (root == null) {
+            return false;
+        }
+        long fn = index;
+        long sn = treeSize - 1;
+        byte[] r = leafHash;
+        for (byte[] sibling : path) {
+            if (sn == 0) {
+                return false;
+            }
+            if ((fn & 1) == 1 || fn == sn) {
+                r = MerkleHashes.node(sibling, r);
+                while ((fn & 1) == 0 && fn != 0) {
+                    fn >>= 1;
+                    sn >>= 1;
+                }
+            } else {
+                r = MerkleHashes.node(r, sibling);
+            }
+            fn >>= 1;
+            sn >>= 1;
+        }
+        return sn == 0 && Arrays.equals(r, root);
+    }
+}
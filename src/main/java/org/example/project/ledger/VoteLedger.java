@@ -0,0 +1,248 @@
+package org.example.project.ledger;
+
+import org.example.project.model.Vote;
+import org.example.project.observer.VoteListener;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.util.*;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Registre infalsifiable des votes : chaque événement est chaîné au précédent
+ * et ajouté comme feuille d'un arbre de Merkle maintenu incrémentalement.
+ * Le thread de vote ne fait qu'enfiler ; le hachage se fait par lots sur un
+ * thread dédié. Racine et preuves d'inclusion coûtent O(log n).
+ */
+public class VoteLedger implements VoteListener, AutoCloseable {
+
+    public static final int BATCH_SIZE = 1024;
+
+    static final byte CAST = 1;
+    static final byte CHANGE = 2;
+    static final byte RETRACT = 3;
+    static final byte RESET = 4;
+
+    private record Entry(byte type, Vote vote) {
+    }
+
+    private final LinkedBlockingQueue<Entry> queue = new LinkedBlockingQueue<>();
+    private final AtomicLong submitted = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final Thread hasher;
+    private volatile boolean closed;
+
+    // levels.get(k).get(i) : racine du sous-arbre complet de 2^k feuilles commençant à i * 2^k
+    private final List<List<byte[]>> levels = new ArrayList<>();
+    private byte[] chainHead = new byte[32];
+    private long size;
+
+    public VoteLedger() {
+        levels.add(new ArrayList<>());
+        hasher = new Thread(this::hashLoop, "vote-ledger");
+        hasher.setDaemon(true);
+        hasher.start();
+    }
+
+    @Override
+    public void onVote(Vote vote) {
+        submit(CAST, vote);
+    }
+
+    @Override
+    public void onVoteChanged(Vote previous, Vote current) {
+        submit(CHANGE, current);
+    }
+
+    @Override
+    public void onVoteRetracted(Vote vote) {
+        submit(RETRACT, vote);
+    }
+
+    // Le registre est en ajout seul : un reset y est consigné, pas effacé
+    @Override
+    public void onReset() {
+        submit(RESET, null);
+    }
+
+    private void submit(byte type, Vote vote) {
+        if (closed) {
+            throw new IllegalStateException("Ledger is closed");
+        }
+        submitted.incrementAndGet();
+        queue.add(new Entry(type, vote));
+    }
+
+    private void hashLoop() {
+        MessageDigest digest = MerkleHashes.sha256();
+        List<Entry> batch = new ArrayList<>(BATCH_SIZE);
+        List<byte[]> leaves = new ArrayList<>(BATCH_SIZE);
+        while (true) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                return;
+            }
+            queue.drainTo(batch, BATCH_SIZE - 1);
+            // Hachage des feuilles hors verrou : les lectures ne sont bloquées que pendant l'insertion
+            int skipped = 0;
+            for (Entry entry : batch) {
+                try {
+                    leaves.add(MerkleHashes.leaf(digest, encode(entry.type(), entry.vote())));
+                } catch (RuntimeException e) {
+                    // Une entrée illisible est écartée sans arrêter le thread de hachage
+                    digest.reset();
+                    skipped++;
+                    System.err.printf("Error hashing ledger entry: %s%n", e.getMessage());
+                }
+            }
+            synchronized (this) {
+                failed.addAndGet(skipped);
+                for (byte[] leaf : leaves) {
+                    append(digest, leaf);
+                }
+                notifyAll();
+            }
+            batch.clear();
+            leaves.clear();
+        }
+    }
+
+    private void append(MessageDigest digest, byte[] leaf) {
+        digest.update(chainHead);
+        chainHead = digest.digest(leaf);
+        byte[] node = leaf;
+        int level = 0;
+        levels.get(0).add(node);
+        // Chaque paire complétée remonte d'un niveau : O(1) amorti
+        while (levels.get(level).size() % 2 == 0) {
+            List<byte[]> nodes = levels.get(level);
+            node = MerkleHashes.node(digest, nodes.get(nodes.size() - 2), node);
+            level++;
+            if (levels.size() == level) {
+                levels.add(new ArrayList<>());
+            }
+            levels.get(level).add(node);
+        }
+        size++;
+    }
+
+    // Attend que tous les événements déjà soumis soient hachés
+    public void awaitHashed() throws InterruptedException {
+        long target = submitted.get();
+        synchronized (this) {
+            while (size + failed.get() < target) {
+                wait();
+            }
+        }
+    }
+
+    // Entrées écartées faute d'avoir pu être encodées
+    public long failedCount() {
+        return failed.get();
+    }
+
+    public synchronized long size() {
+        return size;
+    }
+
+    public synchronized byte[] root() {
+        if (size == 0) {
+            return MerkleHashes.sha256().digest();
+        }
+        return rangeHash(0, size).clone();
+    }
+
+    public synchronized byte[] chainHead() {
+        return chainHead.clone();
+    }
+
+    public synchronized byte[] leafHash(long index) {
+        checkIndex(index);
+        return levels.get(0).get((int) index).clone();
+    }
+
+    public synchronized InclusionProof proof(long index) {
+        checkIndex(index);
+        List<byte[]> path = new ArrayList<>();
+        path(index, 0, size, path);
+        return new InclusionProof(index, size, levels.get(0).get((int) index), path);
+    }
+
+    private void checkIndex(long index) {
+        if (index < 0 || index >= size) {
+            throw new IllegalArgumentException("Index out of range: " + index);
+        }
+    }
+
+    // Chemin d'audit RFC 9162 : frères du plus profond au plus haut
+    private void path(long index, long start, long end, List<byte[]> path) {
+        if (end - start == 1) {
+            return;
+        }
+        long split = start + Long.highestOneBit(end - start - 1);
+        if (index < split) {
+            path(index, start, split, path);
+            path.add(rangeHash(split, end));
+        } else {
+            path(index, split, end, path);
+            path.add(rangeHash(start, split));
+        }
+    }
+
+    // Sous-arbre complet et aligné : lu tel quel ; sinon découpé à la plus grande puissance de deux
+    private byte[] rangeHash(long start, long end) {
+        long width = end - start;
+        if (Long.bitCount(width) == 1 && start % width == 0) {
+            int level = Long.numberOfTrailingZeros(width);
+            return levels.get(level).get((int) (start >> level));
+        }
+        long split = start + Long.highestOneBit(width - 1);
+        return MerkleHashes.node(rangeHash(start, split), rangeHash(split, end));
+    }
+
+    // Hash de feuille attendu pour un vote enregistré, à comparer à une preuve.
+    // Seuls les champs relus à l'identique depuis tout dépôt sont hachés : la séquence
+    // est propre à chaque dépôt (un suiveur renumérote) et n'en fait pas partie.
+    public static byte[] castLeafHash(Vote vote) {
+        if (vote == null) {
+            throw new IllegalArgumentException("Vote cannot be null");
+        }
+        return MerkleHashes.leaf(MerkleHashes.sha256(), encode(CAST, vote));
+    }
+
+    static byte[] encode(byte type, Vote vote) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(type);
+            if (vote != null) {
+                out.writeUTF(vote.getVoterId());
+                out.writeUTF(vote.getCandidateId());
+                out.writeLong(vote.getTimestamp());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            awaitHashed();
+            hasher.interrupt();
+            hasher.join();
+        } catch (InterruptedException e) {
+            hasher.interrupt();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
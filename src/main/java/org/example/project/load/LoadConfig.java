@@ -0,0 +1,79 @@
+package org.example.project.load;
+
+import java.util.*;
+
+public record LoadConfig(int voters,
+                         int candidates,
+                         int threads,
+                         double duplicateRate,
+                         String repositoryType,
+                         String voteRepositoryType,
+                         Set<String> listeners,
+                         long durationSeconds) {
+
+    public static final Set<String> KNOWN_LISTENERS = Set.of("logging", "audit", "tally", "publisher");
+
+    public LoadConfig {
+        if (voters <= 0 || candidates <= 0 || threads <= 0) {
+            throw new IllegalArgumentException("Voters, candidates and threads must be positive");
+        }
+        if (duplicateRate < 0 || duplicateRate >= 1) {
+            throw new IllegalArgumentException("Duplicate rate must be in [0, 1)");
+        }
+        if (durationSeconds < 0) {
+            throw new IllegalArgumentException("Duration cannot be negative");
+        }
+        listeners = Set.copyOf(listeners);
+        for (String listener : listeners) {
+            if (!KNOWN_LISTENERS.contains(listener)) {
+                throw new IllegalArgumentException("Unknown listener: " + listener);
+            }
+        }
+    }
+
+    public static LoadConfig defaults() {
+        return new LoadConfig(100_000, 5, Runtime.getRuntime().availableProcessors(),
+                0.1, "memory", "memory", Set.of(), 0);
+    }
+
+    // Format : --voters=1000000 --candidates=10 --threads=8 --duplicates=0.2
+    //          --repository=concurrent --vote-repository=columnar --listeners=audit,tally --duration=600
+    public static LoadConfig parse(String[] args) {
+        LoadConfig d = defaults();
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Invalid option: " + arg);
+            }
+            int eq = arg.indexOf('=');
+            options.put(arg.substring(2, eq), arg.substring(eq + 1));
+        }
+        Set<String> listeners = d.listeners();
+        String listenerOption = options.remove("listeners");
+        if (listenerOption != null) {
+            listeners = new HashSet<>();
+            for (String name : listenerOption.split(",")) {
+                if (!name.isBlank()) {
+                    listeners.add(name.trim().toLowerCase());
+                }
+            }
+        }
+        LoadConfig config = new LoadConfig(
+                Integer.parseInt(options.getOrDefault("voters", String.valueOf(d.voters()))),
+                Integer.parseInt(options.getOrDefault("candidates", String.valueOf(d.candidates()))),
+                Integer.parseInt(options.getOrDefault("threads", String.valueOf(d.threads()))),
+                Double.parseDouble(options.getOrDefault("duplicates", String.valueOf(d.duplicateRate()))),
+                options.getOrDefault("repository", d.repositoryType()),
+                options.getOrDefault("vote-repository", d.voteRepositoryType()),
+                listeners,
+                Long.parseLong(options.getOrDefault("duration", String.valueOf(d.durationSeconds()))));
+        for (String key : List.of("voters", "candidates", "threads", "duplicates",
+                "repository", "vote-repository", "duration")) {
+            options.remove(key);
+        }
+        if (!options.isEmpty()) {
+            throw new IllegalArgumentException("Unknown options: " + options.keySet());
+        }
+        return config;
+    }
+}
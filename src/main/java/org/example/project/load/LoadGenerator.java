@@ -0,0 +1,196 @@
+package org.example.project.load;
+
+import org.example.project.factory.RepositoryFactory;
+import org.example.project.observer.AuditVoteListener;
+import org.example.project.observer.LoggingVoteListener;
+import org.example.project.observer.VotePublisher;
+import org.example.project.service.VoteService;
+import org.example.project.tally.LiveTally;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Générateur de charge / test d'endurance pour VoteService.
+ * Sans durée : un seul tour (chaque électeur vote une fois, plus les doublons).
+ * Avec durée : tours successifs (reset + réinscription) jusqu'à expiration.
+ *
+ * mvn exec:java -Dexec.mainClass=org.example.project.load.LoadGenerator -Dexec.args="--voters=1000000 --threads=8"
+ */
+public class LoadGenerator {
+
+    private final LoadConfig config;
+    private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+
+    public LoadGenerator(LoadConfig config) {
+        if (config == null) {
+            throw new IllegalArgumentException("Config cannot be null");
+        }
+        this.config = config;
+    }
+
+    public LoadReport run() throws InterruptedException {
+        VoteService service = new VoteService(
+                RepositoryFactory.createVoteRepository(config.voteRepositoryType()),
+                RepositoryFactory.createCandidateRepository(config.repositoryType()),
+                RepositoryFactory.createVoterRepository(config.repositoryType()));
+        attachListeners(service);
+
+        LatencyHistogram latencies = new LatencyHistogram();
+        long[] outcome = new long[2];
+        long gcTimeStart = gcTime();
+        long gcCountStart = gcCount();
+        long heapStart = memory.getHeapMemoryUsage().getUsed();
+        long deadline = System.nanoTime() + config.durationSeconds() * 1_000_000_000L;
+        // Seul le temps des votes compte pour le débit, pas l'inscription
+        long castNanos = 0;
+
+        int rounds = 0;
+        do {
+            if (rounds > 0) {
+                service.reset();
+            }
+            setUp(service);
+            long roundStart = System.nanoTime();
+            runRound(service, latencies, outcome);
+            castNanos += System.nanoTime() - roundStart;
+            rounds++;
+            if (config.durationSeconds() > 0) {
+                System.out.printf("[LOAD] round %d: %,d casts, heap=%,d KB, gc=%,d ms%n", rounds,
+                        latencies.count(), memory.getHeapMemoryUsage().getUsed() / 1024, gcTime() - gcTimeStart);
+            }
+        } while (System.nanoTime() < deadline);
+
+        return new LoadReport(rounds, latencies.count(), outcome[0], outcome[1], castNanos,
+                latencies.percentile(50), latencies.percentile(90), latencies.percentile(99),
+                latencies.percentile(99.9), latencies.max(),
+                heapStart, memory.getHeapMemoryUsage().getUsed(),
+                gcTime() - gcTimeStart, gcCount() - gcCountStart);
+    }
+
+    private void attachListeners(VoteService service) {
+        for (String listener : config.listeners()) {
+            switch (listener) {
+                case "logging" -> service.addListener(new LoggingVoteListener());
+                case "audit" -> service.addListener(new AuditVoteListener());
+                case "tally" -> service.addListener(new LiveTally());
+                case "publisher" -> service.votePublisher().subscribe(new DrainingSubscriber());
+                default -> throw new IllegalArgumentException("Unknown listener: " + listener);
+            }
+        }
+    }
+
+    private void setUp(VoteService service) {
+        for (int c = 0; c < config.candidates(); c++) {
+            service.addCandidate("C" + c, "Candidate " + c);
+        }
+        for (int v = 0; v < config.voters(); v++) {
+            service.registerVoter("V" + v, "Voter " + v);
+        }
+    }
+
+    private void runRound(VoteService service, LatencyHistogram latencies, long[] outcome)
+            throws InterruptedException {
+        int threads = config.threads();
+        LatencyHistogram[] perThread = new LatencyHistogram[threads];
+        long[][] perThreadOutcome = new long[threads][2];
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] workers = new Thread[threads];
+
+        for (int t = 0; t < threads; t++) {
+            int index = t;
+            perThread[t] = new LatencyHistogram();
+            workers[t] = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                castSlice(service, index, perThread[index], perThreadOutcome[index]);
+            }, "load-" + t);
+            workers[t].start();
+        }
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        for (int t = 0; t < threads; t++) {
+            latencies.merge(perThread[t]);
+            outcome[0] += perThreadOutcome[t][0];
+            outcome[1] += perThreadOutcome[t][1];
+        }
+    }
+
+    // Chaque thread fait voter sa tranche d'électeurs, avec des tentatives de doublon
+    private void castSlice(VoteService service, int thread, LatencyHistogram latencies, long[] outcome) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int from = (int) ((long) config.voters() * thread / config.threads());
+        int to = (int) ((long) config.voters() * (thread + 1) / config.threads());
+        int next = from;
+        while (next < to) {
+            boolean duplicate = next > from && random.nextDouble() < config.duplicateRate();
+            int voter = duplicate ? random.nextInt(from, next) : next++;
+            String voterId = "V" + voter;
+            String candidateId = "C" + random.nextInt(config.candidates());
+
+            long begin = System.nanoTime();
+            if (service.tryCastVote(voterId, candidateId).isAccepted()) {
+                outcome[0]++;
+            } else {
+                outcome[1]++;
+            }
+            latencies.record(System.nanoTime() - begin);
+        }
+    }
+
+    private static long gcTime() {
+        long total = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            total += Math.max(0, gc.getCollectionTime());
+        }
+        return total;
+    }
+
+    private static long gcCount() {
+        long total = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            total += Math.max(0, gc.getCollectionCount());
+        }
+        return total;
+    }
+
+    private static final class DrainingSubscriber implements Flow.Subscriber<Object> {
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(Object item) {
+            // Consommateur rapide : seul le coût de diffusion est mesuré
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            System.err.printf("[LOAD] publisher error: %s%n", throwable.getMessage());
+        }
+
+        @Override
+        public void onComplete() {
+            // Rien à faire
+        }
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        LoadConfig config = LoadConfig.parse(args);
+        System.out.printf("[LOAD] %s%n", config);
+        LoadReport report = new LoadGenerator(config).run();
+        System.out.println(report);
+    }
+}
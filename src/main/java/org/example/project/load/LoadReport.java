@@ -0,0 +1,40 @@
+package org.example.project.load;
+
+public record LoadReport(int rounds,
+                         long attempts,
+                         long accepted,
+                         long rejected,
+                         long elapsedNanos,
+                         long p50Nanos,
+                         long p90Nanos,
+                         long p99Nanos,
+                         long p999Nanos,
+                         long maxNanos,
+                         long heapUsedStart,
+                         long heapUsedEnd,
+                         long gcTimeMillis,
+                         long gcCount) {
+
+    public double throughput() {
+        return elapsedNanos <= 0 ? 0 : attempts * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    public long heapGrowth() {
+        return heapUsedEnd - heapUsedStart;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("""
+                        rounds=%d attempts=%,d accepted=%,d rejected=%,d elapsed=%,d ms
+                        throughput=%,.0f casts/s
+                        latency p50=%,d ns p90=%,d ns p99=%,d ns p99.9=%,d ns max=%,d ns
+                        heap start=%,d KB end=%,d KB growth=%,d KB
+                        gc time=%,d ms collections=%,d""",
+                rounds, attempts, accepted, rejected, elapsedNanos / 1_000_000,
+                throughput(),
+                p50Nanos, p90Nanos, p99Nanos, p999Nanos, maxNanos,
+                heapUsedStart / 1024, heapUsedEnd / 1024, heapGrowth() / 1024,
+                gcTimeMillis, gcCount);
+    }
+}
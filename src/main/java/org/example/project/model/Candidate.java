@@ -1,7 +1,12 @@
 package org.example.project.model;
 
+import java.util.Locale;
 
 public class Candidate {
+    // Identifiants réservés aux candidats libres (write-in), jamais enregistrés
+    public static final String WRITE_IN_PREFIX = "write-in:";
+    public static final int MAX_WRITE_IN_LENGTH = 256;
+
     private final String id;
     private final String name;
 
@@ -16,6 +21,26 @@ public class Candidate {
         this.name = name;
     }
 
+    // Nom saisi librement : espaces normalisés, identifiant insensible à la casse
+    public static Candidate writeIn(String name) {
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("Write-in name cannot be null or blank");
+        }
+        String normalized = name.strip().replaceAll("\\s+", " ");
+        if (normalized.length() > MAX_WRITE_IN_LENGTH) {
+            throw new IllegalArgumentException("Write-in name too long");
+        }
+        return new Candidate(WRITE_IN_PREFIX + normalized.toLowerCase(Locale.ROOT), normalized);
+    }
+
+    public static boolean isWriteIn(String candidateId) {
+        return candidateId != null && candidateId.startsWith(WRITE_IN_PREFIX);
+    }
+
+    public boolean isWriteIn() {
+        return isWriteIn(id);
+    }
+
     public String getId() {
         return id;
     }
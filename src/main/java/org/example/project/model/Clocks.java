@@ -0,0 +1,34 @@
+package org.example.project.model;
+
+/**
+ * Horloge partagée par le modèle. L'ordre strict des votes de même horodatage
+ * vient de la séquence attribuée par le repository (voir {@link Vote#getSequence()}).
+ */
+public final class Clocks {
+
+    public static final VoteClock SYSTEM = System::currentTimeMillis;
+
+    private static volatile VoteClock current = SYSTEM;
+
+    private Clocks() {
+    }
+
+    public static VoteClock current() {
+        return current;
+    }
+
+    public static void install(VoteClock clock) {
+        if (clock == null) {
+            throw new IllegalArgumentException("Clock cannot be null");
+        }
+        current = clock;
+    }
+
+    public static void useSystemClock() {
+        current = SYSTEM;
+    }
+
+    public static long millis() {
+        return current.millis();
+    }
+}
@@ -0,0 +1,55 @@
+package org.example.project.model;
+
+/**
+ * Horloge grossière : un thread de fond rafraîchit l'heure toutes les
+ * {@code tickMillis} ms, la lecture se réduit à un accès volatile.
+ * Les valeurs ne décroissent jamais, même si l'horloge système recule.
+ */
+public class CoarseVoteClock implements VoteClock, AutoCloseable {
+
+    private final long tickMillis;
+    private final Thread ticker;
+    private volatile long now;
+    private volatile boolean running = true;
+
+    public CoarseVoteClock(long tickMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("Tick interval must be positive");
+        }
+        this.tickMillis = tickMillis;
+        this.now = System.currentTimeMillis();
+        this.ticker = new Thread(this::tickLoop, "vote-clock-ticker");
+        this.ticker.setDaemon(true);
+        this.ticker.start();
+    }
+
+    private void tickLoop() {
+        while (running) {
+            try {
+                Thread.sleep(tickMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            long current = System.currentTimeMillis();
+            if (current > now) {
+                now = current;
+            }
+        }
+    }
+
+    @Override
+    public long millis() {
+        return now;
+    }
+
+    public long getTickMillis() {
+        return tickMillis;
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        ticker.interrupt();
+    }
+}
@@ -0,0 +1,58 @@
+package org.example.project.model;
+
+/**
+ * Rattachement géographique d'un électeur : région → circonscription → bureau de vote.
+ */
+public class District {
+
+    public static final District UNASSIGNED = new District("unassigned", "unassigned", "unassigned");
+
+    private final String region;
+    private final String name;
+    private final String precinct;
+
+    public District(String region, String name, String precinct) {
+        if (region == null || region.isBlank()) {
+            throw new IllegalArgumentException("Region cannot be null or blank");
+        }
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("District name cannot be null or blank");
+        }
+        if (precinct == null || precinct.isBlank()) {
+            throw new IllegalArgumentException("Precinct cannot be null or blank");
+        }
+        this.region = region;
+        this.name = name;
+        this.precinct = precinct;
+    }
+
+    public String getRegion() {
+        return region;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getPrecinct() {
+        return precinct;
+    }
+
+    @Override
+    public String toString() {
+        return region + "/" + name + "/" + precinct;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof District)) return false;
+        District other = (District) obj;
+        return region.equals(other.region) && name.equals(other.name) && precinct.equals(other.precinct);
+    }
+
+    @Override
+    public int hashCode() {
+        return (region.hashCode() * 31 + name.hashCode()) * 31 + precinct.hashCode();
+    }
+}
@@ -0,0 +1,45 @@
+package org.example.project.model;
+
+import java.util.*;
+
+/**
+ * Bulletin ordonné : candidats du préféré au moins préféré. Les candidats
+ * absents sont considérés à égalité, après tous les candidats classés.
+ */
+public class RankedBallot {
+    private final String voterId;
+    private final List<String> ranking;
+
+    public RankedBallot(String voterId, List<String> ranking) {
+        if (voterId == null || voterId.isBlank()) {
+            throw new IllegalArgumentException("Voter ID cannot be null or blank");
+        }
+        if (ranking == null || ranking.isEmpty()) {
+            throw new IllegalArgumentException("Ranking cannot be null or empty");
+        }
+        Set<String> seen = new HashSet<>();
+        for (String candidateId : ranking) {
+            if (candidateId == null || candidateId.isBlank()) {
+                throw new IllegalArgumentException("Candidate ID cannot be null or blank");
+            }
+            if (!seen.add(candidateId)) {
+                throw new IllegalArgumentException("Candidate ranked twice: " + candidateId);
+            }
+        }
+        this.voterId = voterId;
+        this.ranking = List.copyOf(ranking);
+    }
+
+    public String getVoterId() {
+        return voterId;
+    }
+
+    public List<String> getRanking() {
+        return ranking;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("RankedBallot{voter=%s, ranking=%s}", voterId, ranking);
+    }
+}
@@ -6,8 +6,20 @@ public class Vote {
     private final String candidateId;
     private final String candidateName;
     private final long timestamp;
+    // Attribuée par le repository à l'ajout, 0 tant que le vote n'est pas stocké
+    private long sequence;
 
     public Vote(String voterId, String voterName, String candidateId, String candidateName) {
+        this(voterId, voterName, candidateId, candidateName, Clocks.millis());
+    }
+
+    public Vote(String voterId, String voterName, String candidateId, String candidateName, long timestamp) {
+        this(voterId, voterName, candidateId, candidateName, timestamp, 0);
+    }
+
+    // Vote relu depuis un stockage qui a persisté sa séquence
+    public Vote(String voterId, String voterName, String candidateId, String candidateName,
+                long timestamp, long sequence) {
         if (voterId == null || voterId.isBlank()) {
             throw new IllegalArgumentException("Voter ID cannot be null or blank");
         }
@@ -25,7 +37,31 @@ public class Vote {
         this.voterName = voterName;
         this.candidateId = candidateId;
         this.candidateName = candidateName;
-        this.timestamp = System.currentTimeMillis();
+        this.timestamp = timestamp;
+        this.sequence = checkSequence(sequence);
+    }
+
+    // Pour les vues paresseuses : les noms sont résolus par la sous-classe
+    protected Vote(String voterId, String candidateId, long timestamp, long sequence) {
+        if (voterId == null || voterId.isBlank()) {
+            throw new IllegalArgumentException("Voter ID cannot be null or blank");
+        }
+        if (candidateId == null || candidateId.isBlank()) {
+            throw new IllegalArgumentException("Candidate ID cannot be null or blank");
+        }
+        this.voterId = voterId;
+        this.voterName = null;
+        this.candidateId = candidateId;
+        this.candidateName = null;
+        this.timestamp = timestamp;
+        this.sequence = checkSequence(sequence);
+    }
+
+    private static long checkSequence(long sequence) {
+        if (sequence < 0) {
+            throw new IllegalArgumentException("Sequence cannot be negative");
+        }
+        return sequence;
     }
 
     public String getVoterId() {
@@ -48,9 +84,25 @@ public class Vote {
         return timestamp;
     }
 
+    public long getSequence() {
+        return sequence;
+    }
+
+    // Appelé une seule fois par le repository qui ajoute le vote ; une séquence déjà
+    // attribuée (vote répliqué ou relu) est conservée. Renvoie la séquence effective.
+    public long stampSequence(long sequence) {
+        if (sequence <= 0) {
+            throw new IllegalArgumentException("Sequence must be positive");
+        }
+        if (this.sequence == 0) {
+            this.sequence = sequence;
+        }
+        return this.sequence;
+    }
+
     @Override
     public String toString() {
         return String.format("Vote{voter=%s, candidate=%s, time=%d}",
-                voterName, candidateName, timestamp);
+                getVoterName(), getCandidateName(), timestamp);
     }
 }
@@ -0,0 +1,10 @@
+package org.example.project.model;
+
+/**
+ * Source de temps des objets du modèle. Voir {@link Clocks} pour l'horloge active.
+ */
+@FunctionalInterface
+public interface VoteClock {
+
+    long millis();
+}
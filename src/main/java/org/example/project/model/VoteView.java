@@ -0,0 +1,56 @@
+package org.example.project.model;
+
+import java.util.function.Function;
+
+/**
+ * Vote matérialisé à partir d'un enregistrement compact : les noms de l'électeur
+ * et du candidat ne sont résolus qu'à la première lecture.
+ */
+public class VoteView extends Vote {
+
+    private final Function<String, String> voterNames;
+    private final Function<String, String> candidateNames;
+    private String voterName;
+    private String candidateName;
+
+    public VoteView(String voterId, String candidateId, long timestamp,
+                    Function<String, String> voterNames, Function<String, String> candidateNames) {
+        this(voterId, candidateId, timestamp, 0, voterNames, candidateNames);
+    }
+
+    public VoteView(String voterId, String candidateId, long timestamp, long sequence,
+                    Function<String, String> voterNames, Function<String, String> candidateNames) {
+        super(voterId, candidateId, timestamp, sequence);
+        if (voterNames == null || candidateNames == null) {
+            throw new IllegalArgumentException("Name resolvers cannot be null");
+        }
+        this.voterNames = voterNames;
+        this.candidateNames = candidateNames;
+    }
+
+    @Override
+    public String getVoterName() {
+        String name = voterName;
+        if (name == null) {
+            name = resolve(voterNames, getVoterId());
+            voterName = name;
+        }
+        return name;
+    }
+
+    @Override
+    public String getCandidateName() {
+        String name = candidateName;
+        if (name == null) {
+            name = resolve(candidateNames, getCandidateId());
+            candidateName = name;
+        }
+        return name;
+    }
+
+    // Si l'entité a disparu du repository, l'identifiant tient lieu de nom
+    private static String resolve(Function<String, String> resolver, String id) {
+        String name = resolver.apply(id);
+        return name == null ? id : name;
+    }
+}
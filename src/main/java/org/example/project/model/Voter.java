@@ -3,18 +3,27 @@ package org.example.project.model;
 public class Voter {
     private final String id;
     private final String name;
+    private final District district;
     private final long timestamp;
 
     public Voter(String id, String name) {
+        this(id, name, District.UNASSIGNED);
+    }
+
+    public Voter(String id, String name, District district) {
         if (id == null || id.isBlank()) {
             throw new IllegalArgumentException("Voter ID cannot be null or blank");
         }
         if (name == null || name.isBlank()) {
             throw new IllegalArgumentException("Voter name cannot be null or blank");
         }
+        if (district == null) {
+            throw new IllegalArgumentException("District cannot be null");
+        }
         this.id = id;
         this.name = name;
-        this.timestamp = System.currentTimeMillis();
+        this.district = district;
+        this.timestamp = Clocks.millis();
     }
 
     public String getId() {
@@ -25,6 +34,10 @@ public class Voter {
         return name;
     }
 
+    public District getDistrict() {
+        return district;
+    }
+
     public long getTimestamp() {
         return timestamp;
     }
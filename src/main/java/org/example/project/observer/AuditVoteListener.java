@@ -8,6 +8,7 @@ import java.util.*;
 public class AuditVoteListener implements VoteListener {
 
     private final List<Vote> auditLog = Collections.synchronizedList(new ArrayList<>());
+    private final List<Vote> retracted = Collections.synchronizedList(new ArrayList<>());
     private final Map<String, Integer> voterVoteCount =
             Collections.synchronizedMap(new HashMap<>());
 
@@ -27,6 +28,32 @@ public class AuditVoteListener implements VoteListener {
         }
     }
 
+    // Le nouveau vote entre dans la piste ; l'électeur n'a toujours qu'un vote
+    @Override
+    public void onVoteChanged(Vote previous, Vote current) {
+        auditLog.add(current);
+        System.out.printf("[AUDIT] 🔁 Vote of %s changed from %s to %s%n",
+                current.getVoterName(), previous.getCandidateName(), current.getCandidateName());
+    }
+
+    // Un retrait rend le droit de vote : revoter ensuite n'est pas une fraude
+    @Override
+    public void onVoteRetracted(Vote vote) {
+        retracted.add(vote);
+        voterVoteCount.computeIfPresent(vote.getVoterId(), (id, count) -> count > 1 ? count - 1 : null);
+        System.out.printf("[AUDIT] ↩ Vote of %s retracted%n", vote.getVoterName());
+    }
+
+    // Nouvelle génération : la piste est conservée, les compteurs par électeur repartent de zéro
+    @Override
+    public void onReset() {
+        voterVoteCount.clear();
+    }
+
+    public List<Vote> getRetractedVotes() {
+        return new ArrayList<>(retracted);
+    }
+
     public List<Vote> getAuditLog() {
         return new ArrayList<>(auditLog);
     }
@@ -41,6 +68,7 @@ public class AuditVoteListener implements VoteListener {
 
     public void clearAudit() {
         auditLog.clear();
+        retracted.clear();
         voterVoteCount.clear();
     }
 }
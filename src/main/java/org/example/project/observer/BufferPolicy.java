@@ -0,0 +1,10 @@
+package org.example.project.observer;
+
+public enum BufferPolicy {
+    // Le vote attend que l'abonné le plus lent libère de la place
+    BLOCK,
+    // L'abonné en retard saute les votes les plus anciens
+    DROP_OLDEST,
+    // L'abonné en retard reçoit onError et est désabonné
+    ERROR
+}
@@ -10,4 +10,15 @@ public class LoggingVoteListener implements VoteListener {
         System.out.printf("[LOG] ✓ Vote recorded: %s voted for %s%n",
                 vote.getVoterName(), vote.getCandidateName());
     }
+
+    @Override
+    public void onVoteChanged(Vote previous, Vote current) {
+        System.out.printf("[LOG] ↻ Vote changed: %s now votes for %s (was %s)%n",
+                current.getVoterName(), current.getCandidateName(), previous.getCandidateName());
+    }
+
+    @Override
+    public void onVoteRetracted(Vote vote) {
+        System.out.printf("[LOG] ✗ Vote retracted: %s%n", vote.getVoterName());
+    }
 }
@@ -1,9 +1,31 @@
 package org.example.project.observer;
 
 
+import org.example.project.model.RankedBallot;
 import org.example.project.model.Vote;
 
 public interface VoteListener {
 
     void onVote(Vote vote);
+
+    // Bulletin ordonné : firstChoice est le vote stocké pour son premier choix
+    default void onRankedBallot(Vote firstChoice, RankedBallot ballot) {
+        onVote(firstChoice);
+    }
+
+    // Un électeur a changé son vote : previous est remplacé par current
+    default void onVoteChanged(Vote previous, Vote current) {
+    }
+
+    default void onVoteRetracted(Vote vote) {
+    }
+
+    // Faux si l'observateur ne peut pas refléter un changement ou un retrait : le service les refuse
+    default boolean supportsVoteChanges() {
+        return true;
+    }
+
+    // Le service est passé à une nouvelle génération vide
+    default void onReset() {
+    }
 }
@@ -0,0 +1,269 @@
+package org.example.project.observer;
+
+import org.example.project.model.Vote;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Diffuse les votes aux abonnés Flow avec contre-pression par la demande.
+ * Un seul anneau partagé : chaque abonné n'a qu'un curseur, aucun vote n'est copié.
+ */
+public class VotePublisher implements Flow.Publisher<Vote>, VoteListener, AutoCloseable {
+
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    private final Slot[] ring;
+    private final int mask;
+    private final BufferPolicy policy;
+    private final Executor executor;
+    private final List<VoteSubscription> subscriptions = new CopyOnWriteArrayList<>();
+    private final Object space = new Object();
+    // Producteurs en attente dans awaitSpace : sans eux, libérer de la place ne coûte rien
+    private final AtomicInteger waitingProducers = new AtomicInteger();
+
+    // Prochaine séquence à écrire
+    private volatile long tail;
+    private volatile boolean closed;
+
+    public VotePublisher() {
+        this(DEFAULT_CAPACITY, BufferPolicy.BLOCK, ForkJoinPool.commonPool());
+    }
+
+    public VotePublisher(int capacity, BufferPolicy policy, Executor executor) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        if (policy == null) {
+            throw new IllegalArgumentException("Buffer policy cannot be null");
+        }
+        if (executor == null) {
+            throw new IllegalArgumentException("Executor cannot be null");
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        this.ring = new Slot[size];
+        this.mask = size - 1;
+        this.policy = policy;
+        this.executor = executor;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super Vote> subscriber) {
+        if (subscriber == null) {
+            throw new NullPointerException("Subscriber cannot be null");
+        }
+        VoteSubscription subscription = new VoteSubscription(subscriber);
+        subscriptions.add(subscription);
+        subscriber.onSubscribe(subscription);
+        subscription.signal();
+    }
+
+    @Override
+    public void onVote(Vote vote) {
+        if (closed) {
+            return;
+        }
+        synchronized (this) {
+            if (policy == BufferPolicy.BLOCK) {
+                awaitSpace();
+            }
+            long sequence = tail;
+            ring[(int) (sequence & mask)] = new Slot(sequence, vote);
+            tail = sequence + 1;
+        }
+        for (VoteSubscription subscription : subscriptions) {
+            subscription.signal();
+        }
+    }
+
+    // Un flux de Vote ne sait pas exprimer un retrait : les abonnés divergeraient
+    @Override
+    public boolean supportsVoteChanges() {
+        return false;
+    }
+
+    private void awaitSpace() {
+        if (tail - slowestCursor() < ring.length) {
+            return;
+        }
+        // Annoncé avant le test sous moniteur : un abonné qui avance ensuite voit l'attente
+        waitingProducers.incrementAndGet();
+        try {
+            synchronized (space) {
+                while (!closed && tail - slowestCursor() >= ring.length) {
+                    try {
+                        space.wait(10);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+            }
+        } finally {
+            waitingProducers.decrementAndGet();
+        }
+    }
+
+    private long slowestCursor() {
+        long slowest = tail;
+        for (VoteSubscription subscription : subscriptions) {
+            slowest = Math.min(slowest, subscription.cursor);
+        }
+        return slowest;
+    }
+
+    public int getSubscriberCount() {
+        return subscriptions.size();
+    }
+
+    public BufferPolicy getPolicy() {
+        return policy;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        synchronized (space) {
+            space.notifyAll();
+        }
+        for (VoteSubscription subscription : subscriptions) {
+            subscription.signal();
+        }
+    }
+
+    private record Slot(long sequence, Vote vote) {
+    }
+
+    private final class VoteSubscription implements Flow.Subscription {
+
+        private final Flow.Subscriber<? super Vote> subscriber;
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+        private volatile long cursor = tail;
+        private volatile boolean cancelled;
+        private volatile Throwable pendingError;
+        private long dropped;
+
+        VoteSubscription(Flow.Subscriber<? super Vote> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                pendingError = new IllegalArgumentException("Demand must be positive (§3.9): " + n);
+            } else {
+                demand.getAndAccumulate(n, (current, add) -> current + add < 0 ? Long.MAX_VALUE : current + add);
+            }
+            signal();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            remove();
+        }
+
+        void signal() {
+            if (wip.getAndIncrement() == 0) {
+                executor.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            int missed = 1;
+            do {
+                deliver();
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void deliver() {
+            while (!cancelled) {
+                if (pendingError != null) {
+                    fail(pendingError);
+                    return;
+                }
+                long available = tail;
+                if (cursor >= available) {
+                    if (closed) {
+                        cancelled = true;
+                        remove();
+                        subscriber.onComplete();
+                    }
+                    return;
+                }
+                if (demand.get() == 0) {
+                    return;
+                }
+                if (available - cursor > ring.length) {
+                    if (!overrun(available)) {
+                        return;
+                    }
+                    continue;
+                }
+                Slot slot = ring[(int) (cursor & mask)];
+                // L'emplacement a pu être réécrit entre-temps (DROP_OLDEST, ERROR)
+                if (slot.sequence != cursor) {
+                    if (!overrun(tail)) {
+                        return;
+                    }
+                    continue;
+                }
+                Vote vote = slot.vote;
+                cursor = cursor + 1;
+                demand.decrementAndGet();
+                releaseSpace();
+                try {
+                    subscriber.onNext(vote);
+                } catch (Throwable t) {
+                    fail(t);
+                    return;
+                }
+            }
+        }
+
+        private boolean overrun(long available) {
+            if (policy == BufferPolicy.ERROR) {
+                fail(new IllegalStateException("Subscriber overrun: lagging by " + (available - cursor) + " votes"));
+                return false;
+            }
+            long oldest = Math.max(cursor + 1, available - ring.length);
+            dropped += oldest - cursor;
+            cursor = oldest;
+            return true;
+        }
+
+        private void fail(Throwable error) {
+            cancelled = true;
+            remove();
+            subscriber.onError(error);
+        }
+
+        private void remove() {
+            subscriptions.remove(this);
+            releaseSpace();
+        }
+
+        private void releaseSpace() {
+            if (policy == BufferPolicy.BLOCK && waitingProducers.get() > 0) {
+                synchronized (space) {
+                    space.notifyAll();
+                }
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "VoteSubscription{cursor=" + cursor + ", dropped=" + dropped + "}";
+        }
+    }
+}
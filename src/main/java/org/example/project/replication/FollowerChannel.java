@@ -0,0 +1,9 @@
+package org.example.project.replication;
+
+// Côté leader : canal vers un suiveur
+public interface FollowerChannel {
+
+    String followerId();
+
+    void deliver(VoteBatch batch);
+}
@@ -0,0 +1,9 @@
+package org.example.project.replication;
+
+// Côté suiveur : canal vers le leader
+public interface LeaderChannel {
+
+    VoteBatch fetch(long fromSequence, int maxEntries);
+
+    void acknowledge(String followerId, long sequence);
+}
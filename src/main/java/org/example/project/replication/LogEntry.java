@@ -0,0 +1,43 @@
+package org.example.project.replication;
+
+import org.example.project.model.Vote;
+
+// Entrée du journal de réplication : nouveau vote, changement (previous remplacé par vote),
+// retrait ou remise à zéro (sans vote)
+public record LogEntry(Kind kind, Vote vote, Vote previous) {
+
+    public enum Kind {
+        VOTE,
+        CHANGE,
+        RETRACT,
+        RESET
+    }
+
+    public LogEntry {
+        if (kind == null) {
+            throw new IllegalArgumentException("Kind cannot be null");
+        }
+        if (vote == null && kind != Kind.RESET) {
+            throw new IllegalArgumentException("Vote cannot be null");
+        }
+        if (kind == Kind.CHANGE && previous == null) {
+            throw new IllegalArgumentException("Previous vote cannot be null for a change");
+        }
+    }
+
+    public static LogEntry vote(Vote vote) {
+        return new LogEntry(Kind.VOTE, vote, null);
+    }
+
+    public static LogEntry change(Vote previous, Vote current) {
+        return new LogEntry(Kind.CHANGE, current, previous);
+    }
+
+    public static LogEntry retract(Vote vote) {
+        return new LogEntry(Kind.RETRACT, vote, null);
+    }
+
+    public static LogEntry reset() {
+        return new LogEntry(Kind.RESET, null, null);
+    }
+}
@@ -0,0 +1,58 @@
+package org.example.project.replication;
+
+import java.util.concurrent.*;
+
+/**
+ * Transport en mémoire : chaque suiveur reçoit ses lots sur son propre thread,
+ * comme à travers une connexion réseau, ce qui permet de tester sur une seule machine.
+ */
+public class LoopbackTransport implements FollowerChannel, AutoCloseable {
+
+    private final ReplicationFollower follower;
+    private final ExecutorService inbox;
+
+    private LoopbackTransport(ReplicationFollower follower) {
+        this.follower = follower;
+        this.inbox = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "replica-" + follower.getId());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public static LoopbackTransport connect(ReplicationLeader leader, ReplicationFollower follower) {
+        if (leader == null || follower == null) {
+            throw new IllegalArgumentException("Leader and follower cannot be null");
+        }
+        LoopbackTransport transport = new LoopbackTransport(follower);
+        follower.connect(leader);
+        leader.addFollower(transport);
+        return transport;
+    }
+
+    @Override
+    public String followerId() {
+        return follower.getId();
+    }
+
+    @Override
+    public void deliver(VoteBatch batch) {
+        inbox.execute(() -> follower.receive(batch));
+    }
+
+    // Attend que tous les lots déjà expédiés soient appliqués
+    public boolean drain(long timeoutMillis) throws InterruptedException {
+        Future<?> marker = inbox.submit(() -> { });
+        try {
+            marker.get(timeoutMillis, TimeUnit.MILLISECONDS);
+            return true;
+        } catch (ExecutionException | TimeoutException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        inbox.shutdown();
+    }
+}
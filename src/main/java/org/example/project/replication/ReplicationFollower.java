@@ -0,0 +1,139 @@
+package org.example.project.replication;
+
+import org.example.project.model.Vote;
+import org.example.project.observer.VoteListener;
+import org.example.project.repo.VoteRepository;
+
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Suiveur : applique les lots dans l'ordre des séquences (votes, changements,
+ * retraits) à son propre repository et à ses observateurs (décomptes), en
+ * rattrapant les trous auprès du leader.
+ */
+public class ReplicationFollower {
+
+    private static final int CATCH_UP_BATCH = 4096;
+
+    private final String id;
+    private final VoteRepository repository;
+    private final List<VoteListener> listeners = new CopyOnWriteArrayList<>();
+    private LeaderChannel leader;
+    private long appliedSequence;
+    private long appliedCount;
+    private long firstApplyNanos;
+    private long lastApplyNanos;
+
+    public ReplicationFollower(String id, VoteRepository repository) {
+        this(id, repository, 0);
+    }
+
+    // Reprise à partir d'un offset : les votes jusqu'à appliedSequence sont déjà présents
+    public ReplicationFollower(String id, VoteRepository repository, long appliedSequence) {
+        if (id == null || id.isBlank()) {
+            throw new IllegalArgumentException("Follower ID cannot be null or blank");
+        }
+        if (repository == null) {
+            throw new IllegalArgumentException("VoteRepository cannot be null");
+        }
+        if (appliedSequence < 0) {
+            throw new IllegalArgumentException("Sequence cannot be negative");
+        }
+        this.id = id;
+        this.repository = repository;
+        this.appliedSequence = appliedSequence;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void addListener(VoteListener listener) {
+        if (listener != null) {
+            listeners.add(listener);
+        }
+    }
+
+    synchronized void connect(LeaderChannel leader) {
+        this.leader = leader;
+    }
+
+    public synchronized void receive(VoteBatch batch) {
+        if (batch.isEmpty() || batch.lastSequence() <= appliedSequence) {
+            return;  // déjà appliqué
+        }
+        if (batch.firstSequence() > appliedSequence + 1) {
+            catchUp(batch.firstSequence() - 1);
+        }
+        int skip = (int) (appliedSequence + 1 - batch.firstSequence());
+        List<LogEntry> entries = batch.entries();
+        for (int i = Math.max(0, skip); i < entries.size(); i++) {
+            apply(entries.get(i));
+        }
+        acknowledge();
+    }
+
+    // Rattrape depuis appliedSequence + 1 jusqu'à `untilSequence` (ou la fin du journal si <= 0)
+    public synchronized void catchUp(long untilSequence) {
+        if (leader == null) {
+            throw new IllegalStateException("Follower " + id + " is not connected to a leader");
+        }
+        while (untilSequence <= 0 || appliedSequence < untilSequence) {
+            int max = untilSequence <= 0 ? CATCH_UP_BATCH
+                    : (int) Math.min(CATCH_UP_BATCH, untilSequence - appliedSequence);
+            VoteBatch batch = leader.fetch(appliedSequence + 1, max);
+            if (batch.isEmpty()) {
+                break;
+            }
+            for (LogEntry entry : batch.entries()) {
+                apply(entry);
+            }
+        }
+        acknowledge();
+    }
+
+    private void apply(LogEntry entry) {
+        Vote vote = entry.vote();
+        switch (entry.kind()) {
+            case VOTE -> repository.save(vote);
+            case CHANGE -> repository.supersede(vote);
+            case RETRACT -> repository.retract(vote.getVoterId());
+            case RESET -> repository.clear();
+        }
+        for (VoteListener listener : listeners) {
+            try {
+                switch (entry.kind()) {
+                    case VOTE -> listener.onVote(vote);
+                    case CHANGE -> listener.onVoteChanged(entry.previous(), vote);
+                    case RETRACT -> listener.onVoteRetracted(vote);
+                    case RESET -> listener.onReset();
+                }
+            } catch (Exception e) {
+                System.err.printf("Error notifying listener: %s%n", e.getMessage());
+            }
+        }
+        appliedSequence++;
+        appliedCount++;
+        long now = System.nanoTime();
+        if (firstApplyNanos == 0) {
+            firstApplyNanos = now;
+        }
+        lastApplyNanos = now;
+    }
+
+    private void acknowledge() {
+        if (leader != null) {
+            leader.acknowledge(id, appliedSequence);
+        }
+    }
+
+    public synchronized long getAppliedSequence() {
+        return appliedSequence;
+    }
+
+    public synchronized double getThroughput() {
+        long elapsed = lastApplyNanos - firstApplyNanos;
+        return elapsed <= 0 ? 0 : (appliedCount - 1) * 1_000_000_000.0 / elapsed;
+    }
+}
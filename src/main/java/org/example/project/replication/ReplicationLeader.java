@@ -0,0 +1,155 @@
+package org.example.project.replication;
+
+import org.example.project.model.Vote;
+import org.example.project.observer.VoteListener;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Leader : numérote les votes acceptés, changés ou retirés (Observer) et les expédie
+ * par lots aux suiveurs. Le journal reste disponible pour le rattrapage depuis
+ * n'importe quelle séquence.
+ */
+public class ReplicationLeader implements VoteListener, LeaderChannel, AutoCloseable {
+
+    public static final int DEFAULT_BATCH_SIZE = 512;
+
+    private final int batchSize;
+    private final List<LogEntry> log = new ArrayList<>();
+    private final List<FollowerChannel> followers = new CopyOnWriteArrayList<>();
+    private final Map<String, Long> acknowledged = new ConcurrentHashMap<>();
+    private final Object shipLock = new Object();
+    private volatile ScheduledExecutorService shipper;
+    private long shippedSequence;
+
+    public ReplicationLeader() {
+        this(DEFAULT_BATCH_SIZE);
+    }
+
+    public ReplicationLeader(int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void onVote(Vote vote) {
+        append(LogEntry.vote(vote));
+    }
+
+    @Override
+    public void onVoteChanged(Vote previous, Vote current) {
+        append(LogEntry.change(previous, current));
+    }
+
+    @Override
+    public void onVoteRetracted(Vote vote) {
+        append(LogEntry.retract(vote));
+    }
+
+    // Le journal reste en ajout seul : un suiveur qui rattrape rejoue aussi la remise à zéro
+    @Override
+    public void onReset() {
+        append(LogEntry.reset());
+    }
+
+    private void append(LogEntry entry) {
+        boolean full;
+        synchronized (log) {
+            log.add(entry);
+            full = log.size() - shippedSequence >= batchSize;
+        }
+        if (full && shipper == null) {
+            ship();
+        }
+    }
+
+    public void addFollower(FollowerChannel follower) {
+        if (follower == null) {
+            throw new IllegalArgumentException("Follower cannot be null");
+        }
+        followers.add(follower);
+        acknowledged.putIfAbsent(follower.followerId(), 0L);
+    }
+
+    public void removeFollower(FollowerChannel follower) {
+        followers.remove(follower);
+        acknowledged.remove(follower.followerId());
+    }
+
+    // Expédition périodique en arrière-plan (sinon : à chaque lot plein ou via ship())
+    public synchronized void start(long intervalMillis) {
+        if (shipper != null) {
+            return;
+        }
+        shipper = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "replication-shipper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        shipper.scheduleWithFixedDelay(this::ship, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public void ship() {
+        synchronized (shipLock) {
+            while (true) {
+                VoteBatch batch = fetch(shippedSequence + 1, batchSize);
+                if (batch.isEmpty()) {
+                    return;
+                }
+                for (FollowerChannel follower : followers) {
+                    follower.deliver(batch);
+                }
+                shippedSequence = batch.lastSequence();
+            }
+        }
+    }
+
+    @Override
+    public VoteBatch fetch(long fromSequence, int maxEntries) {
+        if (fromSequence <= 0) {
+            throw new IllegalArgumentException("Sequence numbers start at 1");
+        }
+        synchronized (log) {
+            int from = (int) Math.min(fromSequence - 1, log.size());
+            int to = (int) Math.min(log.size(), (long) from + maxEntries);
+            return new VoteBatch(fromSequence, new ArrayList<>(log.subList(from, to)));
+        }
+    }
+
+    @Override
+    public void acknowledge(String followerId, long sequence) {
+        acknowledged.merge(followerId, sequence, Math::max);
+    }
+
+    public long getLastSequence() {
+        synchronized (log) {
+            return log.size();
+        }
+    }
+
+    public List<ReplicationStats> getStats() {
+        long last = getLastSequence();
+        List<ReplicationStats> stats = new ArrayList<>();
+        for (FollowerChannel follower : followers) {
+            stats.add(new ReplicationStats(follower.followerId(), last,
+                    acknowledged.getOrDefault(follower.followerId(), 0L)));
+        }
+        return stats;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (shipper != null) {
+            shipper.shutdown();
+            shipper = null;
+        }
+        ship();
+    }
+}
@@ -0,0 +1,8 @@
+package org.example.project.replication;
+
+public record ReplicationStats(String followerId, long leaderSequence, long acknowledgedSequence) {
+
+    public long lag() {
+        return leaderSequence - acknowledgedSequence;
+    }
+}
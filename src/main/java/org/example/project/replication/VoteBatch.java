@@ -0,0 +1,22 @@
+package org.example.project.replication;
+
+import java.util.List;
+
+// Lot d'entrées consécutives du journal : séquences firstSequence .. firstSequence + size - 1
+public record VoteBatch(long firstSequence, List<LogEntry> entries) {
+
+    public VoteBatch {
+        if (firstSequence <= 0) {
+            throw new IllegalArgumentException("Sequence numbers start at 1");
+        }
+        entries = List.copyOf(entries);
+    }
+
+    public long lastSequence() {
+        return firstSequence + entries.size() - 1;
+    }
+
+    public boolean isEmpty() {
+        return entries.isEmpty();
+    }
+}
@@ -0,0 +1,79 @@
+package org.example.project.repo;
+
+import org.example.project.model.Vote;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Parcours séquentiel dans l'ordre d'ajout, par lots copiés sous le verrou du
+ * repository : le verrou n'est tenu que brièvement, la mémoire reste bornée.
+ */
+class BatchedVoteSpliterator implements Spliterator<Vote> {
+
+    static final int BATCH_SIZE = 4096;
+
+    @FunctionalInterface
+    interface BatchSource {
+        // Copie au plus batch.length emplacements à partir de position (null pour un vote retiré),
+        // renvoie le nombre copié
+        int read(int position, Vote[] batch);
+    }
+
+    private final BatchSource source;
+    private final Vote[] batch = new Vote[BATCH_SIZE];
+    private int position;
+    private int index;
+    private int length;
+
+    BatchedVoteSpliterator(BatchSource source) {
+        this.source = source;
+    }
+
+    private boolean fill() {
+        position += length;
+        index = 0;
+        length = Math.max(0, source.read(position, batch));
+        return length > 0;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super Vote> action) {
+        while (index < length || fill()) {
+            Vote vote = batch[index++];
+            if (vote != null) {
+                action.accept(vote);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super Vote> action) {
+        while (index < length || fill()) {
+            while (index < length) {
+                Vote vote = batch[index++];
+                if (vote != null) {
+                    action.accept(vote);
+                }
+            }
+        }
+    }
+
+    @Override
+    public Spliterator<Vote> trySplit() {
+        // L'ordre d'ajout est le contrat : pas de découpage
+        return null;
+    }
+
+    @Override
+    public long estimateSize() {
+        return Long.MAX_VALUE;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | NONNULL;
+    }
+}
@@ -0,0 +1,85 @@
+package org.example.project.repo;
+
+import org.example.project.model.Candidate;
+
+import java.util.*;
+
+/**
+ * Vue immuable des candidats avec recherche par identifiant et ordinaux denses
+ * (position d'insertion, stable tant que la vue n'est pas vidée). La version
+ * permet de savoir si la vue est encore à jour.
+ */
+public final class CandidateIndex {
+
+    private final List<Candidate> candidates;
+    private final Map<String, Integer> ordinals;
+    private final long version;
+
+    public CandidateIndex(Collection<Candidate> candidates, long version) {
+        if (candidates == null) {
+            throw new IllegalArgumentException("Candidates cannot be null");
+        }
+        this.candidates = List.copyOf(candidates);
+        Map<String, Integer> index = new HashMap<>(Math.max(16, candidates.size() * 2));
+        for (int i = 0; i < this.candidates.size(); i++) {
+            if (index.putIfAbsent(this.candidates.get(i).getId(), i) != null) {
+                throw new IllegalArgumentException("Duplicate candidate ID: " + this.candidates.get(i).getId());
+            }
+        }
+        this.ordinals = index;
+        this.version = version;
+    }
+
+    // Copie avec le candidat ajouté (ou remplacé, en gardant son ordinal)
+    public CandidateIndex with(Candidate candidate) {
+        if (candidate == null) {
+            throw new IllegalArgumentException("Candidate cannot be null");
+        }
+        List<Candidate> next = new ArrayList<>(candidates.size() + 1);
+        next.addAll(candidates);
+        int ordinal = ordinalOf(candidate.getId());
+        if (ordinal >= 0) {
+            next.set(ordinal, candidate);
+        } else {
+            next.add(candidate);
+        }
+        return new CandidateIndex(next, version + 1);
+    }
+
+    public Candidate find(String id) {
+        int ordinal = ordinalOf(id);
+        return ordinal < 0 ? null : candidates.get(ordinal);
+    }
+
+    public String nameOf(String id) {
+        Candidate candidate = find(id);
+        return candidate == null ? null : candidate.getName();
+    }
+
+    public int ordinalOf(String id) {
+        if (id == null) {
+            return -1;
+        }
+        Integer ordinal = ordinals.get(id);
+        return ordinal == null ? -1 : ordinal;
+    }
+
+    public Candidate get(int ordinal) {
+        if (ordinal < 0 || ordinal >= candidates.size()) {
+            throw new IllegalArgumentException("Unknown candidate ordinal: " + ordinal);
+        }
+        return candidates.get(ordinal);
+    }
+
+    public List<Candidate> candidates() {
+        return candidates;
+    }
+
+    public int size() {
+        return candidates.size();
+    }
+
+    public long getVersion() {
+        return version;
+    }
+}
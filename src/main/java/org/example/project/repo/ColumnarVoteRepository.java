@@ -0,0 +1,240 @@
+package org.example.project.repo;
+
+import org.example.project.model.Candidate;
+import org.example.project.model.Vote;
+import org.example.project.model.VoteView;
+import org.example.project.model.Voter;
+
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Stockage des votes en colonnes : identifiants de candidats encodés par
+ * dictionnaire (int), horodatages et séquences en long[]. Avec un résolveur de noms
+ * d'électeurs, seuls l'identifiant, l'ordinal et l'horodatage sont conservés ;
+ * les objets Vote ne sont créés (en vues paresseuses) qu'à la lecture.
+ */
+public class ColumnarVoteRepository implements VoteRepository {
+
+    private static final int INITIAL_CAPACITY = 1024;
+    // Ordinal d'un emplacement dont le vote a été changé ou retiré
+    private static final int RETRACTED = -1;
+
+    private final Function<String, String> voterNameResolver;
+    private final Function<String, String> candidateNameResolver = this::candidateName;
+
+    private String[] voterIds = new String[INITIAL_CAPACITY];
+    // null lorsque le nom est résolu à la demande
+    private String[] voterNames = new String[INITIAL_CAPACITY];
+    private int[] candidateOrdinals = new int[INITIAL_CAPACITY];
+    private long[] timestamps = new long[INITIAL_CAPACITY];
+    private long[] sequences = new long[INITIAL_CAPACITY];
+    private int size;
+    private int retracted;
+    // Jamais remise à zéro : une séquence ne désigne jamais deux votes
+    private long lastSequence;
+
+    // Dictionnaire des candidats
+    private final Map<String, Integer> candidateOrdinalById = new HashMap<>();
+    private final List<String> candidateIds = new ArrayList<>();
+    private final List<String> candidateNames = new ArrayList<>();
+
+    // Électeur -> emplacement de son vote courant
+    private final Map<String, Integer> voterSlots = new HashMap<>();
+
+    public ColumnarVoteRepository() {
+        this(null);
+    }
+
+    public ColumnarVoteRepository(Function<String, String> voterNameResolver) {
+        this.voterNameResolver = voterNameResolver;
+    }
+
+    public static ColumnarVoteRepository resolvingNamesFrom(VoterRepository voterRepository) {
+        if (voterRepository == null) {
+            throw new IllegalArgumentException("VoterRepository cannot be null");
+        }
+        return new ColumnarVoteRepository(id -> {
+            Voter voter = voterRepository.findById(id);
+            return voter == null ? null : voter.getName();
+        });
+    }
+
+    @Override
+    public synchronized void save(Vote vote) {
+        if (vote == null) {
+            throw new IllegalArgumentException("Vote cannot be null");
+        }
+        // Avec un résolveur, le nom n'est pas stocké même si un Vote complet a été créé
+        String name = voterNameResolver == null ? vote.getVoterName() : null;
+        append(vote.getVoterId(), name,
+                ordinalOf(vote.getCandidateId(), vote.getCandidateName()), vote.getTimestamp(),
+                vote.stampSequence(lastSequence + 1));
+    }
+
+    @Override
+    public synchronized void saveAll(List<? extends Vote> votes) {
+        for (Vote vote : votes) {
+            save(vote);
+        }
+    }
+
+    @Override
+    public synchronized void record(Voter voter, Candidate candidate, long timestamp) {
+        if (voter == null || candidate == null) {
+            throw new IllegalArgumentException("Voter and candidate cannot be null");
+        }
+        String name = voterNameResolver == null ? voter.getName() : null;
+        append(voter.getId(), name, ordinalOf(candidate.getId(), candidate.getName()), timestamp,
+                lastSequence + 1);
+    }
+
+    private void append(String voterId, String voterName, int candidateOrdinal, long timestamp, long sequence) {
+        if (size == timestamps.length) {
+            grow();
+        }
+        voterIds[size] = voterId;
+        voterNames[size] = voterName;
+        candidateOrdinals[size] = candidateOrdinal;
+        timestamps[size] = timestamp;
+        sequences[size] = sequence;
+        lastSequence = Math.max(lastSequence, sequence);
+        voterSlots.put(voterId, size);
+        size++;
+    }
+
+    private int ordinalOf(String candidateId, String candidateName) {
+        Integer ordinal = candidateOrdinalById.get(candidateId);
+        if (ordinal == null) {
+            ordinal = candidateIds.size();
+            candidateOrdinalById.put(candidateId, ordinal);
+            candidateIds.add(candidateId);
+            candidateNames.add(candidateName);
+        }
+        return ordinal;
+    }
+
+    private synchronized String candidateName(String candidateId) {
+        Integer ordinal = candidateOrdinalById.get(candidateId);
+        return ordinal == null ? null : candidateNames.get(ordinal);
+    }
+
+    private void grow() {
+        int capacity = timestamps.length * 2;
+        voterIds = Arrays.copyOf(voterIds, capacity);
+        voterNames = Arrays.copyOf(voterNames, capacity);
+        candidateOrdinals = Arrays.copyOf(candidateOrdinals, capacity);
+        timestamps = Arrays.copyOf(timestamps, capacity);
+        sequences = Arrays.copyOf(sequences, capacity);
+    }
+
+    @Override
+    public synchronized List<Vote> findAll() {
+        List<Vote> votes = new ArrayList<>(size - retracted);
+        for (int i = 0; i < size; i++) {
+            if (candidateOrdinals[i] != RETRACTED) {
+                votes.add(materialize(i));
+            }
+        }
+        return votes;
+    }
+
+    @Override
+    public void forEach(Consumer<? super Vote> action) {
+        new BatchedVoteSpliterator(this::readBatch).forEachRemaining(action);
+    }
+
+    @Override
+    public Stream<Vote> streamInOrder() {
+        return StreamSupport.stream(new BatchedVoteSpliterator(this::readBatch), false);
+    }
+
+    private synchronized int readBatch(int position, Vote[] batch) {
+        int length = Math.min(batch.length, size - position);
+        for (int i = 0; i < length; i++) {
+            batch[i] = materialize(position + i);
+        }
+        return length;
+    }
+
+    @Override
+    public synchronized Vote findByVoter(String voterId) {
+        Integer slot = voterId == null ? null : voterSlots.get(voterId);
+        return slot == null ? null : materialize(slot);
+    }
+
+    @Override
+    public boolean supportsVoteChanges() {
+        return true;
+    }
+
+    @Override
+    public synchronized Vote supersede(Vote vote) {
+        if (vote == null) {
+            throw new IllegalArgumentException("Vote cannot be null");
+        }
+        Vote previous = retract(vote.getVoterId());
+        save(vote);
+        return previous;
+    }
+
+    @Override
+    public synchronized Vote retract(String voterId) {
+        Integer slot = voterId == null ? null : voterSlots.remove(voterId);
+        if (slot == null) {
+            throw new IllegalStateException("Voter has not voted: " + voterId);
+        }
+        Vote previous = materialize(slot);
+        candidateOrdinals[slot] = RETRACTED;
+        voterIds[slot] = null;
+        voterNames[slot] = null;
+        retracted++;
+        return previous;
+    }
+
+    // null pour un emplacement retiré
+    private Vote materialize(int index) {
+        int ordinal = candidateOrdinals[index];
+        if (ordinal == RETRACTED) {
+            return null;
+        }
+        String voterName = voterNames[index];
+        if (voterName == null) {
+            return new VoteView(voterIds[index], candidateIds.get(ordinal), timestamps[index], sequences[index],
+                    voterNameResolver, candidateNameResolver);
+        }
+        return new Vote(voterIds[index], voterName,
+                candidateIds.get(ordinal), candidateNames.get(ordinal), timestamps[index], sequences[index]);
+    }
+
+    @Override
+    public synchronized int count() {
+        return size - retracted;
+    }
+
+    @Override
+    public synchronized void clear() {
+        voterIds = new String[INITIAL_CAPACITY];
+        voterNames = new String[INITIAL_CAPACITY];
+        candidateOrdinals = new int[INITIAL_CAPACITY];
+        timestamps = new long[INITIAL_CAPACITY];
+        sequences = new long[INITIAL_CAPACITY];
+        size = 0;
+        retracted = 0;
+        candidateOrdinalById.clear();
+        candidateIds.clear();
+        candidateNames.clear();
+        voterSlots.clear();
+    }
+
+    @Override
+    public synchronized boolean hasVoted(String voterId) {
+        if (voterId == null) {
+            return false;
+        }
+        return voterSlots.containsKey(voterId);
+    }
+}
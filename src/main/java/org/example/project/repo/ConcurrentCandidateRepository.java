@@ -0,0 +1,44 @@
+package org.example.project.repo;
+
+import org.example.project.model.Candidate;
+
+import java.util.*;
+
+public class ConcurrentCandidateRepository implements CandidateRepository {
+
+    private final ConcurrentOrderedStore<Candidate> candidateStore = new ConcurrentOrderedStore<>();
+
+    @Override
+    public void add(Candidate candidate) {
+        if (candidate == null) {
+            throw new IllegalArgumentException("Candidate cannot be null");
+        }
+        candidateStore.put(candidate.getId(), candidate);
+    }
+
+    @Override
+    public List<Candidate> findAll() {
+        return candidateStore.values();
+    }
+
+    @Override
+    public Candidate findById(String id) {
+        if (id == null) {
+            return null;
+        }
+        return candidateStore.get(id);
+    }
+
+    @Override
+    public boolean exists(String id) {
+        if (id == null) {
+            return false;
+        }
+        return candidateStore.containsKey(id);
+    }
+
+    @Override
+    public void clear() {
+        candidateStore.clear();
+    }
+}
@@ -0,0 +1,95 @@
+package org.example.project.repo;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Stockage clé/valeur concurrent qui conserve l'ordre d'insertion.
+ * Les lectures ne prennent aucun verrou ; seul {@link #clear()} exclut les écritures.
+ */
+class ConcurrentOrderedStore<V> {
+
+    private final ConcurrentHashMap<String, V> values = new ConcurrentHashMap<>();
+    // Index append-only des clés, dans l'ordre de première insertion
+    private final ConcurrentLinkedQueue<String> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final ReadWriteLock clearLock = new ReentrantReadWriteLock();
+
+    void put(String key, V value) {
+        clearLock.readLock().lock();
+        try {
+            if (values.put(key, value) == null) {
+                insertionOrder.add(key);
+            }
+        } finally {
+            clearLock.readLock().unlock();
+        }
+    }
+
+    // La fonction reçoit la valeur existante (ou null) et ne doit jamais renvoyer null
+    void compute(String key, BiFunction<String, ? super V, ? extends V> remapping) {
+        clearLock.readLock().lock();
+        try {
+            computeUnlocked(key, remapping);
+        } finally {
+            clearLock.readLock().unlock();
+        }
+    }
+
+    // Tout le lot sous une seule acquisition du verrou
+    <T> void computeAll(Collection<? extends T> batch, Function<? super T, String> keyOf,
+                        BiFunction<? super T, ? super V, ? extends V> remapping) {
+        clearLock.readLock().lock();
+        try {
+            for (T item : batch) {
+                computeUnlocked(keyOf.apply(item), (key, existing) -> remapping.apply(item, existing));
+            }
+        } finally {
+            clearLock.readLock().unlock();
+        }
+    }
+
+    private void computeUnlocked(String key, BiFunction<String, ? super V, ? extends V> remapping) {
+        boolean[] inserted = new boolean[1];
+        values.compute(key, (k, existing) -> {
+            inserted[0] = existing == null;
+            return remapping.apply(k, existing);
+        });
+        if (inserted[0]) {
+            insertionOrder.add(key);
+        }
+    }
+
+    V get(String key) {
+        return values.get(key);
+    }
+
+    boolean containsKey(String key) {
+        return values.containsKey(key);
+    }
+
+    List<V> values() {
+        List<V> result = new ArrayList<>(values.size());
+        for (String key : insertionOrder) {
+            V value = values.get(key);
+            if (value != null) {
+                result.add(value);
+            }
+        }
+        return result;
+    }
+
+    void clear() {
+        clearLock.writeLock().lock();
+        try {
+            insertionOrder.clear();
+            values.clear();
+        } finally {
+            clearLock.writeLock().unlock();
+        }
+    }
+}
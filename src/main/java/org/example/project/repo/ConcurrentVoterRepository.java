@@ -0,0 +1,76 @@
+package org.example.project.repo;
+
+import org.example.project.model.Voter;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ConcurrentVoterRepository implements VoterRepository {
+
+    private final ConcurrentOrderedStore<VoterSlot> voterStore = new ConcurrentOrderedStore<>();
+    // Jamais remis à zéro : un ordinal ne désigne jamais deux électeurs
+    private final AtomicInteger nextOrdinal = new AtomicInteger();
+
+    @Override
+    public void register(Voter voter) {
+        if (voter == null) {
+            throw new IllegalArgumentException("Voter cannot be null");
+        }
+        voterStore.compute(voter.getId(), (id, existing) -> slotFor(existing, voter));
+    }
+
+    // Une réinscription garde son ordinal
+    private VoterSlot slotFor(VoterSlot existing, Voter voter) {
+        return new VoterSlot(voter, existing == null ? nextOrdinal.getAndIncrement() : existing.ordinal());
+    }
+
+    @Override
+    public void registerAll(Collection<Voter> voters) {
+        if (voters == null) {
+            throw new IllegalArgumentException("Voters cannot be null");
+        }
+        for (Voter voter : voters) {
+            if (voter == null) {
+                throw new IllegalArgumentException("Voter cannot be null");
+            }
+        }
+        voterStore.computeAll(voters, Voter::getId, (voter, existing) -> slotFor(existing, voter));
+    }
+
+    @Override
+    public List<Voter> findAll() {
+        List<VoterSlot> slots = voterStore.values();
+        List<Voter> voters = new ArrayList<>(slots.size());
+        for (VoterSlot slot : slots) {
+            voters.add(slot.voter());
+        }
+        return voters;
+    }
+
+    @Override
+    public Voter findById(String id) {
+        VoterSlot slot = findSlot(id);
+        return slot == null ? null : slot.voter();
+    }
+
+    @Override
+    public VoterSlot findSlot(String id) {
+        if (id == null) {
+            return null;
+        }
+        return voterStore.get(id);
+    }
+
+    @Override
+    public boolean isRegistered(String id) {
+        if (id == null) {
+            return false;
+        }
+        return voterStore.containsKey(id);
+    }
+
+    @Override
+    public void clear() {
+        voterStore.clear();
+    }
+}
@@ -3,35 +3,133 @@ package org.example.project.repo;
 import org.example.project.model.Vote;
 
 import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
+/**
+ * Stockage simple d'un objet Vote par bulletin. Pour les gros volumes,
+ * {@link ColumnarVoteRepository} garde la forme compacte et n'alloue aucun
+ * Vote sur le chemin de vote.
+ */
 public class InMemoryVoteRepository implements VoteRepository {
 
+    // Un vote changé ou retiré laisse un emplacement null : les positions restent stables
     private final List<Vote> voteStore = Collections.synchronizedList(new ArrayList<>());
-    private final Set<String> voterIds = Collections.synchronizedSet(new HashSet<>());
+    // Électeur -> position de son vote courant
+    private final Map<String, Integer> voterSlots = new HashMap<>();
+    private int retracted;
+    // Jamais remise à zéro : une séquence ne désigne jamais deux votes
+    private long lastSequence;
 
     @Override
     public void save(Vote vote) {
         if (vote == null) {
             throw new IllegalArgumentException("Vote cannot be null");
         }
-        voteStore.add(vote);
-        voterIds.add(vote.getVoterId());
+        synchronized (voteStore) {
+            lastSequence = Math.max(lastSequence, vote.stampSequence(lastSequence + 1));
+            voterSlots.put(vote.getVoterId(), voteStore.size());
+            voteStore.add(vote);
+        }
+    }
+
+    @Override
+    public void saveAll(List<? extends Vote> votes) {
+        synchronized (voteStore) {
+            for (Vote vote : votes) {
+                save(vote);
+            }
+        }
     }
 
     @Override
     public List<Vote> findAll() {
-        return new ArrayList<>(voteStore);
+        synchronized (voteStore) {
+            List<Vote> votes = new ArrayList<>(voteStore.size() - retracted);
+            for (Vote vote : voteStore) {
+                if (vote != null) {
+                    votes.add(vote);
+                }
+            }
+            return votes;
+        }
+    }
+
+    @Override
+    public void forEach(Consumer<? super Vote> action) {
+        new BatchedVoteSpliterator(this::readBatch).forEachRemaining(action);
+    }
+
+    @Override
+    public Stream<Vote> streamInOrder() {
+        return StreamSupport.stream(new BatchedVoteSpliterator(this::readBatch), false);
+    }
+
+    private int readBatch(int position, Vote[] batch) {
+        synchronized (voteStore) {
+            int length = Math.min(batch.length, voteStore.size() - position);
+            for (int i = 0; i < length; i++) {
+                batch[i] = voteStore.get(position + i);
+            }
+            return length;
+        }
+    }
+
+    @Override
+    public Vote findByVoter(String voterId) {
+        if (voterId == null) {
+            return null;
+        }
+        synchronized (voteStore) {
+            Integer slot = voterSlots.get(voterId);
+            return slot == null ? null : voteStore.get(slot);
+        }
+    }
+
+    @Override
+    public boolean supportsVoteChanges() {
+        return true;
+    }
+
+    @Override
+    public Vote supersede(Vote vote) {
+        if (vote == null) {
+            throw new IllegalArgumentException("Vote cannot be null");
+        }
+        synchronized (voteStore) {
+            Vote previous = retract(vote.getVoterId());
+            save(vote);
+            return previous;
+        }
+    }
+
+    @Override
+    public Vote retract(String voterId) {
+        synchronized (voteStore) {
+            Integer slot = voterId == null ? null : voterSlots.remove(voterId);
+            if (slot == null) {
+                throw new IllegalStateException("Voter has not voted: " + voterId);
+            }
+            retracted++;
+            return voteStore.set(slot, null);
+        }
     }
 
     @Override
     public int count() {
-        return voteStore.size();
+        synchronized (voteStore) {
+            return voteStore.size() - retracted;
+        }
     }
 
     @Override
     public void clear() {
-        voteStore.clear();
-        voterIds.clear();
+        synchronized (voteStore) {
+            voteStore.clear();
+            voterSlots.clear();
+            retracted = 0;
+        }
     }
 
     @Override
@@ -39,6 +137,8 @@ public class InMemoryVoteRepository implements VoteRepository {
         if (voterId == null) {
             return false;
         }
-        return voterIds.contains(voterId);
+        synchronized (voteStore) {
+            return voterSlots.containsKey(voterId);
+        }
     }
 }
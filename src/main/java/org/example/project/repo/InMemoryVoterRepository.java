@@ -3,27 +3,65 @@ package org.example.project.repo;
 import org.example.project.model.Voter;
 
 import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class InMemoryVoterRepository implements VoterRepository {
 
-    private final Map<String, Voter> voterStore =
+    private final Map<String, VoterSlot> voterStore =
             Collections.synchronizedMap(new LinkedHashMap<>());
+    // Jamais remis à zéro : un ordinal ne désigne jamais deux électeurs
+    private final AtomicInteger nextOrdinal = new AtomicInteger();
 
     @Override
     public void register(Voter voter) {
         if (voter == null) {
             throw new IllegalArgumentException("Voter cannot be null");
         }
-        voterStore.put(voter.getId(), voter);
+        voterStore.compute(voter.getId(), (id, existing) -> slotFor(existing, voter));
+    }
+
+    // Une réinscription garde son ordinal
+    private VoterSlot slotFor(VoterSlot existing, Voter voter) {
+        return new VoterSlot(voter, existing == null ? nextOrdinal.getAndIncrement() : existing.ordinal());
+    }
+
+    @Override
+    public void registerAll(Collection<Voter> voters) {
+        if (voters == null) {
+            throw new IllegalArgumentException("Voters cannot be null");
+        }
+        for (Voter voter : voters) {
+            if (voter == null) {
+                throw new IllegalArgumentException("Voter cannot be null");
+            }
+        }
+        // Un seul verrou pour tout le lot
+        synchronized (voterStore) {
+            for (Voter voter : voters) {
+                voterStore.compute(voter.getId(), (id, existing) -> slotFor(existing, voter));
+            }
+        }
     }
 
     @Override
     public List<Voter> findAll() {
-        return new ArrayList<>(voterStore.values());
+        synchronized (voterStore) {
+            List<Voter> voters = new ArrayList<>(voterStore.size());
+            for (VoterSlot slot : voterStore.values()) {
+                voters.add(slot.voter());
+            }
+            return voters;
+        }
     }
 
     @Override
     public Voter findById(String id) {
+        VoterSlot slot = findSlot(id);
+        return slot == null ? null : slot.voter();
+    }
+
+    @Override
+    public VoterSlot findSlot(String id) {
         if (id == null) {
             return null;
         }
@@ -42,4 +80,4 @@ public class InMemoryVoterRepository implements VoterRepository {
     public void clear() {
         voterStore.clear();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,47 @@
+package org.example.project.repo;
+
+import org.example.project.model.Candidate;
+
+import java.util.*;
+
+/**
+ * Candidats publiés par copie sur écriture : chaque ajout remplace un
+ * {@link CandidateIndex} immuable et versionné derrière une référence volatile.
+ * Les lectures (une par vote) ne prennent aucun verrou.
+ */
+public class SnapshotCandidateRepository implements CandidateRepository {
+
+    private volatile CandidateIndex snapshot = new CandidateIndex(List.of(), 0);
+
+    @Override
+    public synchronized void add(Candidate candidate) {
+        if (candidate == null) {
+            throw new IllegalArgumentException("Candidate cannot be null");
+        }
+        snapshot = snapshot.with(candidate);
+    }
+
+    @Override
+    public List<Candidate> findAll() {
+        return new ArrayList<>(snapshot.candidates());
+    }
+
+    @Override
+    public Candidate findById(String id) {
+        return snapshot.find(id);
+    }
+
+    @Override
+    public boolean exists(String id) {
+        return snapshot.ordinalOf(id) >= 0;
+    }
+
+    @Override
+    public synchronized void clear() {
+        snapshot = new CandidateIndex(List.of(), snapshot.getVersion() + 1);
+    }
+
+    public CandidateIndex snapshot() {
+        return snapshot;
+    }
+}
@@ -2,13 +2,75 @@ package org.example.project.repo;
 
 
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import org.example.project.model.Candidate;
 import org.example.project.model.Vote;
+import org.example.project.model.Voter;
 
 public interface VoteRepository {
 
     void save(Vote vote);
+
+    // Ajout d'un lot dans l'ordre ; les implémentations verrouillées n'acquièrent leur verrou qu'une fois
+    default void saveAll(List<? extends Vote> votes) {
+        for (Vote vote : votes) {
+            save(vote);
+        }
+    }
+
+    // Chemin de vote sans objet Vote : les implémentations compactes n'en créent pas
+    default void record(Voter voter, Candidate candidate, long timestamp) {
+        save(new Vote(voter.getId(), voter.getName(), candidate.getId(), candidate.getName(), timestamp));
+    }
+
     List<Vote> findAll();
     int count();
     void clear();
     boolean hasVoted(String voterId);
+
+    // Parcours sans copie intégrale ; les implémentations évitent de tout matérialiser
+    default void forEach(Consumer<? super Vote> action) {
+        findAll().forEach(action);
+    }
+
+    // Flux garanti dans l'ordre d'ajout : le rang d'un vote dans le flux est sa séquence
+    default Stream<Vote> streamInOrder() {
+        return findAll().stream();
+    }
+
+    // Vote courant de l'électeur, ou null
+    default Vote findByVoter(String voterId) {
+        if (voterId == null) {
+            return null;
+        }
+        Vote current = null;
+        for (Vote vote : findAll()) {
+            if (vote.getVoterId().equals(voterId)) {
+                current = vote;
+            }
+        }
+        return current;
+    }
+
+    default boolean supportsVoteChanges() {
+        return false;
+    }
+
+    // Remplace le vote courant de l'électeur par vote (placé en fin d'ordre), renvoie l'ancien
+    default Vote supersede(Vote vote) {
+        throw new UnsupportedOperationException("Vote changes are not supported by " + getClass().getSimpleName());
+    }
+
+    // Retire le vote courant de l'électeur, qui peut alors revoter ; renvoie le vote retiré
+    default Vote retract(String voterId) {
+        throw new UnsupportedOperationException("Vote changes are not supported by " + getClass().getSimpleName());
+    }
+
+    // Totaux par candidat tenus à jour par le repository, s'il en maintient
+    default Optional<Map<String, Integer>> tallies() {
+        return Optional.empty();
+    }
 }
@@ -6,9 +6,28 @@ import org.example.project.model.Voter;
 import java.util.*;
 
 public interface VoterRepository {
+
+    // Électeur inscrit et son ordinal dense : ordre d'inscription, jamais réutilisé
+    record VoterSlot(Voter voter, int ordinal) {
+    }
+
     void register(Voter voter);
+
+    default void registerAll(Collection<Voter> voters) {
+        for (Voter voter : voters) {
+            register(voter);
+        }
+    }
+
     List<Voter> findAll();
     Voter findById(String id);
+
+    // Électeur et ordinal en un seul accès ; ordinal -1 si le repository n'en attribue pas
+    default VoterSlot findSlot(String id) {
+        Voter voter = findById(id);
+        return voter == null ? null : new VoterSlot(voter, -1);
+    }
+
     boolean isRegistered(String id);
     void clear();
 }
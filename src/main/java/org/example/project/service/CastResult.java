@@ -0,0 +1,20 @@
+package org.example.project.service;
+
+/**
+ * Issue d'une tentative de vote, sans exception ni message à construire.
+ */
+public enum CastResult {
+    ACCEPTED,
+    DUPLICATE,
+    UNKNOWN_VOTER,
+    UNKNOWN_CANDIDATE,
+    // Changement ou retrait demandé par un électeur qui n'a pas voté
+    NOT_VOTED,
+    // Changement ou retrait que le repository ou un observateur ne sait pas refléter
+    UNSUPPORTED,
+    CLOSED;
+
+    public boolean isAccepted() {
+        return this == ACCEPTED;
+    }
+}
@@ -1,36 +1,116 @@
 package org.example.project.service;
 
 
+import org.example.project.index.VoterStatusIndex;
 import org.example.project.model.*;
 import org.example.project.repo.*;
+import org.example.project.strategy.CountingEngine;
 import org.example.project.strategy.CountingStrategy;
+import org.example.project.strategy.PairwiseMatrix;
+import org.example.project.tally.PairwiseTally;
 import org.example.project.observer.VoteListener;
+import org.example.project.observer.BufferPolicy;
+import org.example.project.observer.VotePublisher;
+import org.example.project.wal.WalVoteRepository;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 public class VoteService {
 
-    private final VoteRepository voteRepository;
-    private final CandidateRepository candidateRepository;
-    private final VoterRepository voterRepository;
+    /**
+     * Une génération de données : repositories, index des électeurs et cache des
+     * candidats. reset() en installe une nouvelle par une seule écriture volatile.
+     */
+    private static final class Generation {
+        final long epoch;
+        final VoteRepository votes;
+        final CandidateRepository candidates;
+        final VoterRepository voters;
+        final VoterStatusIndex statusIndex = new VoterStatusIndex();
+        // Préférences par paires tenues à jour à chaque bulletin : Borda/Schulze sans relecture
+        final PairwiseTally pairwise = new PairwiseTally();
+        // Incrémentée à chaque modification des candidats : invalide l'index en cache
+        final AtomicLong candidateVersion = new AtomicLong();
+        volatile CandidateIndex candidateIndex;
+        // Nom affiché des candidats libres, tel que saisi au premier vote (l'identifiant est en minuscules)
+        final Map<String, String> writeInNames = new ConcurrentHashMap<>();
+        // Sans fournisseurs, reset() vide les repositories en place : il retire d'abord la
+        // génération et attend la fin des écritures en cours
+        final LongAdder writers = new LongAdder();
+        volatile boolean retired;
+
+        Generation(long epoch, VoteRepository votes, CandidateRepository candidates, VoterRepository voters) {
+            if (votes == null) {
+                throw new IllegalArgumentException("VoteRepository cannot be null");
+            }
+            if (candidates == null) {
+                throw new IllegalArgumentException("CandidateRepository cannot be null");
+            }
+            if (voters == null) {
+                throw new IllegalArgumentException("VoterRepository cannot be null");
+            }
+            this.epoch = epoch;
+            this.votes = votes;
+            this.candidates = candidates;
+            this.voters = voters;
+        }
+    }
+
+    // null : reset() vide les repositories en place
+    private final Supplier<? extends VoteRepository> voteRepositories;
+    private final Supplier<? extends CandidateRepository> candidateRepositories;
+    private final Supplier<? extends VoterRepository> voterRepositories;
+    private volatile Generation generation;
     private final List<VoteListener> listeners = Collections.synchronizedList(new ArrayList<>());
+    private VotePublisher publisher;
+    private volatile boolean pollsOpen = true;
+    private volatile boolean writeInsAllowed;
+    // Sérialise changements et retraits entre eux (rares) ; le vote normal reste sans verrou
+    private final ReentrantLock changeLock = new ReentrantLock();
 
     public VoteService(VoteRepository voteRepository,
                        CandidateRepository candidateRepository,
                        VoterRepository voterRepository) {
-        if (voteRepository == null) {
-            throw new IllegalArgumentException("VoteRepository cannot be null");
-        }
-        if (candidateRepository == null) {
-            throw new IllegalArgumentException("CandidateRepository cannot be null");
-        }
-        if (voterRepository == null) {
-            throw new IllegalArgumentException("VoterRepository cannot be null");
+        this.generation = new Generation(0, voteRepository, candidateRepository, voterRepository);
+        this.voteRepositories = null;
+        this.candidateRepositories = null;
+        this.voterRepositories = null;
+    }
+
+    private VoteService(Supplier<? extends VoteRepository> voteRepositories,
+                        Supplier<? extends CandidateRepository> candidateRepositories,
+                        Supplier<? extends VoterRepository> voterRepositories) {
+        this.voteRepositories = voteRepositories;
+        this.candidateRepositories = candidateRepositories;
+        this.voterRepositories = voterRepositories;
+        this.generation = newGeneration(0);
+    }
+
+    // Reset en O(1) : chaque génération a ses propres repositories, les anciens sont libérés en arrière-plan
+    public static VoteService withGenerations(Supplier<? extends VoteRepository> voteRepositories,
+                                              Supplier<? extends CandidateRepository> candidateRepositories,
+                                              Supplier<? extends VoterRepository> voterRepositories) {
+        if (voteRepositories == null || candidateRepositories == null || voterRepositories == null) {
+            throw new IllegalArgumentException("Repository suppliers cannot be null");
         }
+        return new VoteService(voteRepositories, candidateRepositories, voterRepositories);
+    }
+
+    private Generation newGeneration(long epoch) {
+        return new Generation(epoch, voteRepositories.get(), candidateRepositories.get(), voterRepositories.get());
+    }
 
-        this.voteRepository = voteRepository;
-        this.candidateRepository = candidateRepository;
-        this.voterRepository = voterRepository;
+    public long getEpoch() {
+        return generation.epoch;
     }
 
 
@@ -38,32 +118,71 @@ public class VoteService {
         if (id == null || id.isBlank() || name == null || name.isBlank()) {
             throw new IllegalArgumentException("ID and name cannot be null or blank");
         }
+        if (Candidate.isWriteIn(id)) {
+            throw new IllegalArgumentException("Candidate ID cannot use the write-in prefix");
+        }
 
         Candidate candidate = new Candidate(id, name);
-        candidateRepository.add(candidate);
+        Generation g = generation;
+        g.candidates.add(candidate);
+        g.candidateVersion.incrementAndGet();
         System.out.printf("✓ Candidate added: %s%n", name);
     }
 
 
     public List<Candidate> getCandidates() {
-        return candidateRepository.findAll();
+        return generation.candidates.findAll();
+    }
+
+    // Reconstruit seulement si les candidats ont changé depuis le dernier appel
+    public CandidateIndex getCandidateIndex() {
+        Generation g = generation;
+        if (g.candidates instanceof SnapshotCandidateRepository snapshots) {
+            return snapshots.snapshot();
+        }
+        CandidateIndex index = g.candidateIndex;
+        long version = g.candidateVersion.get();
+        if (index == null || index.getVersion() != version) {
+            index = new CandidateIndex(g.candidates.findAll(), version);
+            g.candidateIndex = index;
+        }
+        return index;
     }
 
     public void registerVoter(String id, String name) {
+        registerVoter(id, name, District.UNASSIGNED);
+    }
+
+    public void registerVoter(String id, String name, District district) {
         if (id == null || id.isBlank() || name == null || name.isBlank()) {
             throw new IllegalArgumentException("ID and name cannot be null or blank");
         }
 
-        Voter voter = new Voter(id, name);
-        voterRepository.register(voter);
+        Voter voter = new Voter(id, name, district);
+        generation.voters.register(voter);
+    }
+
+    // À appeler quand l'inscription/éligibilité change hors du service
+    public void invalidateVoter(String voterId) {
+        Generation g = generation;
+        VoterRepository.VoterSlot slot = g.voters.findSlot(voterId);
+        if (slot != null) {
+            g.statusIndex.forget(g.statusIndex.ordinalOf(slot));
+        }
     }
 
     public List<Voter> getVoters() {
-        return voterRepository.findAll();
+        return generation.voters.findAll();
+    }
+
+    // Bureau de vote de l'électeur, UNASSIGNED s'il est inconnu
+    public District getDistrict(String voterId) {
+        Voter voter = voterId == null ? null : generation.voters.findById(voterId);
+        return voter == null ? District.UNASSIGNED : voter.getDistrict();
     }
 
     public boolean hasVoted(String voterId) {
-        return voteRepository.hasVoted(voterId);
+        return generation.votes.hasVoted(voterId);
     }
 
     public void castVote(String voterId, String candidateId) {
@@ -74,33 +193,525 @@ public class VoteService {
             throw new IllegalArgumentException("Candidate ID cannot be null or blank");
         }
 
-        Voter voter = voterRepository.findById(voterId);
-        if (voter == null) {
-            throw new IllegalArgumentException("Voter not registered: " + voterId);
+        throwIfRejected(tryCastVote(voterId, candidateId), voterId, candidateId);
+    }
+
+    // Les messages ne sont construits que sur ce chemin
+    private void throwIfRejected(CastResult result, String voterId, String candidateId) {
+        switch (result) {
+            case ACCEPTED -> { }
+            case CLOSED -> throw new IllegalStateException("Polls are closed");
+            case UNKNOWN_VOTER -> throw new IllegalArgumentException("Voter not registered: " + voterId);
+            case UNKNOWN_CANDIDATE -> throw new IllegalArgumentException("Candidate does not exist: " + candidateId);
+            case DUPLICATE -> throw new IllegalStateException("Voter " + voterName(voterId) + " has already voted!");
+            case NOT_VOTED -> throw new IllegalStateException("Voter " + voterName(voterId) + " has not voted");
+            case UNSUPPORTED -> {
+                Object blocker = voteChangeBlocker();
+                throw new UnsupportedOperationException("Vote changes are not supported by "
+                        + (blocker == null ? "this service" : blocker.getClass().getSimpleName()));
+            }
+        }
+    }
+
+    private String voterName(String voterId) {
+        Voter voter = generation.voters.findById(voterId);
+        return voter == null ? voterId : voter.getName();
+    }
+
+    // Chemin sans exception pour les rejets : seules les pannes du repository lèvent
+    public CastResult tryCastVote(String voterId, String candidateId) {
+        return tryCastVote(voterId, candidateId, null);
+    }
+
+    // onAccepted reçoit le vote enregistré, avant les observateurs
+    public CastResult tryCastVote(String voterId, String candidateId, Consumer<? super Vote> onAccepted) {
+        return cast(voterId, candidateId, null, null, onAccepted);
+    }
+
+    // Bulletin ordonné : le premier choix est stocké comme un vote simple, le classement
+    // complet alimente la matrice de préférences
+    public CastResult tryCastRankedBallot(RankedBallot ballot) {
+        if (ballot == null) {
+            return CastResult.UNKNOWN_CANDIDATE;
+        }
+        CandidateRepository candidates = generation.candidates;
+        for (String candidateId : ballot.getRanking()) {
+            if (candidates.findById(candidateId) == null) {
+                return CastResult.UNKNOWN_CANDIDATE;
+            }
+        }
+        return cast(ballot.getVoterId(), ballot.getRanking().get(0), null, ballot, null);
+    }
+
+    public void castRankedBallot(RankedBallot ballot) {
+        if (ballot == null) {
+            throw new IllegalArgumentException("Ballot cannot be null");
+        }
+        CastResult result = tryCastRankedBallot(ballot);
+        if (result == CastResult.UNKNOWN_CANDIDATE) {
+            throw new IllegalArgumentException("Ballot ranks an unknown candidate: " + ballot.getRanking());
+        }
+        throwIfRejected(result, ballot.getVoterId(), ballot.getRanking().get(0));
+    }
+
+    public void allowWriteIns(boolean allowed) {
+        writeInsAllowed = allowed;
+    }
+
+    public boolean isWriteInsAllowed() {
+        return writeInsAllowed;
+    }
+
+    // Vote pour un nom libre : stocké comme les autres, sans passer par le CandidateRepository
+    public CastResult tryCastWriteIn(String voterId, String name) {
+        if (!writeInsAllowed || name == null || name.isBlank()) {
+            return CastResult.UNKNOWN_CANDIDATE;
+        }
+        Candidate writeIn;
+        try {
+            writeIn = Candidate.writeIn(name);
+        } catch (IllegalArgumentException e) {
+            return CastResult.UNKNOWN_CANDIDATE;
+        }
+        return cast(voterId, writeIn.getId(), writeIn, null, null);
+    }
+
+    public void castWriteIn(String voterId, String name) {
+        throwIfRejected(tryCastWriteIn(voterId, name), voterId, name);
+    }
+
+    // Électeur et candidat validés, bit "a voté" acquis : il ne reste qu'à écrire le vote
+    private record Claim(CastResult result, Voter voter, Candidate candidate, int ordinal) {
+
+        static Claim rejected(CastResult result) {
+            return new Claim(result, null, null, -1);
+        }
+    }
+
+    private static Claim claim(Generation g, String voterId, String candidateId, Candidate writeIn) {
+        if (voterId == null || voterId.isBlank()) {
+            return Claim.rejected(CastResult.UNKNOWN_VOTER);
+        }
+        if (candidateId == null || candidateId.isBlank()) {
+            return Claim.rejected(CastResult.UNKNOWN_CANDIDATE);
+        }
+        VoterStatusIndex statusIndex = g.statusIndex;
+
+        // Un seul accès hash : électeur + ordinal dense attribué par le repository
+        VoterRepository.VoterSlot slot = g.voters.findSlot(voterId);
+        if (slot == null) {
+            return Claim.rejected(CastResult.UNKNOWN_VOTER);
+        }
+        int ordinal = statusIndex.ordinalOf(slot);
+        if (!statusIndex.isSeen(ordinal)) {
+            // Premier accès : reporter l'état du repository de votes avant de marquer "vu"
+            if (g.votes.hasVoted(voterId)) {
+                statusIndex.markVoted(ordinal);
+            }
+            statusIndex.markSeen(ordinal);
         }
 
-        Candidate candidate = candidateRepository.findById(candidateId);
+        Candidate candidate = writeIn != null ? writeIn : g.candidates.findById(candidateId);
         if (candidate == null) {
-            throw new IllegalArgumentException("Candidate does not exist: " + candidateId);
+            return Claim.rejected(CastResult.UNKNOWN_CANDIDATE);
         }
 
-        if (hasVoted(voterId)) {
-            throw new IllegalStateException("Voter " + voter.getName() + " has already voted!");
+        // Détection de doublon : un seul CAS sur le bit "a voté"
+        if (!statusIndex.markVoted(ordinal)) {
+            return Claim.rejected(CastResult.DUPLICATE);
+        }
+        return new Claim(CastResult.ACCEPTED, slot.voter(), candidate, ordinal);
+    }
+
+    private CastResult cast(String voterId, String candidateId, Candidate writeIn, RankedBallot ballot,
+                            Consumer<? super Vote> onAccepted) {
+        Generation g = enter();
+        try {
+            return cast(g, voterId, candidateId, writeIn, ballot, onAccepted);
+        } finally {
+            leave(g);
+        }
+    }
+
+    // Tout le vote se fait sur la génération reçue, même si un reset survient entre-temps
+    private CastResult cast(Generation g, String voterId, String candidateId, Candidate writeIn,
+                            RankedBallot ballot, Consumer<? super Vote> onAccepted) {
+        if (!pollsOpen) {
+            return CastResult.CLOSED;
+        }
+        VoterStatusIndex statusIndex = g.statusIndex;
+        Claim claim = claim(g, voterId, candidateId, writeIn);
+        if (claim.result() != CastResult.ACCEPTED) {
+            return claim.result();
+        }
+        Voter voter = claim.voter();
+        Candidate candidate = claim.candidate();
+        int ordinal = claim.ordinal();
+
+        // Sans observateur, aucun objet Vote n'est créé : le repository stocke sa forme compacte
+        long timestamp = Clocks.millis();
+        Vote vote = listeners.isEmpty() && onAccepted == null ? null
+                : new Vote(voterId, voter.getName(), candidateId, candidate.getName(), timestamp);
+        try {
+            if (vote == null) {
+                g.votes.record(voter, candidate, timestamp);
+            } else {
+                g.votes.save(vote);
+            }
+        } catch (RuntimeException e) {
+            statusIndex.unmarkVoted(ordinal);
+            // Génération abandonnée et déjà libérée (journal fermé) : le scrutin est clos pour elle
+            if (generation != g) {
+                return CastResult.CLOSED;
+            }
+            throw e;
+        }
+        if (writeIn != null) {
+            g.writeInNames.putIfAbsent(candidateId, writeIn.getName());
+        }
+        if (ballot != null) {
+            g.pairwise.addBallot(ballot);
+        } else {
+            g.pairwise.addSingleChoice(candidateId);
         }
 
-        // Créer et sauvegarder le vote
-        Vote vote = new Vote(voterId, voter.getName(), candidateId, candidate.getName());
-        voteRepository.save(vote);
+        // Reset pendant le vote : il a atterri dans une génération abandonnée
+        Generation current = generation;
+        if (current != g && current.votes != g.votes) {
+            return CastResult.CLOSED;
+        }
 
+        if (onAccepted != null) {
+            onAccepted.accept(vote);
+        }
         // Notifier les observateurs (Observer pattern)
-        notifyListeners(vote);
+        if (vote != null) {
+            notifyListeners(vote, ballot);
+        }
+        return CastResult.ACCEPTED;
+    }
+
+    /**
+     * Application par lot pour un écrivain unique (IngestPipeline) : tout le lot est
+     * validé, puis écrit d'un bloc dans les stores de la génération courante, un seul
+     * verrou de repository et une seule copie des observateurs par lot. Remplit
+     * results et, pour chaque vote accepté, accepted ; renvoie le nombre d'acceptés.
+     */
+    public int castBatch(String[] voterIds, String[] candidateIds, int length,
+                         Vote[] accepted, CastResult[] results) {
+        if (voterIds == null || candidateIds == null || accepted == null || results == null) {
+            throw new IllegalArgumentException("Batch arrays cannot be null");
+        }
+        if (length < 0 || length > voterIds.length || length > candidateIds.length
+                || length > accepted.length || length > results.length) {
+            throw new IllegalArgumentException("Invalid batch length: " + length);
+        }
+        Arrays.fill(accepted, 0, length, null);
+        Generation g = enter();
+        try {
+            return castBatch(g, voterIds, candidateIds, length, accepted, results);
+        } finally {
+            leave(g);
+        }
+    }
+
+    private int castBatch(Generation g, String[] voterIds, String[] candidateIds, int length,
+                          Vote[] accepted, CastResult[] results) {
+        if (!pollsOpen) {
+            Arrays.fill(results, 0, length, CastResult.CLOSED);
+            return 0;
+        }
+        long timestamp = Clocks.millis();
+        List<Vote> votes = new ArrayList<>(length);
+        int[] positions = new int[length];
+        int[] ordinals = new int[length];
+        for (int i = 0; i < length; i++) {
+            Claim claim = claim(g, voterIds[i], candidateIds[i], null);
+            results[i] = claim.result();
+            if (claim.result() == CastResult.ACCEPTED) {
+                positions[votes.size()] = i;
+                ordinals[votes.size()] = claim.ordinal();
+                votes.add(new Vote(voterIds[i], claim.voter().getName(), candidateIds[i],
+                        claim.candidate().getName(), timestamp));
+            }
+        }
+        if (votes.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            g.votes.saveAll(votes);
+        } catch (RuntimeException e) {
+            System.err.printf("Error saving vote batch: %s%n", e.getMessage());
+            // Seuls les votes que le repository n'a pas gardés sont rendus
+            for (int k = 0; k < votes.size(); k++) {
+                if (generation != g || !g.votes.hasVoted(votes.get(k).getVoterId())) {
+                    g.statusIndex.unmarkVoted(ordinals[k]);
+                    results[positions[k]] = CastResult.CLOSED;
+                    votes.set(k, null);
+                }
+            }
+        }
+        for (Vote vote : votes) {
+            if (vote != null) {
+                g.pairwise.addSingleChoice(vote.getCandidateId());
+            }
+        }
+
+        // Reset pendant le lot : il a atterri dans une génération abandonnée
+        Generation current = generation;
+        if (current != g && current.votes != g.votes) {
+            for (int k = 0; k < votes.size(); k++) {
+                results[positions[k]] = CastResult.CLOSED;
+            }
+            return 0;
+        }
+
+        List<VoteListener> targets = new ArrayList<>(listeners);
+        int count = 0;
+        for (int k = 0; k < votes.size(); k++) {
+            Vote vote = votes.get(k);
+            if (vote == null) {
+                continue;
+            }
+            accepted[positions[k]] = vote;
+            count++;
+            for (VoteListener listener : targets) {
+                try {
+                    listener.onVote(vote);
+                } catch (Exception e) {
+                    System.err.printf("Error notifying listener: %s%n", e.getMessage());
+                }
+            }
+        }
+        return count;
+    }
+
+    public void changeVote(String voterId, String candidateId) {
+        if (voterId == null || voterId.isBlank()) {
+            throw new IllegalArgumentException("Voter ID cannot be null or blank");
+        }
+        if (candidateId == null || candidateId.isBlank()) {
+            throw new IllegalArgumentException("Candidate ID cannot be null or blank");
+        }
+        throwIfRejected(tryChangeVote(voterId, candidateId), voterId, candidateId);
+    }
+
+    // Remplace le vote courant ; les totaux suivent par delta via onVoteChanged
+    public CastResult tryChangeVote(String voterId, String candidateId) {
+        if (voteChangeBlocker() != null) {
+            return CastResult.UNSUPPORTED;
+        }
+        Generation g = enter();
+        try {
+            return changeVote(g, voterId, candidateId);
+        } finally {
+            leave(g);
+        }
+    }
+
+    private CastResult changeVote(Generation g, String voterId, String candidateId) {
+        if (!pollsOpen) {
+            return CastResult.CLOSED;
+        }
+        Voter voter = voterId == null ? null : g.voters.findById(voterId);
+        if (voter == null) {
+            return CastResult.UNKNOWN_VOTER;
+        }
+        Candidate candidate = candidateId == null ? null : g.candidates.findById(candidateId);
+        if (candidate == null) {
+            return CastResult.UNKNOWN_CANDIDATE;
+        }
+
+        changeLock.lock();
+        try {
+            if (!g.votes.hasVoted(voterId)) {
+                return CastResult.NOT_VOTED;
+            }
+            Vote current = new Vote(voterId, voter.getName(), candidateId, candidate.getName(), Clocks.millis());
+            Vote previous = g.votes.supersede(current);
+            g.pairwise.onVoteChanged(previous, current);
+            for (VoteListener listener : new ArrayList<>(listeners)) {
+                try {
+                    listener.onVoteChanged(previous, current);
+                } catch (Exception e) {
+                    System.err.printf("Error notifying listener: %s%n", e.getMessage());
+                }
+            }
+            return CastResult.ACCEPTED;
+        } finally {
+            changeLock.unlock();
+        }
+    }
+
+    public void retractVote(String voterId) {
+        if (voterId == null || voterId.isBlank()) {
+            throw new IllegalArgumentException("Voter ID cannot be null or blank");
+        }
+        throwIfRejected(tryRetractVote(voterId), voterId, null);
+    }
+
+    // Retire le vote courant : l'électeur peut revoter tant que le scrutin est ouvert
+    public CastResult tryRetractVote(String voterId) {
+        if (voteChangeBlocker() != null) {
+            return CastResult.UNSUPPORTED;
+        }
+        Generation g = enter();
+        try {
+            return retractVote(g, voterId);
+        } finally {
+            leave(g);
+        }
+    }
+
+    private CastResult retractVote(Generation g, String voterId) {
+        if (!pollsOpen) {
+            return CastResult.CLOSED;
+        }
+        if (voterId == null || g.voters.findById(voterId) == null) {
+            return CastResult.UNKNOWN_VOTER;
+        }
+
+        changeLock.lock();
+        try {
+            if (!g.votes.hasVoted(voterId)) {
+                return CastResult.NOT_VOTED;
+            }
+            Vote previous = g.votes.retract(voterId);
+            g.pairwise.onVoteRetracted(previous);
+            VoterRepository.VoterSlot slot = g.voters.findSlot(voterId);
+            if (slot != null) {
+                g.statusIndex.unmarkVoted(g.statusIndex.ordinalOf(slot));
+            }
+            for (VoteListener listener : new ArrayList<>(listeners)) {
+                try {
+                    listener.onVoteRetracted(previous);
+                } catch (Exception e) {
+                    System.err.printf("Error notifying listener: %s%n", e.getMessage());
+                }
+            }
+            return CastResult.ACCEPTED;
+        } finally {
+            changeLock.unlock();
+        }
+    }
+
+    // Repository ou observateur qui ne sait pas refléter un changement, null si aucun
+    private Object voteChangeBlocker() {
+        VoteRepository votes = generation.votes;
+        if (!votes.supportsVoteChanges()) {
+            return votes;
+        }
+        for (VoteListener listener : new ArrayList<>(listeners)) {
+            if (!listener.supportsVoteChanges()) {
+                return listener;
+            }
+        }
+        return null;
+    }
+
+    public Vote getCurrentVote(String voterId) {
+        return generation.votes.findByVoter(voterId);
+    }
+
+    public void openPolls() {
+        pollsOpen = true;
+    }
+
+    public void closePolls() {
+        pollsOpen = false;
+    }
+
+    public boolean isPollsOpen() {
+        return pollsOpen;
     }
 
     public Map<String, Integer> countVotes(CountingStrategy strategy) {
         if (strategy == null) {
             throw new IllegalArgumentException("Counting strategy cannot be null");
         }
-        return strategy.count(voteRepository.findAll());
+        Generation g = generation;
+        VoteRepository voteRepository = g.votes;
+        // Les totaux maintenus par le repository évitent de relire tous les votes
+        if (strategy.isTallyBased()) {
+            Optional<Map<String, Integer>> tallies = voteRepository.tallies();
+            if (tallies.isPresent()) {
+                return tallies.get();
+            }
+        }
+        // La matrice tenue à jour ne vaut que si elle a vu tous les votes stockés
+        if (strategy.isPairwise()) {
+            PairwiseMatrix matrix = g.pairwise.snapshot();
+            if (matrix.getBallotCount() == voteRepository.count()) {
+                return strategy.scorePairwise(matrix);
+            }
+        }
+        try (Stream<Vote> votes = voteRepository.streamInOrder()) {
+            return strategy.countInOrder(votes);
+        }
+    }
+
+    // Toutes les stratégies en un seul passage sur les votes (aucun si les totaux suffisent)
+    public List<CountingEngine.Outcome> countAll(List<CountingStrategy> strategies) {
+        CountingEngine engine = new CountingEngine(strategies);
+        Generation g = generation;
+        VoteRepository voteRepository = g.votes;
+
+        // Comme countVotes : Borda/Schulze lisent la matrice tenue à jour si elle a vu tous les votes
+        PairwiseMatrix matrix = null;
+        List<CountingStrategy> streamed = new ArrayList<>(engine.getStrategies().size());
+        for (CountingStrategy strategy : engine.getStrategies()) {
+            if (strategy.isPairwise() && matrix == null) {
+                matrix = g.pairwise.snapshot();
+                if (matrix.getBallotCount() != voteRepository.count()) {
+                    streamed = new ArrayList<>(engine.getStrategies());
+                    matrix = null;
+                    break;
+                }
+            }
+            if (!strategy.isPairwise()) {
+                streamed.add(strategy);
+            }
+        }
+
+        List<CountingEngine.Outcome> counted = streamed.isEmpty()
+                ? List.of() : countStreamed(new CountingEngine(streamed), voteRepository);
+        if (matrix == null) {
+            return counted;
+        }
+        List<CountingEngine.Outcome> outcomes = new ArrayList<>(engine.getStrategies().size());
+        Iterator<CountingEngine.Outcome> next = counted.iterator();
+        for (CountingStrategy strategy : engine.getStrategies()) {
+            if (strategy.isPairwise()) {
+                Map<String, Integer> results = strategy.scorePairwise(matrix);
+                outcomes.add(new CountingEngine.Outcome(strategy, results, CountingEngine.winnerOf(results)));
+            } else {
+                outcomes.add(next.next());
+            }
+        }
+        return outcomes;
+    }
+
+    private static List<CountingEngine.Outcome> countStreamed(CountingEngine engine, VoteRepository voteRepository) {
+        if (engine.isTallyBased()) {
+            Optional<Map<String, Integer>> tallies = voteRepository.tallies();
+            if (tallies.isPresent()) {
+                return engine.fromTallies(tallies.get());
+            }
+        }
+        try (Stream<Vote> votes = voteRepository.streamInOrder()) {
+            return engine.count(votes);
+        }
+    }
+
+    // Décompte exact des candidats libres, relu depuis les bulletins stockés (certification)
+    public Map<String, Integer> certifyWriteIns() {
+        Map<String, Integer> counts = new HashMap<>();
+        try (Stream<Vote> votes = generation.votes.streamInOrder()) {
+            votes.filter(vote -> Candidate.isWriteIn(vote.getCandidateId()))
+                    .forEach(vote -> counts.merge(vote.getCandidateId(), 1, Integer::sum));
+        }
+        return counts;
     }
 
     public Candidate getWinner(CountingStrategy strategy) {
@@ -110,21 +721,41 @@ public class VoteService {
             return null;  // Aucun vote
         }
 
-        String winnerId = results.entrySet().stream()
-                .max(Comparator.comparingInt(Map.Entry::getValue))
-                .map(Map.Entry::getKey)
-                .orElse(null);
+        return resolveCandidate(CountingEngine.winnerOf(results));
+    }
 
-        return candidateRepository.findById(winnerId);
+    // Candidat enregistré, ou candidat libre sous le nom saisi par l'électeur ; null sinon
+    public Candidate resolveCandidate(String candidateId) {
+        if (candidateId == null) {
+            return null;
+        }
+        Generation g = generation;
+        Candidate candidate = getCandidateIndex().find(candidateId);
+        if (candidate == null) {
+            candidate = g.candidates.findById(candidateId);
+        }
+        if (candidate == null && Candidate.isWriteIn(candidateId)) {
+            String name = g.writeInNames.get(candidateId);
+            candidate = Candidate.writeIn(name != null ? name
+                    : candidateId.substring(Candidate.WRITE_IN_PREFIX.length()));
+        }
+        return candidate;
     }
 
     public int getTotalVoteCount() {
-        return voteRepository.count();
+        return generation.votes.count();
     }
 
 
     public List<Vote> getAllVotes() {
-        return voteRepository.findAll();
+        return generation.votes.findAll();
+    }
+
+    public void forEachVote(Consumer<? super Vote> action) {
+        if (action == null) {
+            throw new IllegalArgumentException("Action cannot be null");
+        }
+        generation.votes.forEach(action);
     }
 
 
@@ -139,20 +770,128 @@ public class VoteService {
         listeners.remove(listener);
     }
 
-    private void notifyListeners(Vote vote) {
+    // Flux réactif des votes (contre-pression par abonné, anneau partagé)
+    public synchronized Flow.Publisher<Vote> votePublisher() {
+        if (publisher == null) {
+            // Un abonné bloqué ne doit jamais bloquer castVote : il perd ses votes les plus anciens
+            publisher = new VotePublisher(VotePublisher.DEFAULT_CAPACITY, BufferPolicy.DROP_OLDEST,
+                    ForkJoinPool.commonPool());
+            addListener(publisher);
+        }
+        return publisher;
+    }
+
+    private void notifyListeners(Vote vote, RankedBallot ballot) {
         for (VoteListener listener : new ArrayList<>(listeners)) {
             try {
-                listener.onVote(vote);
+                if (ballot == null) {
+                    listener.onVote(vote);
+                } else {
+                    listener.onRankedBallot(vote, ballot);
+                }
             } catch (Exception e) {
                 System.err.printf("Error notifying listener: %s%n", e.getMessage());
             }
         }
     }
 
+    // Au démarrage : rejoue le journal dans le repository et les observateurs
+    public int recover() {
+        Generation g = generation;
+        if (g.votes instanceof WalVoteRepository wal) {
+            int recovered = wal.recover(vote -> {
+                VoterRepository.VoterSlot slot = g.voters.findSlot(vote.getVoterId());
+                if (slot != null) {
+                    g.statusIndex.markVoted(g.statusIndex.ordinalOf(slot));
+                }
+                if (Candidate.isWriteIn(vote.getCandidateId()) && vote.getCandidateName() != null) {
+                    g.writeInNames.putIfAbsent(vote.getCandidateId(), vote.getCandidateName());
+                }
+                g.pairwise.onVote(vote);
+                notifyListeners(vote, null);
+            });
+            System.out.printf("[SYSTEM] %d votes recovered from write-ahead log%n", recovered);
+            return recovered;
+        }
+        return 0;
+    }
+
+    // Une seule bascule de référence ; les votes en cours finissent sur l'ancienne génération
+    // Génération sur laquelle écrire ; sans fournisseurs, l'écriture est comptée pour que
+    // reset() ne vide pas les repositories sous elle
+    private Generation enter() {
+        if (voteRepositories != null) {
+            return generation;
+        }
+        while (true) {
+            Generation g = generation;
+            g.writers.increment();
+            if (!g.retired) {
+                return g;
+            }
+            g.writers.decrement();
+            // Vidage en cours : il se termine sous ce moniteur
+            synchronized (this) {
+            }
+        }
+    }
+
+    private void leave(Generation g) {
+        if (voteRepositories == null) {
+            g.writers.decrement();
+        }
+    }
+
     public void reset() {
-        voteRepository.clear();
-        candidateRepository.clear();
-        voterRepository.clear();
+        Generation old;
+        synchronized (this) {
+            old = generation;
+            if (voteRepositories != null) {
+                generation = newGeneration(old.epoch + 1);
+            } else {
+                // Les écritures en cours finissent avant le vidage ; les suivantes attendent
+                // sur ce moniteur puis visent la nouvelle génération
+                old.retired = true;
+                while (old.writers.sum() != 0) {
+                    Thread.onSpinWait();
+                }
+                old.votes.clear();
+                old.candidates.clear();
+                old.voters.clear();
+                generation = new Generation(old.epoch + 1, old.votes, old.candidates, old.voters);
+            }
+            pollsOpen = true;
+        }
+        for (VoteListener listener : new ArrayList<>(listeners)) {
+            try {
+                listener.onReset();
+            } catch (Exception e) {
+                System.err.printf("Error notifying listener: %s%n", e.getMessage());
+            }
+        }
+        if (voteRepositories != null) {
+            Thread.ofPlatform().daemon().name("vote-generation-reclaimer").start(() -> reclaim(old));
+        }
         System.out.println("[SYSTEM] All data cleared");
     }
+
+    // Vide l'ancienne génération hors du chemin critique (grands tableaux, fichiers)
+    private static void reclaim(Generation old) {
+        for (Object repository : List.of(old.votes, old.candidates, old.voters)) {
+            try {
+                if (repository instanceof AutoCloseable closeable) {
+                    closeable.close();
+                } else if (repository instanceof VoteRepository votes) {
+                    votes.clear();
+                } else if (repository instanceof CandidateRepository candidates) {
+                    candidates.clear();
+                } else if (repository instanceof VoterRepository voters) {
+                    voters.clear();
+                }
+            } catch (Exception e) {
+                System.err.printf("Error reclaiming generation %d: %s%n", old.epoch, e.getMessage());
+            }
+        }
+        old.statusIndex.clear();
+    }
 }
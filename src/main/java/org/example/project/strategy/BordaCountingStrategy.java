@@ -0,0 +1,56 @@
+package org.example.project.strategy;
+
+import org.example.project.model.Vote;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Borda : un candidat marque un point par adversaire classé après lui sur chaque
+ * bulletin, soit la somme de sa ligne dans la matrice de préférences.
+ */
+public class BordaCountingStrategy implements CountingStrategy {
+
+    private static final Function<PairwiseMatrix, Map<String, Integer>> SCORER = BordaCountingStrategy::score;
+
+    @Override
+    public Map<String, Integer> count(List<Vote> votes) {
+        VoteAccumulator accumulator = newAccumulator();
+        votes.forEach(accumulator::accept);
+        return accumulator.result();
+    }
+
+    @Override
+    public VoteAccumulator newAccumulator() {
+        return new MatrixAccumulator(SCORER);
+    }
+
+    @Override
+    public boolean isPairwise() {
+        return true;
+    }
+
+    @Override
+    public Map<String, Integer> scorePairwise(PairwiseMatrix matrix) {
+        return score(matrix);
+    }
+
+    // O(candidats²), quel que soit le nombre de bulletins
+    public static Map<String, Integer> score(PairwiseMatrix matrix) {
+        int n = matrix.size();
+        Map<String, Integer> results = new LinkedHashMap<>();
+        for (int a = 0; a < n; a++) {
+            long points = 0;
+            for (int b = 0; b < n; b++) {
+                points += matrix.preference(a, b);
+            }
+            results.put(matrix.getCandidateIds().get(a), Math.toIntExact(points));
+        }
+        return results;
+    }
+
+    @Override
+    public String getName() {
+        return "Borda Count";
+    }
+}
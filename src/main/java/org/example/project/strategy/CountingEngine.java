@@ -0,0 +1,119 @@
+package org.example.project.strategy;
+
+import org.example.project.model.Vote;
+
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * Évalue plusieurs stratégies en un seul passage sur les votes : chaque vote
+ * est remis à l'accumulateur de chaque stratégie.
+ */
+public class CountingEngine {
+
+    public record Outcome(CountingStrategy strategy, Map<String, Integer> results, String winnerId) {
+    }
+
+    private final List<CountingStrategy> strategies;
+
+    public CountingEngine(List<CountingStrategy> strategies) {
+        if (strategies == null || strategies.isEmpty()) {
+            throw new IllegalArgumentException("Strategies cannot be null or empty");
+        }
+        for (CountingStrategy strategy : strategies) {
+            if (strategy == null) {
+                throw new IllegalArgumentException("Counting strategy cannot be null");
+            }
+        }
+        this.strategies = List.copyOf(strategies);
+    }
+
+    public List<CountingStrategy> getStrategies() {
+        return strategies;
+    }
+
+    // Vrai si toutes les stratégies peuvent se contenter des totaux par candidat
+    public boolean isTallyBased() {
+        for (CountingStrategy strategy : strategies) {
+            if (!strategy.isTallyBased()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public List<Outcome> count(Stream<Vote> votes) {
+        Accumulation accumulation = start();
+        votes.forEachOrdered(accumulation::accept);
+        return accumulation.finish();
+    }
+
+    public List<Outcome> fromTallies(Map<String, Integer> tallies) {
+        if (!isTallyBased()) {
+            throw new IllegalStateException("Not every strategy can count from tallies");
+        }
+        List<Outcome> outcomes = new ArrayList<>(strategies.size());
+        for (CountingStrategy strategy : strategies) {
+            Map<String, Integer> results = new HashMap<>(tallies);
+            outcomes.add(new Outcome(strategy, results, winnerOf(results)));
+        }
+        return outcomes;
+    }
+
+    public Accumulation start() {
+        return new Accumulation();
+    }
+
+    // Premier candidat au score maximal, dans l'ordre d'itération de la map
+    public static String winnerOf(Map<String, Integer> results) {
+        String winner = null;
+        int best = Integer.MIN_VALUE;
+        for (Map.Entry<String, Integer> entry : results.entrySet()) {
+            if (winner == null || entry.getValue() > best) {
+                winner = entry.getKey();
+                best = entry.getValue();
+            }
+        }
+        return winner;
+    }
+
+    /**
+     * Comptage en cours ; des accumulations sur des tranches consécutives
+     * se fusionnent dans l'ordre avec {@link #merge(Accumulation)}.
+     */
+    public final class Accumulation {
+
+        private final CountingEngine engine = CountingEngine.this;
+        private final VoteAccumulator[] accumulators = new VoteAccumulator[strategies.size()];
+
+        private Accumulation() {
+            for (int i = 0; i < accumulators.length; i++) {
+                accumulators[i] = strategies.get(i).newAccumulator();
+            }
+        }
+
+        public void accept(Vote vote) {
+            for (VoteAccumulator accumulator : accumulators) {
+                accumulator.accept(vote);
+            }
+        }
+
+        public void merge(Accumulation later) {
+            if (later.engine != engine) {
+                throw new IllegalArgumentException("Cannot merge accumulations of different engines");
+            }
+            for (int i = 0; i < accumulators.length; i++) {
+                accumulators[i].merge(later.accumulators[i]);
+            }
+        }
+
+        public List<Outcome> finish() {
+            List<Outcome> outcomes = new ArrayList<>(accumulators.length);
+            for (int i = 0; i < accumulators.length; i++) {
+                Map<String, Integer> results = accumulators[i].result();
+                outcomes.add(new Outcome(strategies.get(i), results, winnerOf(results)));
+            }
+            return outcomes;
+        }
+    }
+}
@@ -5,10 +5,37 @@ import org.example.project.model.Vote;
 
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 public interface CountingStrategy {
 
     Map<String, Integer> count(List<Vote> votes);
 
+    // Par défaut, les votes sont conservés puis passés à count() ; à redéfinir pour compter au fil de l'eau
+    default VoteAccumulator newAccumulator() {
+        return new ListVoteAccumulator(this);
+    }
+
+    // Comptage sur un flux dans l'ordre d'ajout, en un seul passage
+    default Map<String, Integer> countInOrder(Stream<Vote> votes) {
+        VoteAccumulator accumulator = newAccumulator();
+        votes.forEachOrdered(accumulator::accept);
+        return accumulator.result();
+    }
+
+    // Vrai si le résultat ne dépend que du nombre de votes par candidat
+    default boolean isTallyBased() {
+        return false;
+    }
+
+    // Vrai si le résultat se calcule depuis une matrice de préférences tenue à jour
+    default boolean isPairwise() {
+        return false;
+    }
+
+    default Map<String, Integer> scorePairwise(PairwiseMatrix matrix) {
+        throw new UnsupportedOperationException(getName() + " does not count from a pairwise matrix");
+    }
+
     String getName();
 }
@@ -0,0 +1,34 @@
+package org.example.project.strategy;
+
+import org.example.project.model.Vote;
+
+import java.util.*;
+
+// Repli pour les stratégies sans accumulateur : garde les votes et délègue à count()
+class ListVoteAccumulator implements VoteAccumulator {
+
+    private final CountingStrategy strategy;
+    private final List<Vote> votes = new ArrayList<>();
+
+    ListVoteAccumulator(CountingStrategy strategy) {
+        this.strategy = strategy;
+    }
+
+    @Override
+    public void accept(Vote vote) {
+        votes.add(vote);
+    }
+
+    @Override
+    public void merge(VoteAccumulator other) {
+        if (!(other instanceof ListVoteAccumulator list) || list.strategy != strategy) {
+            throw new IllegalArgumentException("Cannot merge accumulators of different strategies");
+        }
+        votes.addAll(list.votes);
+    }
+
+    @Override
+    public Map<String, Integer> result() {
+        return strategy.count(votes);
+    }
+}
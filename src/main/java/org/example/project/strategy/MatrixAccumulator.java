@@ -0,0 +1,35 @@
+package org.example.project.strategy;
+
+import org.example.project.model.Vote;
+
+import java.util.Map;
+import java.util.function.Function;
+
+// Chaque vote simple devient un bulletin à un choix dans la matrice de préférences
+class MatrixAccumulator implements VoteAccumulator {
+
+    private final PairwiseMatrix matrix = new PairwiseMatrix();
+    private final Function<PairwiseMatrix, Map<String, Integer>> scorer;
+
+    MatrixAccumulator(Function<PairwiseMatrix, Map<String, Integer>> scorer) {
+        this.scorer = scorer;
+    }
+
+    @Override
+    public void accept(Vote vote) {
+        matrix.add(vote.getCandidateId());
+    }
+
+    @Override
+    public void merge(VoteAccumulator other) {
+        if (!(other instanceof MatrixAccumulator later) || later.scorer != scorer) {
+            throw new IllegalArgumentException("Cannot merge accumulators of different strategies");
+        }
+        matrix.merge(later.matrix);
+    }
+
+    @Override
+    public Map<String, Integer> result() {
+        return scorer.apply(matrix);
+    }
+}
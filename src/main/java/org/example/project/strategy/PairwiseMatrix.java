@@ -0,0 +1,171 @@
+package org.example.project.strategy;
+
+import org.example.project.model.RankedBallot;
+
+import java.util.*;
+
+/**
+ * Matrice de préférences par paires, tenue à jour bulletin par bulletin.
+ * On ne stocke que above[a][b] (a classé avant b, tous deux classés) et le
+ * nombre de bulletins classant a ; un candidat classé bat tous les non-classés :
+ * préférence(a, b) = ranked[a] - above[b][a]. Le coût des résultats ne dépend
+ * donc que du nombre de candidats. Non thread-safe : une matrice par fragment,
+ * puis {@link #merge(PairwiseMatrix)}.
+ */
+public class PairwiseMatrix {
+
+    private final Map<String, Integer> ordinals = new HashMap<>();
+    private final List<String> candidateIds = new ArrayList<>();
+    private long[] above = new long[0];
+    private long[] ranked = new long[0];
+    private int capacity;
+    private long ballots;
+
+    public void add(RankedBallot ballot) {
+        addRanking(positionsOf(ballot), 1);
+    }
+
+    // Retire un bulletin ajouté auparavant (vote changé ou retiré)
+    public void remove(RankedBallot ballot) {
+        addRanking(positionsOf(ballot), -1);
+    }
+
+    // Bulletin à un seul choix : utilisé pour les votes simples
+    public void add(String candidateId) {
+        add(candidateId, 1);
+    }
+
+    // copies bulletins à un seul choix (négatif pour en retirer)
+    public void add(String candidateId, long copies) {
+        if (candidateId == null || candidateId.isBlank()) {
+            throw new IllegalArgumentException("Candidate ID cannot be null or blank");
+        }
+        addRanking(new int[]{ordinalOf(candidateId)}, copies);
+    }
+
+    private int[] positionsOf(RankedBallot ballot) {
+        if (ballot == null) {
+            throw new IllegalArgumentException("Ballot cannot be null");
+        }
+        List<String> ranking = ballot.getRanking();
+        int[] positions = new int[ranking.size()];
+        for (int i = 0; i < positions.length; i++) {
+            positions[i] = ordinalOf(ranking.get(i));
+        }
+        return positions;
+    }
+
+    private void addRanking(int[] positions, long weight) {
+        for (int i = 0; i < positions.length; i++) {
+            int row = positions[i] * capacity;
+            ranked[positions[i]] += weight;
+            for (int j = i + 1; j < positions.length; j++) {
+                above[row + positions[j]] += weight;
+            }
+        }
+        ballots += weight;
+    }
+
+    private int ordinalOf(String candidateId) {
+        Integer ordinal = ordinals.get(candidateId);
+        if (ordinal == null) {
+            ordinal = candidateIds.size();
+            if (ordinal == capacity) {
+                grow(Math.max(8, capacity * 2));
+            }
+            ordinals.put(candidateId, ordinal);
+            candidateIds.add(candidateId);
+        }
+        return ordinal;
+    }
+
+    private void grow(int newCapacity) {
+        long[] grown = new long[newCapacity * newCapacity];
+        for (int row = 0; row < capacity; row++) {
+            System.arraycopy(above, row * capacity, grown, row * newCapacity, capacity);
+        }
+        above = grown;
+        ranked = Arrays.copyOf(ranked, newCapacity);
+        capacity = newCapacity;
+    }
+
+    // Ajoute les bulletins de other ; les candidats sont réalignés par identifiant
+    public void merge(PairwiseMatrix other) {
+        if (other == null) {
+            throw new IllegalArgumentException("Matrix cannot be null");
+        }
+        int size = other.candidateIds.size();
+        int[] mapping = new int[size];
+        for (int i = 0; i < size; i++) {
+            mapping[i] = ordinalOf(other.candidateIds.get(i));
+        }
+        for (int i = 0; i < size; i++) {
+            int row = mapping[i] * capacity;
+            int otherRow = i * other.capacity;
+            ranked[mapping[i]] += other.ranked[i];
+            for (int j = 0; j < size; j++) {
+                above[row + mapping[j]] += other.above[otherRow + j];
+            }
+        }
+        ballots += other.ballots;
+    }
+
+    // Construit une matrice par fragment en parallèle, puis les fusionne
+    public static PairwiseMatrix fromShards(List<? extends Collection<RankedBallot>> shards) {
+        if (shards == null) {
+            throw new IllegalArgumentException("Shards cannot be null");
+        }
+        return shards.parallelStream()
+                .map(shard -> {
+                    PairwiseMatrix matrix = new PairwiseMatrix();
+                    shard.forEach(matrix::add);
+                    return matrix;
+                })
+                .reduce(new PairwiseMatrix(), (left, right) -> {
+                    PairwiseMatrix merged = new PairwiseMatrix();
+                    merged.merge(left);
+                    merged.merge(right);
+                    return merged;
+                });
+    }
+
+    public List<String> getCandidateIds() {
+        return Collections.unmodifiableList(candidateIds);
+    }
+
+    public int size() {
+        return candidateIds.size();
+    }
+
+    public long getBallotCount() {
+        return ballots;
+    }
+
+    // Nombre de bulletins préférant a à b
+    public long preference(int a, int b) {
+        if (a == b) {
+            return 0;
+        }
+        return ranked[a] - above[b * capacity + a];
+    }
+
+    public long preference(String a, String b) {
+        Integer first = ordinals.get(a);
+        Integer second = ordinals.get(b);
+        if (first == null || second == null) {
+            return 0;
+        }
+        return preference(first, second);
+    }
+
+    public long[][] preferences() {
+        int n = size();
+        long[][] d = new long[n][n];
+        for (int a = 0; a < n; a++) {
+            for (int b = 0; b < n; b++) {
+                d[a][b] = preference(a, b);
+            }
+        }
+        return d;
+    }
+}
@@ -18,6 +18,33 @@ public class PluralityCountingStrategy implements CountingStrategy {
         return results;
     }
 
+    @Override
+    public VoteAccumulator newAccumulator() {
+        return new VoteAccumulator() {
+            private final Map<String, Integer> results = new HashMap<>();
+
+            @Override
+            public void accept(Vote vote) {
+                results.merge(vote.getCandidateId(), 1, Integer::sum);
+            }
+
+            @Override
+            public void merge(VoteAccumulator other) {
+                other.result().forEach((candidateId, count) -> results.merge(candidateId, count, Integer::sum));
+            }
+
+            @Override
+            public Map<String, Integer> result() {
+                return new HashMap<>(results);
+            }
+        };
+    }
+
+    @Override
+    public boolean isTallyBased() {
+        return true;
+    }
+
     @Override
     public String getName() {
         return "Plurality (Simple Majority)";
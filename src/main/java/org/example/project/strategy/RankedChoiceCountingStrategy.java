@@ -6,12 +6,19 @@ import java.util.*;
 
 public class RankedChoiceCountingStrategy implements CountingStrategy {
 
+    private static final Comparator<Vote> CHRONOLOGICAL =
+            Comparator.comparingLong(Vote::getTimestamp).thenComparingLong(Vote::getSequence);
+
     @Override
     public Map<String, Integer> count(List<Vote> votes) {
         Map<String, Integer> results = new HashMap<>();
 
-        List<Vote> sortedVotes = new ArrayList<>(votes);
-        sortedVotes.sort(Comparator.comparingLong(Vote::getTimestamp));
+        // Les repositories rendent les votes dans l'ordre d'insertion : on ne trie qu'en cas de désordre
+        List<Vote> sortedVotes = votes;
+        if (!isChronological(votes)) {
+            sortedVotes = new ArrayList<>(votes);
+            sortedVotes.sort(CHRONOLOGICAL);
+        }
 
         for (int i = 0; i < sortedVotes.size(); i++) {
             Vote vote = sortedVotes.get(i);
@@ -22,6 +29,53 @@ public class RankedChoiceCountingStrategy implements CountingStrategy {
         return results;
     }
 
+    // Le flux est déjà dans l'ordre d'ajout : ni copie ni tri, le rang donne le poids
+    @Override
+    public VoteAccumulator newAccumulator() {
+        return new RankAccumulator();
+    }
+
+    private static final class RankAccumulator implements VoteAccumulator {
+        private final Map<String, Integer> weights = new HashMap<>();
+        private final Map<String, Integer> counts = new HashMap<>();
+        private int seen;
+
+        @Override
+        public void accept(Vote vote) {
+            seen++;
+            weights.merge(vote.getCandidateId(), seen, Integer::sum);
+            counts.merge(vote.getCandidateId(), 1, Integer::sum);
+        }
+
+        @Override
+        public void merge(VoteAccumulator other) {
+            if (!(other instanceof RankAccumulator later)) {
+                throw new IllegalArgumentException("Cannot merge accumulators of different strategies");
+            }
+            // Chaque vote de later est décalé de seen rangs
+            later.weights.forEach((candidateId, weight) -> weights.merge(candidateId,
+                    weight + seen * later.counts.get(candidateId), Integer::sum));
+            later.counts.forEach((candidateId, count) -> counts.merge(candidateId, count, Integer::sum));
+            seen += later.seen;
+        }
+
+        @Override
+        public Map<String, Integer> result() {
+            return new HashMap<>(weights);
+        }
+    }
+
+    private static boolean isChronological(List<Vote> votes) {
+        Vote previous = null;
+        for (Vote vote : votes) {
+            if (previous != null && CHRONOLOGICAL.compare(previous, vote) > 0) {
+                return false;
+            }
+            previous = vote;
+        }
+        return true;
+    }
+
     @Override
     public String getName() {
         return "Ranked Choice (Weighted by Order)";
@@ -0,0 +1,81 @@
+package org.example.project.strategy;
+
+import org.example.project.model.Vote;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Méthode de Schulze (Condorcet) : chemins les plus forts entre candidats sur
+ * la matrice de préférences. Le score d'un candidat est le nombre d'adversaires
+ * qu'il bat par chemin le plus fort ; un vainqueur de Condorcet les bat tous.
+ */
+public class SchulzeCountingStrategy implements CountingStrategy {
+
+    private static final Function<PairwiseMatrix, Map<String, Integer>> SCORER = SchulzeCountingStrategy::score;
+
+    @Override
+    public Map<String, Integer> count(List<Vote> votes) {
+        VoteAccumulator accumulator = newAccumulator();
+        votes.forEach(accumulator::accept);
+        return accumulator.result();
+    }
+
+    @Override
+    public VoteAccumulator newAccumulator() {
+        return new MatrixAccumulator(SCORER);
+    }
+
+    @Override
+    public boolean isPairwise() {
+        return true;
+    }
+
+    @Override
+    public Map<String, Integer> scorePairwise(PairwiseMatrix matrix) {
+        return score(matrix);
+    }
+
+    // O(candidats³) (Floyd-Warshall), quel que soit le nombre de bulletins
+    public static Map<String, Integer> score(PairwiseMatrix matrix) {
+        int n = matrix.size();
+        long[][] d = matrix.preferences();
+        long[][] p = new long[n][n];
+        for (int a = 0; a < n; a++) {
+            for (int b = 0; b < n; b++) {
+                if (a != b && d[a][b] > d[b][a]) {
+                    p[a][b] = d[a][b];
+                }
+            }
+        }
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                if (i == j) {
+                    continue;
+                }
+                for (int k = 0; k < n; k++) {
+                    if (i != k && j != k) {
+                        p[j][k] = Math.max(p[j][k], Math.min(p[j][i], p[i][k]));
+                    }
+                }
+            }
+        }
+
+        Map<String, Integer> results = new LinkedHashMap<>();
+        for (int a = 0; a < n; a++) {
+            int wins = 0;
+            for (int b = 0; b < n; b++) {
+                if (a != b && p[a][b] > p[b][a]) {
+                    wins++;
+                }
+            }
+            results.put(matrix.getCandidateIds().get(a), wins);
+        }
+        return results;
+    }
+
+    @Override
+    public String getName() {
+        return "Schulze (Condorcet)";
+    }
+}
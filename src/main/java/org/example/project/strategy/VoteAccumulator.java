@@ -0,0 +1,19 @@
+package org.example.project.strategy;
+
+import org.example.project.model.Vote;
+
+import java.util.Map;
+
+/**
+ * État de comptage incrémental d'une stratégie : les votes arrivent un par un
+ * dans l'ordre d'ajout, et deux accumulateurs de la même stratégie se fusionnent.
+ */
+public interface VoteAccumulator {
+
+    void accept(Vote vote);
+
+    // Ajoute les votes vus par other, qui suivent ceux déjà vus ici
+    void merge(VoteAccumulator other);
+
+    Map<String, Integer> result();
+}
@@ -0,0 +1,232 @@
+package org.example.project.tally;
+
+import org.example.project.model.District;
+import org.example.project.model.Vote;
+import org.example.project.observer.VoteListener;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+/**
+ * Décompte hiérarchique bureau → circonscription → région → total, mis à jour
+ * à chaque vote. Chaque niveau garde ses propres compteurs : une requête ne
+ * relit jamais les niveaux inférieurs, et les LongAdder évitent de sérialiser
+ * les votes sur le nœud racine.
+ */
+public class HierarchicalTally implements VoteListener {
+
+    private static final class Node {
+        final ConcurrentHashMap<String, Node> children = new ConcurrentHashMap<>();
+        volatile LongAdder[] counts = new LongAdder[0];
+
+        LongAdder counter(int ordinal) {
+            LongAdder[] current = counts;
+            if (ordinal < current.length) {
+                return current[ordinal];
+            }
+            synchronized (this) {
+                current = counts;
+                if (ordinal >= current.length) {
+                    LongAdder[] grown = Arrays.copyOf(current, Math.max(ordinal + 1, current.length * 2));
+                    for (int i = current.length; i < grown.length; i++) {
+                        grown[i] = new LongAdder();
+                    }
+                    counts = grown;
+                    current = grown;
+                }
+                return current[ordinal];
+            }
+        }
+
+        Node child(String name) {
+            return children.computeIfAbsent(name, key -> new Node());
+        }
+    }
+
+    private final Function<String, District> districtOf;
+    private final ConcurrentHashMap<String, Integer> ordinals = new ConcurrentHashMap<>();
+    private final List<String> candidateIds = new CopyOnWriteArrayList<>();
+    // Chemin racine → bureau mis en cache par bureau : un seul accès hash par vote
+    private final ConcurrentHashMap<District, Node[]> paths = new ConcurrentHashMap<>();
+    // Chemin retenu au vote : changement et retrait visent le bureau d'origine,
+    // même si l'électeur a été réaffecté depuis
+    private final ConcurrentHashMap<String, Node[]> castPaths = new ConcurrentHashMap<>();
+    // Un changement déplace un vote entre deux compteurs : les lecteurs ne voient
+    // jamais l'état intermédiaire ; les votes simples ne prennent pas ce verrou
+    private final ReadWriteLock changeLock = new ReentrantReadWriteLock();
+    private volatile Node root = new Node();
+
+    public HierarchicalTally(Function<String, District> districtOf) {
+        if (districtOf == null) {
+            throw new IllegalArgumentException("District lookup cannot be null");
+        }
+        this.districtOf = districtOf;
+    }
+
+    @Override
+    public void onVote(Vote vote) {
+        Node[] path = pathOf(districtOf(vote.getVoterId()));
+        castPaths.put(vote.getVoterId(), path);
+        add(path, vote, 1);
+    }
+
+    // Même électeur, donc même bureau : seul le candidat change
+    @Override
+    public void onVoteChanged(Vote previous, Vote current) {
+        Node[] path = castPathOf(previous.getVoterId());
+        changeLock.writeLock().lock();
+        try {
+            add(path, previous, -1);
+            add(path, current, 1);
+        } finally {
+            changeLock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onVoteRetracted(Vote vote) {
+        Node[] path = castPaths.remove(vote.getVoterId());
+        add(path != null ? path : pathOf(districtOf(vote.getVoterId())), vote, -1);
+    }
+
+    @Override
+    public void onReset() {
+        clear();
+    }
+
+    private void add(Node[] path, Vote vote, int delta) {
+        int ordinal = ordinalOf(vote.getCandidateId());
+        for (Node node : path) {
+            node.counter(ordinal).add(delta);
+        }
+    }
+
+    // Vote enregistré avant que ce décompte n'écoute : à défaut, le bureau actuel
+    private Node[] castPathOf(String voterId) {
+        Node[] path = castPaths.get(voterId);
+        if (path == null) {
+            path = pathOf(districtOf(voterId));
+            castPaths.put(voterId, path);
+        }
+        return path;
+    }
+
+    private District districtOf(String voterId) {
+        District district = districtOf.apply(voterId);
+        return district == null ? District.UNASSIGNED : district;
+    }
+
+    private int ordinalOf(String candidateId) {
+        Integer ordinal = ordinals.get(candidateId);
+        if (ordinal != null) {
+            return ordinal;
+        }
+        synchronized (candidateIds) {
+            return ordinals.computeIfAbsent(candidateId, id -> {
+                candidateIds.add(id);
+                return candidateIds.size() - 1;
+            });
+        }
+    }
+
+    private Node[] pathOf(District district) {
+        Node top = root;
+        Node[] path = paths.get(district);
+        if (path == null || path[0] != top) {
+            Node region = top.child(district.getRegion());
+            Node name = region.child(district.getName());
+            path = new Node[]{top, region, name, name.child(district.getPrecinct())};
+            paths.put(district, path);
+        }
+        return path;
+    }
+
+    public Map<String, Integer> total() {
+        return toMap(root);
+    }
+
+    public Map<String, Integer> region(String region) {
+        return toMap(find(region));
+    }
+
+    public Map<String, Integer> district(String region, String district) {
+        return toMap(find(region, district));
+    }
+
+    public Map<String, Integer> precinct(District precinct) {
+        if (precinct == null) {
+            throw new IllegalArgumentException("District cannot be null");
+        }
+        return toMap(find(precinct.getRegion(), precinct.getName(), precinct.getPrecinct()));
+    }
+
+    public long totalVotes() {
+        changeLock.readLock().lock();
+        try {
+            long total = 0;
+            for (LongAdder count : root.counts) {
+                total += count.sum();
+            }
+            return total;
+        } finally {
+            changeLock.readLock().unlock();
+        }
+    }
+
+    public Set<String> regions() {
+        return Set.copyOf(root.children.keySet());
+    }
+
+    public Set<String> districts(String region) {
+        Node node = find(region);
+        return node == null ? Set.of() : Set.copyOf(node.children.keySet());
+    }
+
+    public Set<String> precincts(String region, String district) {
+        Node node = find(region, district);
+        return node == null ? Set.of() : Set.copyOf(node.children.keySet());
+    }
+
+    public void clear() {
+        // Les votes en cours terminent sur l'ancien arbre, abandonné en bloc
+        root = new Node();
+        paths.clear();
+        castPaths.clear();
+    }
+
+    private Node find(String... names) {
+        Node node = root;
+        for (String name : names) {
+            if (name == null || node == null) {
+                return null;
+            }
+            node = node.children.get(name);
+        }
+        return node;
+    }
+
+    private Map<String, Integer> toMap(Node node) {
+        Map<String, Integer> results = new HashMap<>();
+        if (node == null) {
+            return results;
+        }
+        changeLock.readLock().lock();
+        try {
+            LongAdder[] counts = node.counts;
+            for (int i = 0; i < counts.length && i < candidateIds.size(); i++) {
+                int value = counts[i].intValue();
+                if (value > 0) {
+                    results.put(candidateIds.get(i), value);
+                }
+            }
+        } finally {
+            changeLock.readLock().unlock();
+        }
+        return results;
+    }
+}
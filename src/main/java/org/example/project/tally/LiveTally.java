@@ -0,0 +1,66 @@
+package org.example.project.tally;
+
+import org.example.project.model.Vote;
+import org.example.project.observer.VoteListener;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Décompte maintenu au fil des votes (Observer) : aucun recomptage nécessaire.
+ */
+public class LiveTally implements VoteListener {
+
+    private final ConcurrentHashMap<String, LongAdder> counts = new ConcurrentHashMap<>();
+
+    @Override
+    public void onVote(Vote vote) {
+        counts.computeIfAbsent(vote.getCandidateId(), id -> new LongAdder()).increment();
+    }
+
+    // Delta : aucun recomptage
+    @Override
+    public void onVoteChanged(Vote previous, Vote current) {
+        onVoteRetracted(previous);
+        onVote(current);
+    }
+
+    @Override
+    public void onVoteRetracted(Vote vote) {
+        counts.computeIfAbsent(vote.getCandidateId(), id -> new LongAdder()).decrement();
+    }
+
+    @Override
+    public void onReset() {
+        clear();
+    }
+
+    public long get(String candidateId) {
+        LongAdder count = counts.get(candidateId);
+        return count == null ? 0 : count.sum();
+    }
+
+    public long total() {
+        long total = 0;
+        for (LongAdder count : counts.values()) {
+            total += count.sum();
+        }
+        return total;
+    }
+
+    public Map<String, Integer> snapshot() {
+        Map<String, Integer> results = new HashMap<>();
+        counts.forEach((candidateId, count) -> {
+            int value = count.intValue();
+            if (value > 0) {
+                results.put(candidateId, value);
+            }
+        });
+        return results;
+    }
+
+    public void clear() {
+        counts.clear();
+    }
+}
@@ -0,0 +1,114 @@
+package org.example.project.tally;
+
+import org.example.project.model.Vote;
+import org.example.project.observer.VoteListener;
+import org.example.project.repo.CandidateIndex;
+import org.example.project.repo.SnapshotCandidateRepository;
+
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Décompte indexé par ordinal de candidat plutôt que par identifiant.
+ * Les ordinaux ne font que s'ajouter : un décompte reste valable pour toute
+ * version ultérieure de l'ensemble des candidats.
+ */
+public class OrdinalTally implements VoteListener {
+
+    public record Snapshot(CandidateIndex candidates, long[] counts) {
+
+        public long candidateVersion() {
+            return candidates.getVersion();
+        }
+
+        public long get(int ordinal) {
+            return ordinal < counts.length ? counts[ordinal] : 0;
+        }
+
+        public Map<String, Integer> toMap() {
+            Map<String, Integer> results = new HashMap<>();
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] > 0) {
+                    results.put(candidates.get(i).getId(), (int) counts[i]);
+                }
+            }
+            return results;
+        }
+    }
+
+    private final SnapshotCandidateRepository candidates;
+    // Agrandi par copie des références : les compteurs existants sont conservés
+    private volatile LongAdder[] counts = new LongAdder[0];
+
+    public OrdinalTally(SnapshotCandidateRepository candidates) {
+        if (candidates == null) {
+            throw new IllegalArgumentException("Candidate repository cannot be null");
+        }
+        this.candidates = candidates;
+    }
+
+    @Override
+    public void onVote(Vote vote) {
+        int ordinal = candidates.snapshot().ordinalOf(vote.getCandidateId());
+        if (ordinal >= 0) {
+            counter(ordinal).increment();
+        }
+    }
+
+    @Override
+    public void onVoteChanged(Vote previous, Vote current) {
+        onVoteRetracted(previous);
+        onVote(current);
+    }
+
+    @Override
+    public void onVoteRetracted(Vote vote) {
+        int ordinal = candidates.snapshot().ordinalOf(vote.getCandidateId());
+        if (ordinal >= 0) {
+            counter(ordinal).decrement();
+        }
+    }
+
+    @Override
+    public void onReset() {
+        clear();
+    }
+
+    private LongAdder counter(int ordinal) {
+        LongAdder[] current = counts;
+        if (ordinal < current.length) {
+            return current[ordinal];
+        }
+        synchronized (this) {
+            current = counts;
+            if (ordinal >= current.length) {
+                LongAdder[] grown = Arrays.copyOf(current, Math.max(ordinal + 1, current.length * 2));
+                for (int i = current.length; i < grown.length; i++) {
+                    grown[i] = new LongAdder();
+                }
+                counts = grown;
+                current = grown;
+            }
+            return current[ordinal];
+        }
+    }
+
+    public long get(int ordinal) {
+        LongAdder[] current = counts;
+        return ordinal >= 0 && ordinal < current.length ? current[ordinal].sum() : 0;
+    }
+
+    public Snapshot snapshot() {
+        CandidateIndex index = candidates.snapshot();
+        LongAdder[] current = counts;
+        long[] values = new long[Math.min(index.size(), current.length)];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = current[i].sum();
+        }
+        return new Snapshot(index, values);
+    }
+
+    public synchronized void clear() {
+        counts = new LongAdder[0];
+    }
+}
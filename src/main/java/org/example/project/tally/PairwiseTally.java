@@ -0,0 +1,86 @@
+package org.example.project.tally;
+
+import org.example.project.model.RankedBallot;
+import org.example.project.model.Vote;
+import org.example.project.observer.VoteListener;
+import org.example.project.strategy.PairwiseMatrix;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Matrice de préférences maintenue au fil des bulletins (Observer) : Borda et
+ * Schulze se calculent en O(candidats³) sans relire les votes. Les votes simples
+ * ne sont que comptés, sans verrou ; seuls les bulletins ordonnés touchent la matrice.
+ */
+public class PairwiseTally implements VoteListener {
+
+    private final ConcurrentHashMap<String, LongAdder> singleChoices = new ConcurrentHashMap<>();
+    // Gardée par this
+    private PairwiseMatrix rankedMatrix = new PairwiseMatrix();
+    // Bulletin ordonné courant de chaque électeur, pour le retirer s'il change
+    private final ConcurrentHashMap<String, RankedBallot> rankedBallots = new ConcurrentHashMap<>();
+
+    @Override
+    public void onVote(Vote vote) {
+        addSingleChoice(vote.getCandidateId());
+    }
+
+    // Chemin compact : aucun objet Vote n'a été créé
+    public void addSingleChoice(String candidateId) {
+        singleChoices.computeIfAbsent(candidateId, id -> new LongAdder()).increment();
+    }
+
+    @Override
+    public void onRankedBallot(Vote firstChoice, RankedBallot ballot) {
+        addBallot(ballot);
+    }
+
+    public synchronized void addBallot(RankedBallot ballot) {
+        rankedMatrix.add(ballot);
+        rankedBallots.put(ballot.getVoterId(), ballot);
+    }
+
+    // Delta : aucun recomptage
+    @Override
+    public void onVoteChanged(Vote previous, Vote current) {
+        onVoteRetracted(previous);
+        onVote(current);
+    }
+
+    @Override
+    public void onVoteRetracted(Vote vote) {
+        synchronized (this) {
+            RankedBallot ballot = rankedBallots.remove(vote.getVoterId());
+            if (ballot != null) {
+                rankedMatrix.remove(ballot);
+                return;
+            }
+        }
+        singleChoices.computeIfAbsent(vote.getCandidateId(), id -> new LongAdder()).decrement();
+    }
+
+    @Override
+    public void onReset() {
+        clear();
+    }
+
+    // Copie cohérente : matrice des bulletins ordonnés + bulletins à un seul choix
+    public synchronized PairwiseMatrix snapshot() {
+        PairwiseMatrix matrix = new PairwiseMatrix();
+        matrix.merge(rankedMatrix);
+        singleChoices.forEach((candidateId, count) -> {
+            long copies = count.sum();
+            if (copies != 0) {
+                matrix.add(candidateId, copies);
+            }
+        });
+        return matrix;
+    }
+
+    public synchronized void clear() {
+        singleChoices.clear();
+        rankedBallots.clear();
+        rankedMatrix = new PairwiseMatrix();
+    }
+}
@@ -0,0 +1,155 @@
+package org.example.project.tally;
+
+import org.example.project.model.Candidate;
+import org.example.project.model.Vote;
+import org.example.project.observer.VoteListener;
+
+import java.util.*;
+
+/**
+ * Candidats libres les plus cités, en mémoire bornée (algorithme Space-Saving) :
+ * au plus {@code capacity} compteurs quel que soit le nombre de noms distincts.
+ * Chaque estimation surestime d'au plus son erreur, et tout nom cité plus de
+ * total / capacity fois est forcément présent. Le décompte exact se fait à la
+ * certification, depuis les bulletins stockés.
+ */
+public class WriteInSketch implements VoteListener {
+
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    // Vrai nombre de votes dans [count - error, count]
+    public record Estimate(String candidateId, String name, long count, long error) {
+
+        public long lowerBound() {
+            return count - error;
+        }
+    }
+
+    private static final class Counter {
+        final String candidateId;
+        final String name;
+        long count;
+        long error;
+        int heapIndex;
+
+        Counter(String candidateId, String name) {
+            this.candidateId = candidateId;
+            this.name = name;
+        }
+    }
+
+    private final int capacity;
+    private final Map<String, Counter> counters;
+    // Tas min sur count : le compteur à remplacer est toujours à la racine
+    private final Counter[] heap;
+    private int size;
+    private long total;
+
+    public WriteInSketch() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public WriteInSketch(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.capacity = capacity;
+        this.counters = new HashMap<>(capacity * 2);
+        this.heap = new Counter[capacity];
+    }
+
+    @Override
+    public void onVote(Vote vote) {
+        if (Candidate.isWriteIn(vote.getCandidateId())) {
+            add(vote.getCandidateId(), vote.getCandidateName());
+        }
+    }
+
+    // Space-Saving ne sait pas décrémenter : changements et retraits sont repris à la certification
+    @Override
+    public void onReset() {
+        clear();
+    }
+
+    public synchronized void add(String candidateId, String name) {
+        if (candidateId == null || name == null) {
+            throw new IllegalArgumentException("Candidate ID and name cannot be null");
+        }
+        total++;
+        Counter counter = counters.get(candidateId);
+        if (counter == null) {
+            if (size < capacity) {
+                counter = new Counter(candidateId, name);
+                counter.heapIndex = size;
+                heap[size++] = counter;
+            } else {
+                // Le nouveau nom hérite du plus petit compteur, qui devient son erreur
+                Counter evicted = heap[0];
+                counters.remove(evicted.candidateId);
+                counter = new Counter(candidateId, name);
+                counter.count = evicted.count;
+                counter.error = evicted.count;
+                counter.heapIndex = 0;
+                heap[0] = counter;
+            }
+            counters.put(candidateId, counter);
+        }
+        counter.count++;
+        siftDown(counter.heapIndex);
+    }
+
+    private void siftDown(int index) {
+        Counter counter = heap[index];
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && heap[child + 1].count < heap[child].count) {
+                child++;
+            }
+            if (heap[child].count >= counter.count) {
+                break;
+            }
+            heap[index] = heap[child];
+            heap[index].heapIndex = index;
+            index = child;
+        }
+        heap[index] = counter;
+        counter.heapIndex = index;
+    }
+
+    public synchronized List<Estimate> top(int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("k cannot be negative");
+        }
+        List<Estimate> estimates = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Counter counter = heap[i];
+            estimates.add(new Estimate(counter.candidateId, counter.name, counter.count, counter.error));
+        }
+        estimates.sort(Comparator.comparingLong(Estimate::count).reversed()
+                .thenComparing(Estimate::candidateId));
+        return estimates.size() > k ? List.copyOf(estimates.subList(0, k)) : estimates;
+    }
+
+    // Borne de l'erreur de toute estimation : le plus petit compteur une fois la table pleine
+    public synchronized long maxError() {
+        return size < capacity ? 0 : heap[0].count;
+    }
+
+    public synchronized long getTotal() {
+        return total;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public synchronized void clear() {
+        counters.clear();
+        Arrays.fill(heap, 0, size, null);
+        size = 0;
+        total = 0;
+    }
+}
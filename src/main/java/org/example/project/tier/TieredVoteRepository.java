@@ -0,0 +1,461 @@
+package org.example.project.tier;
+
+import org.example.project.export.ColumnarVoteReader;
+import org.example.project.export.ColumnarVoteWriter;
+import org.example.project.model.Vote;
+import org.example.project.repo.VoteRepository;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.ref.Cleaner;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Repository à deux niveaux : les votes récents restent en mémoire, les plus
+ * anciens sont déversés par lots immuables dans des segments en colonnes sur
+ * disque, fusionnés en arrière-plan. Les totaux par candidat sont tenus à jour
+ * à l'insertion : le comptage majoritaire ne relit jamais le disque.
+ * Le répertoire est une zone de débordement, pas un stockage durable (voir WAL).
+ */
+public class TieredVoteRepository implements VoteRepository, AutoCloseable {
+
+    public static final int DEFAULT_HOT_CAPACITY = 64 * 1024;
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 8;
+    // Au-delà, save() attend l'écriture d'un lot : la mémoire reste bornée
+    private static final int MAX_PENDING_BATCHES = 2;
+    // Libère le lecteur d'un flux abandonné sans close() ni lecture complète
+    private static final Cleaner READER_CLEANER = Cleaner.create();
+
+    private record Segment(Path path, int votes) {
+    }
+
+    private record Snapshot(List<Segment> segments, List<Vote> memory) {
+    }
+
+    private final Path directory;
+    private final int hotCapacity;
+    private final int compactionThreshold;
+    private final ExecutorService spiller;
+
+    private List<Vote> hot;
+    private final Deque<List<Vote>> pending = new ArrayDeque<>();
+    private final List<Segment> segments = new ArrayList<>();
+    // Segments remplacés encore lus par un parcours en cours
+    private final List<Path> obsolete = new ArrayList<>();
+    private int activeReaders;
+    private long segmentCounter;
+    private int size;
+    // Jamais remise à zéro : une séquence ne désigne jamais deux votes
+    private long lastSequence;
+    private boolean compactionEnabled = true;
+    private IOException spillFailure;
+    private boolean closed;
+
+    private final Set<String> voterIds = ConcurrentHashMap.newKeySet();
+    private final Map<String, LongAdder> tallies = new ConcurrentHashMap<>();
+
+    public TieredVoteRepository(Path directory) throws IOException {
+        this(directory, DEFAULT_HOT_CAPACITY, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    public TieredVoteRepository(Path directory, int hotCapacity, int compactionThreshold) throws IOException {
+        if (directory == null) {
+            throw new IllegalArgumentException("Directory cannot be null");
+        }
+        if (hotCapacity <= 0) {
+            throw new IllegalArgumentException("Hot capacity must be positive");
+        }
+        if (compactionThreshold < 2) {
+            throw new IllegalArgumentException("Compaction threshold must be at least 2");
+        }
+        this.directory = Files.createDirectories(directory);
+        this.hotCapacity = hotCapacity;
+        this.compactionThreshold = compactionThreshold;
+        this.hot = new ArrayList<>(hotCapacity);
+        this.spiller = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "tier-spiller");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public void save(Vote vote) {
+        if (vote == null) {
+            throw new IllegalArgumentException("Vote cannot be null");
+        }
+        synchronized (this) {
+            while (pending.size() >= MAX_PENDING_BATCHES && spillFailure == null && !closed) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while waiting for spill", e);
+                }
+            }
+            if (closed) {
+                throw new IllegalStateException("Repository is closed");
+            }
+            if (spillFailure != null) {
+                throw new UncheckedIOException("Cannot spill votes to " + directory, spillFailure);
+            }
+            lastSequence = Math.max(lastSequence, vote.stampSequence(lastSequence + 1));
+            hot.add(vote);
+            size++;
+            voterIds.add(vote.getVoterId());
+            tallies.computeIfAbsent(vote.getCandidateId(), id -> new LongAdder()).increment();
+            if (hot.size() >= hotCapacity) {
+                seal();
+            }
+        }
+    }
+
+    private void seal() {
+        List<Vote> batch = Collections.unmodifiableList(hot);
+        hot = new ArrayList<>(hotCapacity);
+        pending.addLast(batch);
+        spiller.execute(() -> spill(batch));
+    }
+
+    private void spill(List<Vote> batch) {
+        Path path;
+        synchronized (this) {
+            // Fermé entre-temps : plus rien ne doit partir sur disque
+            if (closed || pending.peekFirst() != batch) {
+                return;
+            }
+            path = nextSegmentPath();
+        }
+        try (ColumnarVoteWriter writer = new ColumnarVoteWriter(path)) {
+            for (Vote vote : batch) {
+                writer.write(vote);
+            }
+        } catch (IOException e) {
+            deleteQuietly(path);
+            synchronized (this) {
+                // Le lot reste en mémoire, aucun vote n'est perdu
+                spillFailure = e;
+                notifyAll();
+            }
+            return;
+        }
+        synchronized (this) {
+            if (pending.peekFirst() != batch) {
+                // Vidé pendant l'écriture
+                deleteQuietly(path);
+                return;
+            }
+            pending.removeFirst();
+            segments.add(new Segment(path, batch.size()));
+            notifyAll();
+            if (compactionEnabled && !closed && segments.size() >= compactionThreshold) {
+                spiller.execute(this::compact);
+            }
+        }
+    }
+
+    // Fusionne les plus anciens segments en un seul fichier
+    private void compact() {
+        List<Segment> merging;
+        Path path;
+        synchronized (this) {
+            if (closed || segments.size() < compactionThreshold) {
+                return;
+            }
+            merging = new ArrayList<>(segments.subList(0, compactionThreshold));
+            path = nextSegmentPath();
+            activeReaders++;
+        }
+        int votes = 0;
+        try (ColumnarVoteWriter writer = new ColumnarVoteWriter(path)) {
+            for (Segment segment : merging) {
+                read(segment, vote -> {
+                    try {
+                        writer.write(vote);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                votes += segment.votes();
+            }
+        } catch (IOException | UncheckedIOException e) {
+            deleteQuietly(path);
+            synchronized (this) {
+                // Les segments restent lisibles tels quels
+                compactionEnabled = false;
+                releaseReader();
+            }
+            return;
+        }
+        synchronized (this) {
+            releaseReader();
+            if (segments.size() < merging.size() || !segments.subList(0, merging.size()).equals(merging)) {
+                deleteQuietly(path);
+                return;
+            }
+            segments.subList(0, merging.size()).clear();
+            segments.add(0, new Segment(path, votes));
+            merging.forEach(segment -> retire(segment.path()));
+            if (!closed && segments.size() >= compactionThreshold) {
+                spiller.execute(this::compact);
+            }
+        }
+    }
+
+    private Path nextSegmentPath() {
+        return directory.resolve(String.format("segment-%06d.col", ++segmentCounter));
+    }
+
+    private void retire(Path path) {
+        if (activeReaders == 0) {
+            deleteQuietly(path);
+        } else {
+            obsolete.add(path);
+        }
+    }
+
+    private synchronized Snapshot acquire() {
+        if (closed) {
+            throw new IllegalStateException("Repository is closed");
+        }
+        activeReaders++;
+        List<Vote> memory = new ArrayList<>(hot.size() + pending.size() * hotCapacity);
+        pending.forEach(memory::addAll);
+        memory.addAll(hot);
+        return new Snapshot(new ArrayList<>(segments), memory);
+    }
+
+    private synchronized void releaseReader() {
+        if (--activeReaders == 0) {
+            obsolete.forEach(TieredVoteRepository::deleteQuietly);
+            obsolete.clear();
+        }
+    }
+
+    private static void read(Segment segment, Consumer<? super Vote> action) {
+        try (ColumnarVoteReader reader = new ColumnarVoteReader(segment.path())) {
+            reader.forEach(action);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read segment " + segment.path(), e);
+        }
+    }
+
+    private static List<Vote> readAll(Segment segment) {
+        List<Vote> votes = new ArrayList<>(segment.votes());
+        read(segment, votes::add);
+        return votes;
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ignored) {
+            // Fichier de débordement : au pire il reste dans le répertoire
+        }
+    }
+
+    @Override
+    public List<Vote> findAll() {
+        List<Vote> votes = new ArrayList<>(count());
+        forEach(votes::add);
+        return votes;
+    }
+
+    @Override
+    public void forEach(Consumer<? super Vote> action) {
+        new TierSpliterator(acquire()).forEachRemaining(action);
+    }
+
+    @Override
+    public Stream<Vote> streamInOrder() {
+        TierSpliterator spliterator = new TierSpliterator(acquire());
+        return StreamSupport.stream(spliterator, false).onClose(spliterator::finish);
+    }
+
+    @Override
+    public Optional<Map<String, Integer>> tallies() {
+        Map<String, Integer> results = new HashMap<>();
+        tallies.forEach((candidateId, count) -> results.put(candidateId, count.intValue()));
+        return Optional.of(results);
+    }
+
+    @Override
+    public synchronized int count() {
+        return size;
+    }
+
+    @Override
+    public synchronized void clear() {
+        hot = new ArrayList<>(hotCapacity);
+        pending.clear();
+        segments.forEach(segment -> retire(segment.path()));
+        segments.clear();
+        size = 0;
+        spillFailure = null;
+        voterIds.clear();
+        tallies.clear();
+        notifyAll();
+    }
+
+    @Override
+    public boolean hasVoted(String voterId) {
+        if (voterId == null) {
+            return false;
+        }
+        return voterIds.contains(voterId);
+    }
+
+    public synchronized int getHotCount() {
+        int count = hot.size();
+        for (List<Vote> batch : pending) {
+            count += batch.size();
+        }
+        return count;
+    }
+
+    public synchronized int getSegmentCount() {
+        return segments.size();
+    }
+
+    public synchronized int getSpilledCount() {
+        int count = 0;
+        for (Segment segment : segments) {
+            count += segment.votes();
+        }
+        return count;
+    }
+
+    // Attend que les lots scellés soient écrits et les fusions terminées
+    public void awaitIdle() throws InterruptedException {
+        while (true) {
+            try {
+                spiller.submit(() -> { }).get();
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Spill task failed", e.getCause());
+            }
+            synchronized (this) {
+                boolean spilled = pending.isEmpty() || spillFailure != null;
+                boolean compacted = !compactionEnabled || segments.size() < compactionThreshold;
+                if (spilled && compacted) {
+                    return;
+                }
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            notifyAll();
+        }
+        spiller.shutdown();
+        try {
+            spiller.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            // Les segments sont supprimés quand même ; l'appelant garde le signal
+            Thread.currentThread().interrupt();
+        }
+        synchronized (this) {
+            segments.forEach(segment -> deleteQuietly(segment.path()));
+            segments.clear();
+            obsolete.forEach(TieredVoteRepository::deleteQuietly);
+            obsolete.clear();
+        }
+    }
+
+    /**
+     * Parcours segments puis mémoire ; un segment n'est chargé entièrement que
+     * pour tryAdvance, forEachRemaining le lit en flux. Le lecteur est libéré à
+     * la fin du parcours, à la fermeture du flux, ou quand le parcours abandonné
+     * devient inaccessible.
+     */
+    private final class TierSpliterator implements Spliterator<Vote> {
+
+        private final Snapshot snapshot;
+        private int segmentIndex;
+        private Iterator<Vote> current = Collections.emptyIterator();
+        private boolean memoryStarted;
+        private final Cleaner.Cleanable release;
+
+        TierSpliterator(Snapshot snapshot) {
+            this.snapshot = snapshot;
+            this.release = READER_CLEANER.register(this, new ReaderRelease(TieredVoteRepository.this));
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Vote> action) {
+            while (!current.hasNext()) {
+                if (segmentIndex < snapshot.segments().size()) {
+                    current = readAll(snapshot.segments().get(segmentIndex++)).iterator();
+                } else if (!memoryStarted) {
+                    memoryStarted = true;
+                    current = snapshot.memory().iterator();
+                } else {
+                    finish();
+                    return false;
+                }
+            }
+            action.accept(current.next());
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super Vote> action) {
+            try {
+                current.forEachRemaining(action);
+                while (segmentIndex < snapshot.segments().size()) {
+                    read(snapshot.segments().get(segmentIndex++), action);
+                }
+                if (!memoryStarted) {
+                    memoryStarted = true;
+                    snapshot.memory().forEach(action);
+                }
+            } finally {
+                finish();
+            }
+        }
+
+        // Idempotent : Cleanable.clean() n'exécute l'action qu'une fois
+        void finish() {
+            release.clean();
+        }
+
+        @Override
+        public Spliterator<Vote> trySplit() {
+            return null;
+        }
+
+        @Override
+        public long estimateSize() {
+            return Long.MAX_VALUE;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | NONNULL;
+        }
+    }
+
+    // Ne doit pas référencer le spliterator, sinon il ne deviendrait jamais inaccessible
+    private record ReaderRelease(TieredVoteRepository repository) implements Runnable {
+        @Override
+        public void run() {
+            repository.releaseReader();
+        }
+    }
+}
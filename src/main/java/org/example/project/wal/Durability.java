@@ -0,0 +1,10 @@
+package org.example.project.wal;
+
+public enum Durability {
+    // fsync avant chaque acquittement
+    SYNC,
+    // fsync groupé toutes les N ms, l'appelant attend la prochaine synchronisation
+    GROUP_COMMIT,
+    // fsync en arrière-plan, l'appelant n'attend pas (fenêtre de perte de N ms)
+    ASYNC
+}
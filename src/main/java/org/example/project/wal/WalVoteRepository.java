@@ -0,0 +1,153 @@
+package org.example.project.wal;
+
+import org.example.project.model.Vote;
+import org.example.project.repo.VoteRepository;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Décorateur : chaque vote est journalisé (selon la durabilité choisie)
+ * avant d'être écrit dans le repository sous-jacent.
+ */
+public class WalVoteRepository implements VoteRepository, AutoCloseable {
+
+    private final VoteRepository delegate;
+    private final WriteAheadLog log;
+    // Part de la dernière séquence journalisée : un redémarrage ne réutilise aucun numéro
+    private final AtomicLong lastSequence;
+
+    public WalVoteRepository(VoteRepository delegate, WriteAheadLog log) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("VoteRepository cannot be null");
+        }
+        if (log == null) {
+            throw new IllegalArgumentException("WriteAheadLog cannot be null");
+        }
+        this.delegate = delegate;
+        this.log = log;
+        this.lastSequence = new AtomicLong(log.getOpenedSequence());
+    }
+
+    // La séquence est attribuée avant la journalisation pour être persistée avec le vote
+    private void sequence(Vote vote) {
+        long sequence = vote.getSequence();
+        if (sequence == 0) {
+            vote.stampSequence(lastSequence.incrementAndGet());
+        } else {
+            lastSequence.accumulateAndGet(sequence, Math::max);
+        }
+    }
+
+    @Override
+    public void save(Vote vote) {
+        if (vote == null) {
+            throw new IllegalArgumentException("Vote cannot be null");
+        }
+        sequence(vote);
+        try {
+            log.append(vote);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot journal vote of " + vote.getVoterId(), e);
+        }
+        delegate.save(vote);
+    }
+
+    // Rejoue le journal dans le repository sous-jacent sans le réécrire
+    public int recover(Consumer<Vote> onRecovered) {
+        int[] recovered = {0};
+        try {
+            log.replay(vote -> {
+                if (!delegate.hasVoted(vote.getVoterId())) {
+                    sequence(vote);
+                    delegate.save(vote);
+                    recovered[0]++;
+                    if (onRecovered != null) {
+                        onRecovered.accept(vote);
+                    }
+                }
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot replay write-ahead log " + log.getPath(), e);
+        }
+        return recovered[0];
+    }
+
+    public WriteAheadLog getLog() {
+        return log;
+    }
+
+    @Override
+    public List<Vote> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public void forEach(Consumer<? super Vote> action) {
+        delegate.forEach(action);
+    }
+
+    @Override
+    public Stream<Vote> streamInOrder() {
+        return delegate.streamInOrder();
+    }
+
+    // Les changements de vote ne sont pas journalisés : supportsVoteChanges() reste faux
+    @Override
+    public Vote findByVoter(String voterId) {
+        return delegate.findByVoter(voterId);
+    }
+
+    @Override
+    public Optional<Map<String, Integer>> tallies() {
+        return delegate.tallies();
+    }
+
+    @Override
+    public int count() {
+        return delegate.count();
+    }
+
+    @Override
+    public void clear() {
+        try {
+            log.reset();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot reset write-ahead log " + log.getPath(), e);
+        }
+        delegate.clear();
+    }
+
+    @Override
+    public boolean hasVoted(String voterId) {
+        return delegate.hasVoted(voterId);
+    }
+
+    // Ferme le journal sans le tronquer (contrairement à clear()) : il reste rejouable
+    @Override
+    public void close() {
+        try {
+            log.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot close write-ahead log " + log.getPath(), e);
+        }
+        if (delegate instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                if (e instanceof InterruptedException) {
+                    Thread.currentThread().interrupt();
+                }
+                throw new IllegalStateException("Cannot close " + delegate.getClass().getSimpleName(), e);
+            }
+        }
+    }
+}
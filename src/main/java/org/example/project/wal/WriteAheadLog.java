@@ -0,0 +1,299 @@
+package org.example.project.wal;
+
+import org.example.project.model.Vote;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+/**
+ * Journal d'écriture anticipée des votes.
+ * Format d'un enregistrement : [int longueur][int crc32][timestamp, voterId, voterName, candidateId, candidateName, séquence].
+ * Les enregistrements plus anciens, sans séquence, restent lisibles (séquence 0).
+ */
+public class WriteAheadLog implements Closeable {
+
+    private static final int HEADER_SIZE = 8;
+
+    private final Path path;
+    private final FileChannel channel;
+    private final Durability durability;
+    private final long flushIntervalMillis;
+    private final Object writeLock = new Object();
+    private final Object syncMonitor = new Object();
+    private final Thread flusher;
+
+    private volatile long writtenPosition;
+    private volatile long syncedPosition;
+    // Incrémenté par reset() : une position lue avant un reset n'est plus publiable
+    private long generation;
+    private volatile boolean closed;
+    // Plus grande séquence trouvée dans le journal à l'ouverture
+    private final long openedSequence;
+
+    private WriteAheadLog(Path path, Durability durability, long flushIntervalMillis) throws IOException {
+        this.path = path;
+        this.durability = durability;
+        this.flushIntervalMillis = flushIntervalMillis;
+
+        // Ignorer une éventuelle fin d'enregistrement tronquée par un crash
+        long[] highest = {0};
+        long validLength = Files.exists(path)
+                ? scan(path, vote -> highest[0] = Math.max(highest[0], vote.getSequence())) : 0;
+        this.openedSequence = highest[0];
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        channel.truncate(validLength);
+        this.writtenPosition = validLength;
+        this.syncedPosition = validLength;
+
+        if (durability == Durability.SYNC) {
+            this.flusher = null;
+        } else {
+            this.flusher = new Thread(this::flushLoop, "wal-flusher");
+            this.flusher.setDaemon(true);
+            this.flusher.start();
+        }
+    }
+
+    public static WriteAheadLog open(Path path, Durability durability) throws IOException {
+        return open(path, durability, 5);
+    }
+
+    public static WriteAheadLog open(Path path, Durability durability, long flushIntervalMillis) throws IOException {
+        if (path == null) {
+            throw new IllegalArgumentException("Path cannot be null");
+        }
+        if (durability == null) {
+            throw new IllegalArgumentException("Durability cannot be null");
+        }
+        if (flushIntervalMillis <= 0) {
+            throw new IllegalArgumentException("Flush interval must be positive");
+        }
+        return new WriteAheadLog(path, durability, flushIntervalMillis);
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public Durability getDurability() {
+        return durability;
+    }
+
+    public long size() {
+        return writtenPosition;
+    }
+
+    public boolean isOpen() {
+        return !closed;
+    }
+
+    public long getOpenedSequence() {
+        return openedSequence;
+    }
+
+    public void append(Vote vote) throws IOException {
+        if (vote == null) {
+            throw new IllegalArgumentException("Vote cannot be null");
+        }
+        ByteBuffer record = encode(vote);
+        long end;
+        synchronized (writeLock) {
+            ensureOpen();
+            long position = writtenPosition;
+            while (record.hasRemaining()) {
+                position += channel.write(record, position);
+            }
+            if (durability == Durability.SYNC) {
+                channel.force(false);
+                syncedPosition = position;
+            }
+            writtenPosition = position;
+            end = position;
+        }
+        if (durability == Durability.GROUP_COMMIT) {
+            awaitSynced(end);
+        }
+    }
+
+    private void awaitSynced(long position) throws IOException {
+        synchronized (syncMonitor) {
+            while (syncedPosition < position) {
+                if (closed) {
+                    throw new IOException("Write-ahead log closed before sync");
+                }
+                try {
+                    syncMonitor.wait(flushIntervalMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Interrupted while waiting for group commit");
+                }
+            }
+        }
+    }
+
+    private void flushLoop() {
+        while (!closed) {
+            try {
+                Thread.sleep(flushIntervalMillis);
+                sync();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (IOException e) {
+                if (!closed) {
+                    System.err.printf("WAL sync failed: %s%n", e.getMessage());
+                }
+            }
+        }
+    }
+
+    public void sync() throws IOException {
+        long target;
+        long observedGeneration;
+        synchronized (writeLock) {
+            target = writtenPosition;
+            observedGeneration = generation;
+        }
+        if (target > syncedPosition) {
+            channel.force(false);
+            synchronized (syncMonitor) {
+                // Un reset entre la lecture et le force : la cible ne correspond plus au fichier
+                if (observedGeneration == generation && target > syncedPosition) {
+                    syncedPosition = target;
+                }
+                syncMonitor.notifyAll();
+            }
+        }
+    }
+
+    public long replay(Consumer<Vote> consumer) throws IOException {
+        if (consumer == null) {
+            throw new IllegalArgumentException("Consumer cannot be null");
+        }
+        sync();
+        return scanRecords(path, writtenPosition, consumer).records;
+    }
+
+    public void reset() throws IOException {
+        synchronized (writeLock) {
+            ensureOpen();
+            channel.truncate(0);
+            channel.force(true);
+            writtenPosition = 0;
+            synchronized (syncMonitor) {
+                generation++;
+                syncedPosition = 0;
+            }
+        }
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("Write-ahead log is closed");
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        synchronized (writeLock) {
+            sync();
+            closed = true;
+        }
+        synchronized (syncMonitor) {
+            syncMonitor.notifyAll();
+        }
+        if (flusher != null) {
+            flusher.interrupt();
+        }
+        channel.close();
+    }
+
+    // Retourne la longueur du préfixe valide du journal
+    static long scan(Path path, Consumer<Vote> consumer) throws IOException {
+        return scanRecords(path, Long.MAX_VALUE, consumer).validLength;
+    }
+
+    private static ScanResult scanRecords(Path path, long limit, Consumer<Vote> consumer) throws IOException {
+        long validLength = 0;
+        long records = 0;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path), 1 << 16))) {
+            byte[] payload = new byte[256];
+            CRC32 crc = new CRC32();
+            while (validLength + HEADER_SIZE <= limit) {
+                int length;
+                int checksum;
+                try {
+                    length = in.readInt();
+                    checksum = in.readInt();
+                } catch (EOFException e) {
+                    break;
+                }
+                if (length <= 0 || validLength + HEADER_SIZE + length > limit) {
+                    break;
+                }
+                if (payload.length < length) {
+                    payload = new byte[Math.max(length, payload.length * 2)];
+                }
+                try {
+                    in.readFully(payload, 0, length);
+                } catch (EOFException e) {
+                    break;
+                }
+                crc.reset();
+                crc.update(payload, 0, length);
+                if ((int) crc.getValue() != checksum) {
+                    break;
+                }
+                consumer.accept(decode(payload, length));
+                validLength += HEADER_SIZE + length;
+                records++;
+            }
+        }
+        return new ScanResult(validLength, records);
+    }
+
+    private static ByteBuffer encode(Vote vote) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(0);
+        out.writeInt(0);
+        out.writeLong(vote.getTimestamp());
+        out.writeUTF(vote.getVoterId());
+        out.writeUTF(vote.getVoterName());
+        out.writeUTF(vote.getCandidateId());
+        out.writeUTF(vote.getCandidateName());
+        out.writeLong(vote.getSequence());
+
+        ByteBuffer record = ByteBuffer.wrap(bytes.toByteArray());
+        int length = record.capacity() - HEADER_SIZE;
+        CRC32 crc = new CRC32();
+        crc.update(record.array(), HEADER_SIZE, length);
+        record.putInt(0, length);
+        record.putInt(4, (int) crc.getValue());
+        return record;
+    }
+
+    private static Vote decode(byte[] payload, int length) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload, 0, length));
+        long timestamp = in.readLong();
+        String voterId = in.readUTF();
+        String voterName = in.readUTF();
+        String candidateId = in.readUTF();
+        String candidateName = in.readUTF();
+        long sequence = in.available() >= Long.BYTES ? in.readLong() : 0;
+        return new Vote(voterId, voterName, candidateId, candidateName, timestamp, sequence);
+    }
+
+    private record ScanResult(long validLength, long records) {
+    }
+}
@@ -106,6 +106,52 @@ class VotingAppTest {
         assertTrue(output.contains("No votes yet"));
     }
 
+    @Test
+    void testCountRendersResultsByDescendingVotes() throws Exception {
+        String input = """
+            count
+            exit
+            """;
+        service.addCandidate("C3", "Charlie");
+        service.registerVoter("V1", "Ann");
+        service.registerVoter("V2", "Ben");
+        service.registerVoter("V3", "Cid");
+
+        String output = SystemLambda.tapSystemOutNormalized(() -> {
+            VotingApp app = new VotingApp(service, new Scanner(input));
+            service.castVote("V1", "C3");
+            service.castVote("V2", "C3");
+            service.castVote("V3", "C1");
+            app.start();
+        });
+
+        assertTrue(output.contains("  Charlie: 2 votes\n  Alice: 1 votes\n  Total: 3 votes\n"));
+        assertTrue(output.contains("Winner: Charlie"));
+    }
+
+    @Test
+    void testCountShowsWriteInRowsAndWinner() throws Exception {
+        String input = """
+            count
+            exit
+            """;
+        service.registerVoter("V1", "Ann");
+        service.registerVoter("V2", "Ben");
+        service.registerVoter("V3", "Cid");
+        service.allowWriteIns(true);
+
+        String output = SystemLambda.tapSystemOutNormalized(() -> {
+            VotingApp app = new VotingApp(service, new Scanner(input));
+            service.castWriteIn("V1", "Zoe");
+            service.castWriteIn("V2", "Zoe");
+            service.castVote("V3", "C1");
+            app.start();
+        });
+
+        assertTrue(output.contains("  Zoe (write-in): 2 votes\n  Alice: 1 votes\n  Total: 3 votes\n"));
+        assertTrue(output.contains("Winner: Zoe (write-in)"));
+    }
+
     @Test
     void testUnknownCommand() throws Exception {
         String input = """
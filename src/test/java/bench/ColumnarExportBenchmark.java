@@ -0,0 +1,64 @@
+package bench;
+
+import org.example.project.export.ColumnarVoteReader;
+import org.example.project.export.ColumnarVoteWriter;
+import org.example.project.model.Vote;
+import org.example.project.repo.ColumnarVoteRepository;
+import org.example.project.repo.VoteRepository;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Débit d'export / relecture du format binaire en colonnes, comparé au toString() par vote.
+ *
+ * mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=bench.ColumnarExportBenchmark -Dexec.args="2000000"
+ */
+public class ColumnarExportBenchmark {
+
+    public static void main(String[] args) throws IOException {
+        int votes = args.length > 0 ? Integer.parseInt(args[0]) : 2_000_000;
+        VoteRepository repo = new ColumnarVoteRepository();
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < votes; i++) {
+            repo.save(new Vote("V" + i, "Voter " + i, "C" + (i % 8), "Candidate " + (i % 8), now + i / 100));
+        }
+
+        Path file = Files.createTempFile("votes", ".col");
+        try {
+            for (int round = 0; round < 3; round++) {
+                long start = System.nanoTime();
+                long[] chars = {0};
+                repo.forEach(vote -> chars[0] += vote.toString().length());
+                long textNanos = System.nanoTime() - start;
+
+                start = System.nanoTime();
+                try (ColumnarVoteWriter writer = new ColumnarVoteWriter(file)) {
+                    repo.forEach(vote -> {
+                        try {
+                            writer.write(vote);
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    });
+                }
+                long writeNanos = System.nanoTime() - start;
+
+                start = System.nanoTime();
+                long read;
+                try (ColumnarVoteReader reader = new ColumnarVoteReader(file)) {
+                    read = reader.forEach(vote -> { });
+                }
+                long readNanos = System.nanoTime() - start;
+
+                System.out.printf("toString: %,.0f votes/s (%,d chars) | write: %,.0f votes/s (%,d bytes) | read: %,.0f votes/s (%,d)%n",
+                        votes * 1e9 / textNanos, chars[0], votes * 1e9 / writeNanos, Files.size(file),
+                        read * 1e9 / readNanos, read);
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
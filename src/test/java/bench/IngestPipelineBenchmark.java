@@ -0,0 +1,98 @@
+package bench;
+
+import org.example.project.index.ReceiptIndex;
+import org.example.project.ingest.IngestPipeline;
+import org.example.project.repo.ColumnarVoteRepository;
+import org.example.project.repo.ConcurrentVoterRepository;
+import org.example.project.repo.SnapshotCandidateRepository;
+import org.example.project.service.VoteService;
+import org.example.project.tally.LiveTally;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Débit de vote à N producteurs : chaque thread applique son vote lui-même
+ * (tryCastVote) contre l'anneau à écrivain unique (IngestPipeline).
+ * Dans les deux cas : un décompte en direct et un index de reçus en aval.
+ *
+ * mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=bench.IngestPipelineBenchmark -Dexec.args="1000000 4"
+ */
+public class IngestPipelineBenchmark {
+
+    private static final int CANDIDATES = 8;
+
+    public static void main(String[] args) throws Exception {
+        int votes = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : 4;
+
+        for (int round = 0; round < 3; round++) {
+            report("direct", votes, threads, run(votes, threads, false));
+            report("pipeline", votes, threads, run(votes, threads, true));
+        }
+    }
+
+    private static long run(int votes, int threads, boolean pipelined) throws Exception {
+        VoteService service = new VoteService(new ColumnarVoteRepository(),
+                new SnapshotCandidateRepository(), new ConcurrentVoterRepository());
+        for (int c = 0; c < CANDIDATES; c++) {
+            service.addCandidate("C" + c, "Candidate " + c);
+        }
+        String[] voterIds = new String[votes];
+        String[] candidateIds = new String[CANDIDATES];
+        for (int c = 0; c < CANDIDATES; c++) {
+            candidateIds[c] = "C" + c;
+        }
+        for (int i = 0; i < votes; i++) {
+            voterIds[i] = "V" + i;
+            service.registerVoter(voterIds[i], "Voter " + i);
+        }
+        service.addListener(new LiveTally());
+        ReceiptIndex receipts = new ReceiptIndex(service::getCurrentVote);
+        IngestPipeline pipeline = null;
+        if (pipelined) {
+            pipeline = new IngestPipeline(service, IngestPipeline.DEFAULT_CAPACITY, List.of(receipts));
+        } else {
+            service.addListener(receipts);
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        IngestPipeline target = pipeline;
+        for (int t = 0; t < threads; t++) {
+            int offset = t;
+            futures.add(pool.submit(() -> {
+                start.await();
+                for (int i = offset; i < votes; i += threads) {
+                    String candidateId = candidateIds[i % CANDIDATES];
+                    if (target != null) {
+                        target.submit(voterIds[i], candidateId);
+                    } else {
+                        service.tryCastVote(voterIds[i], candidateId);
+                    }
+                }
+                return null;
+            }));
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        if (pipeline != null) {
+            pipeline.close();
+        }
+        long elapsed = System.nanoTime() - begin;
+        pool.shutdown();
+        if (service.getTotalVoteCount() != votes) {
+            throw new IllegalStateException("Expected " + votes + " votes, got " + service.getTotalVoteCount());
+        }
+        return elapsed;
+    }
+
+    private static void report(String mode, int votes, int threads, long nanos) {
+        System.out.printf("%-9s %d threads: %,d votes in %d ms (%,.0f votes/s)%n",
+                mode, threads, votes, nanos / 1_000_000, votes / (nanos / 1e9));
+    }
+}
@@ -0,0 +1,84 @@
+package bench;
+
+import org.example.project.repo.ColumnarVoteRepository;
+import org.example.project.repo.ConcurrentVoterRepository;
+import org.example.project.repo.SnapshotCandidateRepository;
+import org.example.project.service.CastResult;
+import org.example.project.service.VoteService;
+
+/**
+ * Inondation de tentatives rejetées à 90 % (doublons, électeurs ou candidats
+ * inconnus) : castVote avec exceptions contre tryCastVote.
+ *
+ * mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=bench.RejectionFloodBenchmark -Dexec.args="2000000"
+ */
+public class RejectionFloodBenchmark {
+
+    private static final int CANDIDATES = 8;
+    private static final int ALREADY_VOTED = 10_000;
+
+    public static void main(String[] args) {
+        int attempts = args.length > 0 ? Integer.parseInt(args[0]) : 2_000_000;
+
+        for (int round = 0; round < 3; round++) {
+            report("castVote", attempts, run(attempts, false));
+            report("tryCastVote", attempts, run(attempts, true));
+        }
+    }
+
+    private static long run(int attempts, boolean resultCodes) {
+        VoteService service = new VoteService(new ColumnarVoteRepository(),
+                new SnapshotCandidateRepository(), new ConcurrentVoterRepository());
+        for (int c = 0; c < CANDIDATES; c++) {
+            service.addCandidate("C" + c, "Candidate " + c);
+        }
+        int fresh = attempts / 10;
+        String[] voterIds = new String[ALREADY_VOTED + fresh];
+        for (int i = 0; i < voterIds.length; i++) {
+            voterIds[i] = "V" + i;
+            service.registerVoter(voterIds[i], "Voter " + i);
+        }
+        for (int i = 0; i < ALREADY_VOTED; i++) {
+            service.castVote(voterIds[i], "C0");
+        }
+
+        int nextFresh = ALREADY_VOTED;
+        long accepted = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < attempts; i++) {
+            String voterId;
+            String candidateId = "C" + (i % CANDIDATES);
+            switch (i % 10) {
+                case 0 -> voterId = voterIds[nextFresh++];
+                case 1 -> voterId = "X" + i;
+                case 2 -> {
+                    voterId = voterIds[i % ALREADY_VOTED];
+                    candidateId = "Z";
+                }
+                default -> voterId = voterIds[i % ALREADY_VOTED];
+            }
+            if (resultCodes) {
+                if (service.tryCastVote(voterId, candidateId) == CastResult.ACCEPTED) {
+                    accepted++;
+                }
+            } else {
+                try {
+                    service.castVote(voterId, candidateId);
+                    accepted++;
+                } catch (IllegalArgumentException | IllegalStateException e) {
+                    // rejet attendu
+                }
+            }
+        }
+        long nanos = System.nanoTime() - start;
+        if (accepted != fresh) {
+            throw new IllegalStateException("Expected " + fresh + " accepted votes, got " + accepted);
+        }
+        return nanos;
+    }
+
+    private static void report(String label, int attempts, long nanos) {
+        System.out.printf("%-12s attempts=%,d  attempts/s=%,.0f  ns/attempt=%.0f%n",
+                label, attempts, attempts * 1e9 / nanos, (double) nanos / attempts);
+    }
+}
@@ -0,0 +1,61 @@
+package bench;
+
+import org.example.project.model.Vote;
+import org.example.project.replication.LoopbackTransport;
+import org.example.project.replication.ReplicationFollower;
+import org.example.project.replication.ReplicationLeader;
+import org.example.project.replication.ReplicationStats;
+import org.example.project.repo.InMemoryVoteRepository;
+import org.example.project.tally.LiveTally;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Débit et retard de réplication avec N suiveurs sur le transport en mémoire.
+ *
+ * mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=bench.ReplicationBenchmark -Dexec.args="1000000 2"
+ */
+public class ReplicationBenchmark {
+
+    public static void main(String[] args) throws InterruptedException {
+        int votes = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int followerCount = args.length > 1 ? Integer.parseInt(args[1]) : 2;
+
+        ReplicationLeader leader = new ReplicationLeader(1024);
+        List<ReplicationFollower> followers = new ArrayList<>();
+        List<LoopbackTransport> transports = new ArrayList<>();
+        for (int f = 0; f < followerCount; f++) {
+            ReplicationFollower follower = new ReplicationFollower("replica-" + f, new InMemoryVoteRepository());
+            follower.addListener(new LiveTally());
+            followers.add(follower);
+            transports.add(LoopbackTransport.connect(leader, follower));
+        }
+        leader.start(2);
+
+        long start = System.nanoTime();
+        long maxLag = 0;
+        for (int i = 0; i < votes; i++) {
+            leader.onVote(new Vote("V" + i, "Voter" + i, "C" + (i % 4), "Candidate" + (i % 4)));
+            if ((i & 0xFFFF) == 0) {
+                for (ReplicationStats stats : leader.getStats()) {
+                    maxLag = Math.max(maxLag, stats.lag());
+                }
+            }
+        }
+        long produced = System.nanoTime() - start;
+        leader.close();
+        for (LoopbackTransport transport : transports) {
+            transport.drain(60_000);
+            transport.close();
+        }
+        long replicated = System.nanoTime() - start;
+
+        System.out.printf("leader: %,.0f votes/s, all followers caught up after %,d ms, max observed lag %,d votes%n",
+                votes * 1e9 / produced, replicated / 1_000_000, maxLag);
+        for (ReplicationFollower follower : followers) {
+            System.out.printf("  %s applied=%,d throughput=%,.0f votes/s%n",
+                    follower.getId(), follower.getAppliedSequence(), follower.getThroughput());
+        }
+    }
+}
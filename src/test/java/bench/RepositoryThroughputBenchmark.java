@@ -0,0 +1,92 @@
+package bench;
+
+import org.example.project.factory.RepositoryFactory;
+import org.example.project.model.Voter;
+import org.example.project.repo.VoterRepository;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Compare le débit des repositories "memory" et "concurrent" sous charge mixte
+ * (un thread d'inscription en rafale, plusieurs threads de lecture findById).
+ *
+ * mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=bench.RepositoryThroughputBenchmark
+ */
+public class RepositoryThroughputBenchmark {
+
+    private static final int PRELOADED_VOTERS = 200_000;
+    private static final long DURATION_MS = 3_000;
+
+    public static void main(String[] args) throws InterruptedException {
+        int readers = args.length > 0 ? Integer.parseInt(args[0]) : Runtime.getRuntime().availableProcessors();
+
+        for (String type : new String[]{"memory", "concurrent"}) {
+            run(type, readers);  // échauffement
+        }
+        for (String type : new String[]{"memory", "concurrent"}) {
+            long[] result = run(type, readers);
+            System.out.printf("%-10s readers=%d  lookups/s=%,d  registrations/s=%,d%n",
+                    type, readers, result[0] * 1000 / DURATION_MS, result[1] * 1000 / DURATION_MS);
+        }
+    }
+
+    private static long[] run(String type, int readers) throws InterruptedException {
+        VoterRepository repo = RepositoryFactory.createVoterRepository(type);
+        String[] ids = new String[PRELOADED_VOTERS];
+        for (int i = 0; i < PRELOADED_VOTERS; i++) {
+            ids[i] = "V" + i;
+            repo.register(new Voter(ids[i], "Voter" + i));
+        }
+
+        LongAdder lookups = new LongAdder();
+        LongAdder registrations = new LongAdder();
+        CountDownLatch start = new CountDownLatch(1);
+        long deadline = System.currentTimeMillis() + DURATION_MS;
+
+        Thread writer = new Thread(() -> {
+            await(start);
+            int n = 0;
+            while (System.currentTimeMillis() < deadline) {
+                repo.register(new Voter("N" + n, "New" + n));
+                n++;
+            }
+            registrations.add(n);
+        });
+        Thread[] readerThreads = new Thread[readers];
+        for (int r = 0; r < readers; r++) {
+            int seed = r;
+            readerThreads[r] = new Thread(() -> {
+                await(start);
+                long n = 0;
+                int i = seed;
+                while ((n & 1023) != 0 || System.currentTimeMillis() < deadline) {
+                    if (repo.findById(ids[i]) != null) {
+                        n++;
+                    }
+                    i = (i + 7919) % PRELOADED_VOTERS;
+                }
+                lookups.add(n);
+            });
+        }
+
+        writer.start();
+        for (Thread t : readerThreads) {
+            t.start();
+        }
+        start.countDown();
+        writer.join();
+        for (Thread t : readerThreads) {
+            t.join();
+        }
+        return new long[]{lookups.sum(), registrations.sum()};
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
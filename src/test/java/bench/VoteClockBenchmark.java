@@ -0,0 +1,49 @@
+package bench;
+
+import org.example.project.model.Clocks;
+import org.example.project.model.CoarseVoteClock;
+import org.example.project.model.Vote;
+import org.example.project.strategy.RankedChoiceCountingStrategy;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Coût de création des votes selon l'horloge installée, puis du comptage
+ * Ranked Choice sur une liste déjà chronologique.
+ *
+ * mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=bench.VoteClockBenchmark -Dexec.args="2000000"
+ */
+public class VoteClockBenchmark {
+
+    public static void main(String[] args) {
+        int votes = args.length > 0 ? Integer.parseInt(args[0]) : 2_000_000;
+
+        Clocks.useSystemClock();
+        List<Vote> list = create("system", votes);
+        try (CoarseVoteClock coarse = new CoarseVoteClock(1)) {
+            Clocks.install(coarse);
+            list = create("coarse(1ms)", votes);
+        } finally {
+            Clocks.useSystemClock();
+        }
+
+        RankedChoiceCountingStrategy strategy = new RankedChoiceCountingStrategy();
+        for (int round = 0; round < 5; round++) {
+            long start = System.nanoTime();
+            strategy.count(list);
+            System.out.printf("ranked count  votes=%,d  ms=%.1f%n", votes, (System.nanoTime() - start) / 1e6);
+        }
+    }
+
+    private static List<Vote> create(String label, int votes) {
+        List<Vote> list = new ArrayList<>(votes);
+        long start = System.nanoTime();
+        for (int i = 0; i < votes; i++) {
+            list.add(new Vote("V" + i, "Voter", "C" + (i % 8), "Candidate"));
+        }
+        long nanos = System.nanoTime() - start;
+        System.out.printf("%-12s votes=%,d  ns/vote=%.1f%n", label, votes, (double) nanos / votes);
+        return list;
+    }
+}
@@ -0,0 +1,45 @@
+package bench;
+
+import org.example.project.importer.ImportReport;
+import org.example.project.importer.VoterRollImporter;
+import org.example.project.repo.ConcurrentVoterRepository;
+import org.example.project.repo.InMemoryVoterRepository;
+import org.example.project.repo.VoterRepository;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Génère une liste électorale synthétique puis mesure le débit d'import.
+ *
+ * mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=bench.VoterImportBenchmark -Dexec.args="2000000"
+ */
+public class VoterImportBenchmark {
+
+    public static void main(String[] args) throws IOException {
+        int voters = args.length > 0 ? Integer.parseInt(args[0]) : 2_000_000;
+        Path file = Files.createTempFile("voter-roll", ".csv");
+        try {
+            try (BufferedWriter out = Files.newBufferedWriter(file)) {
+                for (int i = 0; i < voters; i++) {
+                    out.write("V" + i + ",Voter number " + i + "\n");
+                }
+            }
+            System.out.printf("File: %,d voters, %,d bytes%n", voters, Files.size(file));
+
+            for (int round = 0; round < 3; round++) {
+                run("memory", new InMemoryVoterRepository(), file);
+                run("concurrent", new ConcurrentVoterRepository(), file);
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static void run(String label, VoterRepository repo, Path file) throws IOException {
+        ImportReport report = new VoterRollImporter(repo).importFile(file);
+        System.out.printf("%-10s %s%n", label, report);
+    }
+}
@@ -0,0 +1,68 @@
+package bench;
+
+import org.example.project.model.Vote;
+import org.example.project.repo.InMemoryVoteRepository;
+import org.example.project.repo.VoteRepository;
+import org.example.project.wal.Durability;
+import org.example.project.wal.WalVoteRepository;
+import org.example.project.wal.WriteAheadLog;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Débit de WalVoteRepository.save pour chaque niveau de durabilité.
+ *
+ * mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=bench.WalDurabilityBenchmark -Dexec.args="64 1"
+ */
+public class WalDurabilityBenchmark {
+
+    private static final long DURATION_MS = 3_000;
+
+    public static void main(String[] args) throws Exception {
+        int threads = args.length > 0 ? Integer.parseInt(args[0]) : 64;
+        long groupCommitMillis = args.length > 1 ? Long.parseLong(args[1]) : 1;
+
+        runInMemory(threads);
+        for (Durability durability : Durability.values()) {
+            run(durability, threads, groupCommitMillis);
+        }
+    }
+
+    private static void runInMemory(int threads) throws InterruptedException {
+        InMemoryVoteRepository repo = new InMemoryVoteRepository();
+        long votes = drive(repo, threads);
+        System.out.printf("%-13s threads=%d  votes/s=%,d%n", "NO_WAL", threads, votes * 1000 / DURATION_MS);
+    }
+
+    private static void run(Durability durability, int threads, long groupCommitMillis) throws Exception {
+        Path file = Files.createTempFile("bench", ".wal");
+        try (WriteAheadLog log = WriteAheadLog.open(file, durability, groupCommitMillis)) {
+            long votes = drive(new WalVoteRepository(new InMemoryVoteRepository(), log), threads);
+            System.out.printf("%-13s threads=%d  votes/s=%,d  log=%,d bytes%n",
+                    durability, threads, votes * 1000 / DURATION_MS, log.size());
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static long drive(VoteRepository repo, int threads) throws InterruptedException {
+        AtomicInteger sequence = new AtomicInteger();
+        long deadline = System.currentTimeMillis() + DURATION_MS;
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            workers[t] = new Thread(() -> {
+                while (System.currentTimeMillis() < deadline) {
+                    int n = sequence.incrementAndGet();
+                    repo.save(new Vote("V" + n, "Voter" + n, "C" + (n % 4), "Candidate" + (n % 4)));
+                }
+            });
+            workers[t].start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        return repo.count();
+    }
+}
@@ -0,0 +1,55 @@
+package service;
+
+import org.example.project.model.Candidate;
+import org.example.project.repo.CandidateIndex;
+import org.example.project.repo.InMemoryCandidateRepository;
+import org.example.project.repo.InMemoryVoteRepository;
+import org.example.project.repo.InMemoryVoterRepository;
+import org.example.project.service.VoteService;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests de l'index immuable des candidats et de son cache dans VoteService.
+ */
+class CandidateIndexTests {
+
+    @Test
+    void testIndexLooksUpCandidatesById() {
+        CandidateIndex index = new CandidateIndex(
+                List.of(new Candidate("C1", "Alice"), new Candidate("C2", "Bob")), 3);
+
+        assertEquals(2, index.size());
+        assertEquals("Bob", index.nameOf("C2"));
+        assertEquals("C1", index.find("C1").getId());
+        assertNull(index.find("C9"));
+        assertNull(index.find(null));
+        assertNull(index.nameOf("C9"));
+        assertEquals(3, index.getVersion());
+        assertThrows(UnsupportedOperationException.class, () -> index.candidates().clear());
+        assertThrows(IllegalArgumentException.class, () -> new CandidateIndex(null, 0));
+    }
+
+    @Test
+    void testServiceCachesIndexUntilCandidatesChange() {
+        VoteService service = new VoteService(new InMemoryVoteRepository(),
+                new InMemoryCandidateRepository(), new InMemoryVoterRepository());
+        service.addCandidate("C1", "Alice");
+
+        CandidateIndex first = service.getCandidateIndex();
+        assertSame(first, service.getCandidateIndex());
+        assertEquals("Alice", first.nameOf("C1"));
+
+        service.addCandidate("C2", "Bob");
+        CandidateIndex second = service.getCandidateIndex();
+        assertNotSame(first, second);
+        assertEquals(2, second.size());
+        assertNull(first.find("C2"));
+
+        service.reset();
+        assertEquals(0, service.getCandidateIndex().size());
+    }
+}
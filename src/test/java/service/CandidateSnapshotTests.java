@@ -0,0 +1,112 @@
+package service;
+
+import org.example.project.factory.RepositoryFactory;
+import org.example.project.model.Candidate;
+import org.example.project.model.Vote;
+import org.example.project.repo.CandidateIndex;
+import org.example.project.repo.InMemoryVoteRepository;
+import org.example.project.repo.InMemoryVoterRepository;
+import org.example.project.repo.SnapshotCandidateRepository;
+import org.example.project.service.VoteService;
+import org.example.project.strategy.PluralityCountingStrategy;
+import org.example.project.tally.OrdinalTally;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests des instantanés versionnés de candidats et du décompte par ordinal.
+ */
+class CandidateSnapshotTests {
+
+    @Test
+    void testEachAddPublishesNewVersionWithStableOrdinals() {
+        SnapshotCandidateRepository repo = new SnapshotCandidateRepository();
+        repo.add(new Candidate("C1", "Alice"));
+        CandidateIndex first = repo.snapshot();
+        repo.add(new Candidate("C2", "Bob"));
+        repo.add(new Candidate("C1", "Alice B."));
+        CandidateIndex latest = repo.snapshot();
+
+        assertEquals(1, first.size());
+        assertEquals(first.getVersion() + 2, latest.getVersion());
+        assertEquals(0, latest.ordinalOf("C1"));
+        assertEquals(1, latest.ordinalOf("C2"));
+        assertEquals("Alice B.", latest.get(0).getName());
+        assertEquals(-1, latest.ordinalOf("C9"));
+        assertTrue(repo.exists("C2"));
+        assertFalse(repo.exists(null));
+        assertEquals("Bob", repo.findById("C2").getName());
+        assertEquals(2, repo.findAll().size());
+        assertThrows(IllegalArgumentException.class, () -> latest.get(5));
+        assertThrows(IllegalArgumentException.class, () -> repo.add(null));
+
+        repo.clear();
+        assertEquals(0, repo.snapshot().size());
+        assertTrue(repo.snapshot().getVersion() > latest.getVersion());
+    }
+
+    @Test
+    void testRejectsDuplicateIds() {
+        assertThrows(IllegalArgumentException.class, () -> new CandidateIndex(
+                List.of(new Candidate("C1", "Alice"), new Candidate("C1", "Bob")), 0));
+    }
+
+    @Test
+    void testServiceReadsPublishedSnapshot() {
+        SnapshotCandidateRepository candidates =
+                (SnapshotCandidateRepository) RepositoryFactory.createCandidateRepository("snapshot");
+        VoteService service = new VoteService(new InMemoryVoteRepository(), candidates, new InMemoryVoterRepository());
+        service.addCandidate("C1", "Alice");
+        service.registerVoter("V1", "Bob");
+        service.castVote("V1", "C1");
+
+        assertSame(candidates.snapshot(), service.getCandidateIndex());
+        assertEquals("C1", service.getWinner(new PluralityCountingStrategy()).getId());
+    }
+
+    @Test
+    void testOrdinalTallyTagsCountsWithCandidateVersion() throws InterruptedException {
+        SnapshotCandidateRepository candidates = new SnapshotCandidateRepository();
+        candidates.add(new Candidate("C1", "Alice"));
+        OrdinalTally tally = new OrdinalTally(candidates);
+
+        List<Thread> threads = new ArrayList<>();
+        CountDownLatch start = new CountDownLatch(1);
+        for (int t = 0; t < 4; t++) {
+            threads.add(Thread.ofPlatform().start(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < 1000; i++) {
+                    tally.onVote(new Vote("V" + i, "Voter", "C1", "Alice"));
+                }
+            }));
+        }
+        start.countDown();
+        candidates.add(new Candidate("C2", "Bob"));
+        tally.onVote(new Vote("V0", "Voter", "C2", "Bob"));
+        tally.onVote(new Vote("V0", "Voter", "C9", "Nobody"));
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        OrdinalTally.Snapshot snapshot = tally.snapshot();
+        assertEquals(candidates.snapshot().getVersion(), snapshot.candidateVersion());
+        assertEquals(4000, snapshot.get(0));
+        assertEquals(1, tally.get(1));
+        assertEquals(0, snapshot.get(7));
+        assertEquals(Map.of("C1", 4000, "C2", 1), snapshot.toMap());
+
+        tally.clear();
+        assertEquals(0, tally.get(0));
+        assertThrows(IllegalArgumentException.class, () -> new OrdinalTally(null));
+    }
+}
@@ -0,0 +1,89 @@
+package service;
+
+import org.example.project.election.Election;
+import org.example.project.election.ElectionRegistry;
+import org.example.project.repo.InMemoryCandidateRepository;
+import org.example.project.repo.InMemoryVoteRepository;
+import org.example.project.repo.InMemoryVoterRepository;
+import org.example.project.service.CastResult;
+import org.example.project.service.VoteService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests du chemin de vote sans exception (codes de résultat).
+ */
+class CastResultTests {
+
+    private VoteService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new VoteService(new InMemoryVoteRepository(),
+                new InMemoryCandidateRepository(), new InMemoryVoterRepository());
+        service.addCandidate("C1", "Alice");
+        service.registerVoter("V1", "Bob");
+    }
+
+    @Test
+    void testEachRejectionHasItsOwnCode() {
+        assertEquals(CastResult.UNKNOWN_VOTER, service.tryCastVote("V9", "C1"));
+        assertEquals(CastResult.UNKNOWN_VOTER, service.tryCastVote(" ", "C1"));
+        assertEquals(CastResult.UNKNOWN_CANDIDATE, service.tryCastVote("V1", "C9"));
+        assertEquals(CastResult.UNKNOWN_CANDIDATE, service.tryCastVote("V1", null));
+        assertEquals(CastResult.ACCEPTED, service.tryCastVote("V1", "C1"));
+        assertEquals(CastResult.DUPLICATE, service.tryCastVote("V1", "C1"));
+        assertEquals(1, service.getTotalVoteCount());
+        assertTrue(CastResult.ACCEPTED.isAccepted());
+        assertFalse(CastResult.DUPLICATE.isAccepted());
+    }
+
+    @Test
+    void testClosedPollsRejectEveryAttempt() {
+        service.closePolls();
+        assertFalse(service.isPollsOpen());
+        assertEquals(CastResult.CLOSED, service.tryCastVote("V1", "C1"));
+        IllegalStateException closed = assertThrows(IllegalStateException.class, () -> service.castVote("V1", "C1"));
+        assertEquals("Polls are closed", closed.getMessage());
+
+        service.openPolls();
+        assertEquals(CastResult.ACCEPTED, service.tryCastVote("V1", "C1"));
+
+        service.closePolls();
+        service.reset();
+        assertTrue(service.isPollsOpen());
+    }
+
+    @Test
+    void testThrowingWrapperKeepsMessages() {
+        assertEquals("Voter ID cannot be null or blank",
+                assertThrows(IllegalArgumentException.class, () -> service.castVote(null, "C1")).getMessage());
+        assertEquals("Voter not registered: V9",
+                assertThrows(IllegalArgumentException.class, () -> service.castVote("V9", "C1")).getMessage());
+        assertEquals("Candidate does not exist: C9",
+                assertThrows(IllegalArgumentException.class, () -> service.castVote("V1", "C9")).getMessage());
+        service.castVote("V1", "C1");
+        assertEquals("Voter Bob has already voted!",
+                assertThrows(IllegalStateException.class, () -> service.castVote("V1", "C1")).getMessage());
+    }
+
+    @Test
+    void testElectionsExposeResultCodes() {
+        ElectionRegistry registry = new ElectionRegistry();
+        registry.registerVoter("V1", "Bob");
+        Election election = registry.createElection("E1", "Mayor");
+        election.addCandidate("C1", "Alice");
+
+        assertEquals(CastResult.CLOSED, registry.tryCastVote("E9", "V1", "C1"));
+        assertEquals(CastResult.CLOSED, registry.tryCastVote(null, "V1", "C1"));
+        election.closePolls();
+        assertFalse(election.isPollsOpen());
+        assertEquals(CastResult.CLOSED, registry.tryCastVote("E1", "V1", "C1"));
+        election.openPolls();
+        assertEquals(CastResult.ACCEPTED, registry.tryCastVote("E1", "V1", "C1"));
+        assertEquals(CastResult.DUPLICATE, election.tryCastVote("V1", "C1"));
+        assertEquals(1, election.getResults().get("C1"));
+    }
+}
@@ -0,0 +1,108 @@
+package service;
+
+import org.example.project.export.ColumnarVoteReader;
+import org.example.project.export.ColumnarVoteWriter;
+import org.example.project.export.VoteExporter;
+import org.example.project.model.Vote;
+import org.example.project.repo.ColumnarVoteRepository;
+import org.example.project.repo.InMemoryCandidateRepository;
+import org.example.project.repo.InMemoryVoteRepository;
+import org.example.project.repo.InMemoryVoterRepository;
+import org.example.project.service.VoteService;
+import org.example.project.strategy.PluralityCountingStrategy;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests de l'export binaire en colonnes et de sa relecture.
+ */
+class ColumnarExportTests {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testRoundTripAcrossSeveralBlocks() throws IOException {
+        Path file = tempDir.resolve("votes.col");
+        List<Vote> original = new ArrayList<>();
+        long now = 1_700_000_000_000L;
+        for (int i = 0; i < 2_500; i++) {
+            // Horodatages non monotones pour vérifier les deltas négatifs
+            long timestamp = now + i * 3L - (i % 7 == 0 ? 5 : 0);
+            original.add(new Vote("V" + i, "Électeur " + i, "C" + (i % 3), "Candidate " + (i % 3),
+                    timestamp, i + 1L));
+        }
+        try (ColumnarVoteWriter writer = new ColumnarVoteWriter(file, 1_000)) {
+            for (Vote vote : original) {
+                writer.write(vote);
+            }
+            writer.writeResults(Map.of("C0", 834));
+            assertEquals(2_500, writer.getWrittenCount());
+        }
+
+        List<Vote> read;
+        try (ColumnarVoteReader reader = new ColumnarVoteReader(file)) {
+            read = reader.readAll();
+            assertEquals(Map.of("C0", 834), reader.getResults());
+        }
+        assertEquals(original.size(), read.size());
+        for (int i = 0; i < original.size(); i += 97) {
+            assertEquals(original.get(i).getVoterId(), read.get(i).getVoterId());
+            assertEquals(original.get(i).getVoterName(), read.get(i).getVoterName());
+            assertEquals(original.get(i).getCandidateName(), read.get(i).getCandidateName());
+            assertEquals(original.get(i).getTimestamp(), read.get(i).getTimestamp());
+            assertEquals(original.get(i).getSequence(), read.get(i).getSequence());
+        }
+        // Le fichier compressé est bien plus petit qu'un export texte
+        assertTrue(Files.size(file) < 2_500 * 20);
+    }
+
+    @Test
+    void testExportServiceVotesAndResults() throws IOException {
+        VoteService service = new VoteService(new InMemoryVoteRepository(),
+                new InMemoryCandidateRepository(), new InMemoryVoterRepository());
+        service.addCandidate("C1", "Alice");
+        service.addCandidate("C2", "Bob");
+        for (int i = 0; i < 5_000; i++) {
+            service.registerVoter("V" + i, "Voter" + i);
+            service.castVote("V" + i, i % 4 == 0 ? "C2" : "C1");
+        }
+
+        Path file = tempDir.resolve("service.col");
+        assertEquals(5_000, VoteExporter.export(service, new PluralityCountingStrategy(), file));
+
+        try (ColumnarVoteReader reader = new ColumnarVoteReader(file)) {
+            assertEquals(5_000, reader.forEach(vote -> { }));
+            assertEquals(Map.of("C1", 3_750, "C2", 1_250), reader.getResults());
+        }
+    }
+
+    @Test
+    void testRepositoryForEachVisitsAllVotesInOrder() {
+        ColumnarVoteRepository repo = new ColumnarVoteRepository();
+        for (int i = 0; i < 10_000; i++) {
+            repo.save(new Vote("V" + i, "Voter" + i, "C1", "Alice", i));
+        }
+        long[] expected = {0};
+        repo.forEach(vote -> assertEquals(expected[0]++, vote.getTimestamp()));
+        assertEquals(10_000, expected[0]);
+    }
+
+    @Test
+    void testInvalidFiles() throws IOException {
+        Path bogus = Files.writeString(tempDir.resolve("bogus.col"), "not a vote file");
+        assertThrows(IOException.class, () -> new ColumnarVoteReader(bogus));
+        assertThrows(IllegalArgumentException.class, () -> new ColumnarVoteWriter(null));
+        assertThrows(IllegalArgumentException.class, () -> new ColumnarVoteWriter(tempDir.resolve("x"), 0));
+        assertThrows(IllegalArgumentException.class, () -> VoteExporter.export(null, null, bogus));
+    }
+}
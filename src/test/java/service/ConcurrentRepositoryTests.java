@@ -0,0 +1,78 @@
+package service;
+
+import org.example.project.model.Candidate;
+import org.example.project.model.Voter;
+import org.example.project.repo.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests des repositories concurrents (lectures sans verrou, ordre d'insertion conservé).
+ */
+class ConcurrentRepositoryTests {
+
+    @Test
+    void testCandidateOrderIsInsertionOrder() {
+        CandidateRepository repo = new ConcurrentCandidateRepository();
+        repo.add(new Candidate("C2", "Bob"));
+        repo.add(new Candidate("C1", "Alice"));
+        repo.add(new Candidate("C2", "Bobby"));  // remplacement : garde sa position
+
+        List<Candidate> all = repo.findAll();
+        assertEquals(2, all.size());
+        assertEquals("Bobby", all.get(0).getName());
+        assertEquals("Alice", all.get(1).getName());
+        assertTrue(repo.exists("C1"));
+        assertFalse(repo.exists(null));
+        assertNull(repo.findById(null));
+        assertThrows(IllegalArgumentException.class, () -> repo.add(null));
+    }
+
+    @Test
+    void testVoterClearThenReRegister() {
+        VoterRepository repo = new ConcurrentVoterRepository();
+        repo.register(new Voter("V1", "John"));
+        repo.clear();
+        assertFalse(repo.isRegistered("V1"));
+        assertTrue(repo.findAll().isEmpty());
+
+        repo.register(new Voter("V1", "John"));
+        assertEquals(1, repo.findAll().size());
+        assertEquals("John", repo.findById("V1").getName());
+        assertFalse(repo.isRegistered(null));
+        assertNull(repo.findById(null));
+        assertThrows(IllegalArgumentException.class, () -> repo.register(null));
+    }
+
+    @Test
+    void testConcurrentRegistrationsAndLookups() throws Exception {
+        VoterRepository repo = new ConcurrentVoterRepository();
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            int offset = t * 1_000;
+            futures.add(pool.submit(() -> {
+                for (int i = 0; i < 1_000; i++) {
+                    String id = "V" + (offset + i);
+                    repo.register(new Voter(id, "Voter" + i));
+                    assertTrue(repo.isRegistered(id));
+                }
+            }));
+        }
+        pool.shutdown();
+        // get() relance sur ce thread tout échec d'assertion survenu dans le pool
+        for (Future<?> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+
+        assertEquals(4_000, repo.findAll().size());
+    }
+}
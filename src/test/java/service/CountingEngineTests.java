@@ -0,0 +1,137 @@
+package service;
+
+import org.example.project.model.Vote;
+import org.example.project.repo.InMemoryCandidateRepository;
+import org.example.project.repo.InMemoryVoteRepository;
+import org.example.project.repo.InMemoryVoterRepository;
+import org.example.project.service.VoteService;
+import org.example.project.strategy.CountingEngine;
+import org.example.project.strategy.CountingStrategy;
+import org.example.project.strategy.PluralityCountingStrategy;
+import org.example.project.strategy.RankedChoiceCountingStrategy;
+import org.example.project.strategy.VoteAccumulator;
+import org.example.project.tier.TieredVoteRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests du comptage multi-stratégies en un seul passage.
+ */
+class CountingEngineTests {
+
+    private static List<Vote> votes(int count) {
+        List<Vote> votes = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            votes.add(new Vote("V" + i, "Voter", "C" + (i * 7 % 3), "Candidate", i));
+        }
+        return votes;
+    }
+
+    private static CountingStrategy sizeStrategy() {
+        return new CountingStrategy() {
+            @Override
+            public Map<String, Integer> count(List<Vote> votes) {
+                return Map.of("size", votes.size());
+            }
+
+            @Override
+            public String getName() {
+                return "Size";
+            }
+        };
+    }
+
+    @Test
+    void testOnePassMatchesIndividualCounts() {
+        List<Vote> votes = votes(100);
+        CountingStrategy custom = sizeStrategy();
+        AtomicInteger pulled = new AtomicInteger();
+        CountingEngine engine = new CountingEngine(
+                List.of(new PluralityCountingStrategy(), new RankedChoiceCountingStrategy(), custom));
+
+        List<CountingEngine.Outcome> outcomes = engine.count(votes.stream().peek(vote -> pulled.incrementAndGet()));
+
+        assertEquals(100, pulled.get());
+        assertEquals(new PluralityCountingStrategy().count(votes), outcomes.get(0).results());
+        assertEquals(new RankedChoiceCountingStrategy().count(votes), outcomes.get(1).results());
+        assertEquals(Map.of("size", 100), outcomes.get(2).results());
+        assertEquals(CountingEngine.winnerOf(outcomes.get(1).results()), outcomes.get(1).winnerId());
+        assertSame(custom, outcomes.get(2).strategy());
+    }
+
+    @Test
+    void testMergedAccumulationsEqualSinglePass() {
+        List<Vote> votes = votes(90);
+        CountingEngine engine = new CountingEngine(
+                List.of(new PluralityCountingStrategy(), new RankedChoiceCountingStrategy(), sizeStrategy()));
+
+        CountingEngine.Accumulation first = engine.start();
+        CountingEngine.Accumulation second = engine.start();
+        votes.subList(0, 40).forEach(first::accept);
+        votes.subList(40, 90).forEach(second::accept);
+        first.merge(second);
+
+        List<CountingEngine.Outcome> merged = first.finish();
+        List<CountingEngine.Outcome> single = engine.count(votes.stream());
+        for (int i = 0; i < single.size(); i++) {
+            assertEquals(single.get(i).results(), merged.get(i).results());
+        }
+        assertThrows(IllegalArgumentException.class,
+                () -> first.merge(new CountingEngine(List.of(new PluralityCountingStrategy())).start()));
+    }
+
+    @Test
+    void testAccumulatorsRejectForeignMerges() {
+        VoteAccumulator ranked = new RankedChoiceCountingStrategy().newAccumulator();
+        VoteAccumulator plurality = new PluralityCountingStrategy().newAccumulator();
+        assertThrows(IllegalArgumentException.class, () -> ranked.merge(plurality));
+        assertThrows(IllegalArgumentException.class,
+                () -> sizeStrategy().newAccumulator().merge(sizeStrategy().newAccumulator()));
+    }
+
+    @Test
+    void testWinnerAndValidation() {
+        assertNull(CountingEngine.winnerOf(Map.of()));
+        assertEquals("C2", CountingEngine.winnerOf(Map.of("C1", 1, "C2", 5)));
+        assertThrows(IllegalArgumentException.class, () -> new CountingEngine(List.of()));
+        assertThrows(IllegalArgumentException.class, () -> new CountingEngine(null));
+        CountingEngine mixed = new CountingEngine(List.of(new RankedChoiceCountingStrategy()));
+        assertFalse(mixed.isTallyBased());
+        assertThrows(IllegalStateException.class, () -> mixed.fromTallies(Map.of()));
+    }
+
+    @Test
+    void testServiceCountsAllStrategies(@TempDir Path dir) throws Exception {
+        VoteService service = new VoteService(new InMemoryVoteRepository(),
+                new InMemoryCandidateRepository(), new InMemoryVoterRepository());
+        service.addCandidate("C1", "Alice");
+        service.addCandidate("C2", "Bob");
+        for (int i = 0; i < 5; i++) {
+            service.registerVoter("V" + i, "Voter " + i);
+            service.castVote("V" + i, i == 0 ? "C2" : "C1");
+        }
+
+        List<CountingEngine.Outcome> outcomes = service.countAll(
+                List.of(new PluralityCountingStrategy(), new RankedChoiceCountingStrategy()));
+        assertEquals(Map.of("C1", 4, "C2", 1), outcomes.get(0).results());
+        assertEquals("C1", outcomes.get(0).winnerId());
+        assertEquals(Map.of("C1", 14, "C2", 1), outcomes.get(1).results());
+
+        try (TieredVoteRepository tiered = new TieredVoteRepository(dir, 2, 4)) {
+            VoteService tieredService = new VoteService(tiered, new InMemoryCandidateRepository(), new InMemoryVoterRepository());
+            tieredService.addCandidate("C1", "Alice");
+            tieredService.registerVoter("V1", "Ann");
+            tieredService.castVote("V1", "C1");
+            List<CountingEngine.Outcome> fromTallies = tieredService.countAll(List.of(new PluralityCountingStrategy()));
+            assertEquals(Map.of("C1", 1), fromTallies.get(0).results());
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package service;
+
+import org.example.project.election.Election;
+import org.example.project.election.ElectionRegistry;
+import org.example.project.factory.RepositoryFactory;
+import org.example.project.model.Vote;
+import org.example.project.repo.ColumnarVoteRepository;
+import org.example.project.repo.VoteRepository;
+import org.example.project.service.CastResult;
+import org.example.project.strategy.PluralityCountingStrategy;
+import org.example.project.tally.LiveTally;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests du registre multi-élections (liste électorale partagée, décomptes isolés).
+ */
+class ElectionRegistryTests {
+
+    private ElectionRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new ElectionRegistry();
+        registry.registerVoter("V1", "John");
+        registry.registerVoter("V2", "Jane");
+        registry.registerVoter("V3", "Paul");
+    }
+
+    @Test
+    void testTalliesAreIsolatedBetweenElections() {
+        Election mayor = registry.createElection("MAYOR", "Mayor race");
+        Election measure = registry.createElection("M1", "Ballot measure 1");
+        mayor.addCandidate("C1", "Alice");
+        mayor.addCandidate("C2", "Bob");
+        measure.addCandidate("YES", "Yes");
+        measure.addCandidate("NO", "No");
+
+        registry.castVote("MAYOR", "V1", "C1");
+        registry.castVote("MAYOR", "V2", "C1");
+        registry.castVote("M1", "V1", "NO");
+
+        assertEquals(Map.of("C1", 2), mayor.getResults());
+        assertEquals(Map.of("NO", 1), measure.getResults());
+        assertEquals(mayor.getResults(), mayor.countVotes(new PluralityCountingStrategy()));
+        assertEquals("Alice", mayor.getWinner(new PluralityCountingStrategy()).getName());
+        assertTrue(mayor.hasVoted("V1"));
+        assertFalse(measure.hasVoted("V2"));
+        assertEquals(2, mayor.getTotalVoteCount());
+        assertEquals(2, mayor.getAllVotes().size());
+        assertEquals(2, mayor.getCandidates().size());
+        assertEquals("Mayor race(MAYOR)", mayor.toString());
+        assertEquals(2, registry.getElections().size());
+
+        // Voter une fois par élection
+        assertThrows(IllegalStateException.class, () -> registry.castVote("MAYOR", "V1", "C2"));
+    }
+
+    @Test
+    void testRestrictedEligibility() {
+        Election district = registry.createElection("D1", "District 1", false);
+        district.addCandidate("C1", "Alice");
+        district.grantEligibility("V2");
+
+        assertFalse(district.isEligible("V1"));
+        assertThrows(IllegalArgumentException.class, () -> district.castVote("V1", "C1"));
+
+        district.castVote("V2", "C1");
+        assertEquals(1, district.getTotalVoteCount());
+        assertEquals(1, district.getService().getVoters().size());
+
+        district.revokeEligibility("V2");
+        assertFalse(district.isEligible("V2"));
+        assertThrows(IllegalArgumentException.class, () -> district.grantEligibility(" "));
+    }
+
+    @Test
+    void testRevocationAppliesToOpenElections() {
+        Election open = registry.createElection("OPEN", "Open election");
+        open.addCandidate("C1", "Alice");
+        assertTrue(open.isEligible("V1"));
+
+        open.revokeEligibility("V1");
+        assertFalse(open.isEligible("V1"));
+        assertEquals(CastResult.UNKNOWN_VOTER, open.tryCastVote("V1", "C1"));
+        assertEquals(2, open.getService().getVoters().size());
+
+        open.grantEligibility("V1");
+        assertEquals(CastResult.ACCEPTED, open.tryCastVote("V1", "C1"));
+    }
+
+    @Test
+    void testConcurrentCastsInOneElection() throws Exception {
+        Election mayor = registry.createElection("MAYOR", "Mayor race");
+        mayor.addCandidate("C1", "Alice");
+        for (int i = 0; i < 2_000; i++) {
+            registry.registerVoter("W" + i, "Voter " + i);
+        }
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            int offset = t;
+            futures.add(pool.submit(() -> {
+                for (int i = offset; i < 2_000; i += 4) {
+                    assertEquals(CastResult.ACCEPTED, mayor.tryCastVote("W" + i, "C1"));
+                    assertEquals(CastResult.DUPLICATE, mayor.tryCastVote("W" + i, "C1"));
+                }
+            }));
+        }
+        pool.shutdown();
+        for (Future<?> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+        assertEquals(2_000, mayor.getTotalVoteCount());
+        assertEquals(Map.of("C1", 2_000), mayor.getResults());
+    }
+
+    @Test
+    void testLiveTallyFollowsVotes() {
+        LiveTally tally = new LiveTally();
+        tally.onVote(new Vote("V1", "John", "C1", "Alice"));
+        tally.onVote(new Vote("V2", "Jane", "C1", "Alice"));
+        tally.onVote(new Vote("V3", "Paul", "C2", "Bob"));
+
+        assertEquals(2, tally.get("C1"));
+        assertEquals(0, tally.get("C9"));
+        assertEquals(3, tally.total());
+        assertEquals(Map.of("C1", 2, "C2", 1), tally.snapshot());
+
+        tally.clear();
+        assertEquals(0, tally.total());
+        assertTrue(tally.snapshot().isEmpty());
+    }
+
+    @Test
+    void testRegistryLookupErrors() {
+        registry.createElection("E1", "Election 1");
+
+        assertTrue(registry.exists("E1"));
+        assertThrows(IllegalStateException.class, () -> registry.createElection("E1", "Again"));
+        assertThrows(IllegalArgumentException.class, () -> registry.getElection("NOPE"));
+        assertThrows(IllegalArgumentException.class, () -> registry.createElection("", "Blank"));
+        assertNotNull(registry.removeElection("E1"));
+        assertFalse(registry.exists("E1"));
+        assertEquals(3, registry.getVoterRoll().findAll().size());
+    }
+
+    @Test
+    void testColumnarVoteRepositoryRoundTrip() {
+        VoteRepository repo = RepositoryFactory.createVoteRepository("columnar");
+        assertInstanceOf(ColumnarVoteRepository.class, repo);
+        for (int i = 0; i < 2_000; i++) {
+            repo.save(new Vote("V" + i, "Voter" + i, i % 2 == 0 ? "C1" : "C2", i % 2 == 0 ? "Alice" : "Bob", i));
+        }
+
+        List<Vote> votes = repo.findAll();
+        assertEquals(2_000, repo.count());
+        assertEquals("Bob", votes.get(1).getCandidateName());
+        assertEquals(1_999, votes.get(1_999).getTimestamp());
+        assertTrue(repo.hasVoted("V10"));
+        assertFalse(repo.hasVoted(null));
+        assertThrows(IllegalArgumentException.class, () -> repo.save(null));
+
+        repo.clear();
+        assertEquals(0, repo.count());
+        assertFalse(repo.hasVoted("V10"));
+    }
+}
@@ -0,0 +1,255 @@
+package service;
+
+import org.example.project.model.Vote;
+import org.example.project.repo.InMemoryCandidateRepository;
+import org.example.project.repo.InMemoryVoteRepository;
+import org.example.project.repo.InMemoryVoterRepository;
+import org.example.project.service.CastResult;
+import org.example.project.service.VoteService;
+import org.example.project.strategy.PluralityCountingStrategy;
+import org.example.project.tally.LiveTally;
+import org.example.project.tier.TieredVoteRepository;
+import org.example.project.wal.Durability;
+import org.example.project.wal.WalVoteRepository;
+import org.example.project.wal.WriteAheadLog;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests du reset par génération : bascule atomique et libération en arrière-plan.
+ */
+class EpochResetTests {
+
+    private static VoteService generational(List<InMemoryVoteRepository> created) {
+        return VoteService.withGenerations(() -> {
+            InMemoryVoteRepository repository = new InMemoryVoteRepository();
+            created.add(repository);
+            return repository;
+        }, InMemoryCandidateRepository::new, InMemoryVoterRepository::new);
+    }
+
+    private static void awaitTrue(Callable<Boolean> condition) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.call()) {
+            assertTrue(System.nanoTime() < deadline, "Condition not reached in time");
+            Thread.sleep(10);
+        }
+    }
+
+    @Test
+    void testResetSwapsInFreshGenerationAndReclaimsTheOldOne() throws Exception {
+        List<InMemoryVoteRepository> created = new CopyOnWriteArrayList<>();
+        VoteService service = generational(created);
+        service.addCandidate("C1", "Alice");
+        service.registerVoter("V1", "Ann");
+        service.castVote("V1", "C1");
+        assertEquals(0, service.getEpoch());
+
+        service.reset();
+
+        assertEquals(1, service.getEpoch());
+        assertEquals(2, created.size());
+        assertEquals(0, service.getTotalVoteCount());
+        assertTrue(service.getCandidates().isEmpty());
+        assertTrue(service.getVoters().isEmpty());
+        assertFalse(service.hasVoted("V1"));
+        awaitTrue(() -> created.get(0).count() == 0);
+
+        // La nouvelle génération accepte à nouveau le même électeur
+        service.addCandidate("C1", "Alice");
+        service.registerVoter("V1", "Ann");
+        assertEquals(CastResult.ACCEPTED, service.tryCastVote("V1", "C1"));
+        assertEquals(Map.of("C1", 1), service.countVotes(new PluralityCountingStrategy()));
+    }
+
+    @Test
+    void testResetWithoutSuppliersClearsInPlace() {
+        InMemoryVoteRepository votes = new InMemoryVoteRepository();
+        VoteService service = new VoteService(votes, new InMemoryCandidateRepository(), new InMemoryVoterRepository());
+        service.addCandidate("C1", "Alice");
+        service.registerVoter("V1", "Ann");
+        service.castVote("V1", "C1");
+        service.closePolls();
+
+        service.reset();
+
+        assertEquals(1, service.getEpoch());
+        assertEquals(0, votes.count());
+        assertTrue(service.isPollsOpen());
+        service.addCandidate("C1", "Alice");
+        service.registerVoter("V1", "Ann");
+        assertEquals(CastResult.ACCEPTED, service.tryCastVote("V1", "C1"));
+        assertEquals(1, votes.count());
+    }
+
+    @Test
+    void testInPlaceResetWaitsForCastsInFlight() throws Exception {
+        for (int round = 0; round < 20; round++) {
+            InMemoryVoteRepository votes = new InMemoryVoteRepository();
+            VoteService service = new VoteService(votes, new InMemoryCandidateRepository(),
+                    new InMemoryVoterRepository());
+            LiveTally tally = new LiveTally();
+            service.addListener(tally);
+            service.addCandidate("C1", "Alice");
+            int voters = 2_000;
+            for (int i = 0; i < voters; i++) {
+                service.registerVoter("V" + i, "Voter " + i);
+            }
+
+            ExecutorService pool = Executors.newFixedThreadPool(4);
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                int offset = t;
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    for (int i = offset; i < voters; i += 4) {
+                        service.tryCastVote("V" + i, "C1");
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            Thread.sleep(round % 3);
+            service.reset();
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+            pool.shutdown();
+
+            // Électeurs et candidats vidés avec les votes : aucun vote en cours n'a survécu au vidage
+            assertEquals(0, votes.count(), "round " + round);
+            assertEquals(0, tally.total(), "round " + round);
+        }
+    }
+
+    @Test
+    void testListenersAreToldAboutTheReset() {
+        VoteService service = generational(new CopyOnWriteArrayList<>());
+        LiveTally tally = new LiveTally();
+        service.addListener(tally);
+        service.addCandidate("C1", "Alice");
+        service.registerVoter("V1", "Ann");
+        service.castVote("V1", "C1");
+        assertEquals(1, tally.get("C1"));
+
+        service.reset();
+
+        assertEquals(0, tally.total());
+    }
+
+    @Test
+    void testOldTieredGenerationIsClosedInTheBackground(@TempDir Path dir) throws Exception {
+        AtomicInteger generations = new AtomicInteger();
+        VoteService service = VoteService.withGenerations(() -> {
+            try {
+                return new TieredVoteRepository(dir.resolve("gen-" + generations.getAndIncrement()), 4, 2);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, InMemoryCandidateRepository::new, InMemoryVoterRepository::new);
+        service.addCandidate("C1", "Alice");
+        for (int i = 0; i < 20; i++) {
+            service.registerVoter("V" + i, "Voter " + i);
+            service.castVote("V" + i, "C1");
+        }
+
+        service.reset();
+
+        Path first = dir.resolve("gen-0");
+        awaitTrue(() -> !Files.exists(first) || isEmpty(first));
+        assertEquals(0, service.getTotalVoteCount());
+    }
+
+    @Test
+    void testOldWalGenerationIsClosedWithoutTruncatingTheJournal(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("votes.wal");
+        List<WalVoteRepository> created = new CopyOnWriteArrayList<>();
+        // Chaque génération rouvre le même chemin
+        VoteService service = VoteService.withGenerations(() -> {
+            try {
+                WalVoteRepository repository = new WalVoteRepository(new InMemoryVoteRepository(),
+                        WriteAheadLog.open(file, Durability.SYNC));
+                created.add(repository);
+                return repository;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, InMemoryCandidateRepository::new, InMemoryVoterRepository::new);
+        service.addCandidate("C1", "Alice");
+        service.registerVoter("V1", "Ann");
+        service.castVote("V1", "C1");
+
+        service.reset();
+        awaitTrue(() -> !created.get(0).getLog().isOpen());
+        service.addCandidate("C1", "Alice");
+        service.registerVoter("V2", "Bob");
+        service.castVote("V2", "C1");
+        created.get(1).close();
+
+        List<String> journaled = new ArrayList<>();
+        try (WriteAheadLog log = WriteAheadLog.open(file, Durability.SYNC)) {
+            log.replay(vote -> journaled.add(vote.getVoterId()));
+        }
+        assertTrue(journaled.contains("V2"), journaled::toString);
+    }
+
+    private static boolean isEmpty(Path directory) throws IOException {
+        try (var entries = Files.list(directory)) {
+            return entries.findAny().isEmpty();
+        }
+    }
+
+    @Test
+    void testCastsRacingAResetNeverLeakIntoTheNewGeneration() throws Exception {
+        VoteService service = generational(new CopyOnWriteArrayList<>());
+        service.addCandidate("C1", "Alice");
+        int voters = 2_000;
+        for (int i = 0; i < voters; i++) {
+            service.registerVoter("V" + i, "Voter " + i);
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<List<CastResult>>> futures = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            int offset = t;
+            futures.add(pool.submit(() -> {
+                start.await();
+                List<CastResult> results = new ArrayList<>();
+                for (int i = offset; i < voters; i += 4) {
+                    results.add(service.tryCastVote("V" + i, "C1"));
+                }
+                return results;
+            }));
+        }
+        start.countDown();
+        service.reset();
+
+        for (Future<List<CastResult>> future : futures) {
+            for (CastResult result : future.get(10, TimeUnit.SECONDS)) {
+                assertTrue(result == CastResult.ACCEPTED || result == CastResult.CLOSED
+                        || result == CastResult.UNKNOWN_VOTER || result == CastResult.UNKNOWN_CANDIDATE, result::name);
+            }
+        }
+        pool.shutdown();
+
+        // Aucun électeur ni candidat n'existe dans la nouvelle génération : aucun vote n'a pu y atterrir
+        assertEquals(0, service.getTotalVoteCount());
+        for (Vote vote : service.getAllVotes()) {
+            fail("Unexpected vote " + vote);
+        }
+    }
+}
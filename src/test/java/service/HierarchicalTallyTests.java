@@ -0,0 +1,202 @@
+package service;
+
+import org.example.project.importer.ImportReport;
+import org.example.project.importer.VoterRollImporter;
+import org.example.project.model.District;
+import org.example.project.model.Voter;
+import org.example.project.repo.InMemoryCandidateRepository;
+import org.example.project.repo.InMemoryVoteRepository;
+import org.example.project.repo.InMemoryVoterRepository;
+import org.example.project.service.VoteService;
+import org.example.project.strategy.PluralityCountingStrategy;
+import org.example.project.tally.HierarchicalTally;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests du décompte hiérarchique par bureau, circonscription et région.
+ */
+class HierarchicalTallyTests {
+
+    private static final District NORTH_A_1 = new District("North", "A", "1");
+    private static final District NORTH_A_2 = new District("North", "A", "2");
+    private static final District NORTH_B_1 = new District("North", "B", "1");
+    private static final District SOUTH_C_1 = new District("South", "C", "1");
+
+    private VoteService service;
+    private HierarchicalTally tally;
+
+    @BeforeEach
+    void setUp() {
+        service = new VoteService(new InMemoryVoteRepository(), new InMemoryCandidateRepository(),
+                new InMemoryVoterRepository());
+        service.addCandidate("C1", "Alice");
+        service.addCandidate("C2", "Bob");
+        tally = new HierarchicalTally(service::getDistrict);
+        service.addListener(tally);
+    }
+
+    @Test
+    void testEveryLevelRollsUpItsChildren() {
+        service.registerVoter("V1", "Ann", NORTH_A_1);
+        service.registerVoter("V2", "Ben", NORTH_A_2);
+        service.registerVoter("V3", "Cid", NORTH_B_1);
+        service.registerVoter("V4", "Dan", SOUTH_C_1);
+        service.registerVoter("V5", "Eve");
+        service.castVote("V1", "C1");
+        service.castVote("V2", "C1");
+        service.castVote("V3", "C2");
+        service.castVote("V4", "C2");
+        service.castVote("V5", "C2");
+
+        assertEquals(Map.of("C1", 1), tally.precinct(NORTH_A_1));
+        assertEquals(Map.of("C1", 2), tally.district("North", "A"));
+        assertEquals(Map.of("C1", 2, "C2", 1), tally.region("North"));
+        assertEquals(Map.of("C2", 1), tally.region("South"));
+        assertEquals(Map.of("C1", 2, "C2", 3), tally.total());
+        assertEquals(5, tally.totalVotes());
+        assertEquals(Map.of("C2", 1), tally.precinct(District.UNASSIGNED));
+
+        assertEquals(Set.of("North", "South", "unassigned"), tally.regions());
+        assertEquals(Set.of("A", "B"), tally.districts("North"));
+        assertEquals(Set.of("1", "2"), tally.precincts("North", "A"));
+        assertTrue(tally.region("West").isEmpty());
+        assertTrue(tally.districts("West").isEmpty());
+    }
+
+    @Test
+    void testChangesAndRetractionsAreAppliedAsDeltas() {
+        service.registerVoter("V1", "Ann", NORTH_A_1);
+        service.registerVoter("V2", "Ben", SOUTH_C_1);
+        service.castVote("V1", "C1");
+        service.castVote("V2", "C1");
+
+        service.changeVote("V1", "C2");
+        service.retractVote("V2");
+
+        assertEquals(Map.of("C2", 1), tally.region("North"));
+        assertTrue(tally.region("South").isEmpty());
+        assertEquals(Map.of("C2", 1), tally.total());
+    }
+
+    @Test
+    void testChangesAndRetractionsFollowTheDistrictAtCastTime() {
+        service.registerVoter("V1", "Ann", NORTH_A_1);
+        service.registerVoter("V2", "Ben", NORTH_A_1);
+        service.castVote("V1", "C1");
+        service.castVote("V2", "C1");
+
+        // Réaffectation après le vote : les deltas visent toujours le bureau d'origine
+        service.registerVoter("V1", "Ann", SOUTH_C_1);
+        service.registerVoter("V2", "Ben", SOUTH_C_1);
+        service.changeVote("V1", "C2");
+        service.retractVote("V2");
+
+        assertEquals(Map.of("C2", 1), tally.precinct(NORTH_A_1));
+        assertTrue(tally.region("South").isEmpty());
+        assertEquals(Map.of("C2", 1), tally.total());
+    }
+
+    @Test
+    void testReadersNeverSeeAChangeHalfApplied() throws Exception {
+        int voters = 200;
+        for (int i = 0; i < voters; i++) {
+            service.registerVoter("V" + i, "Voter " + i, NORTH_A_1);
+            service.castVote("V" + i, "C1");
+        }
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        Future<?> changes = pool.submit(() -> {
+            for (int round = 0; round < 50; round++) {
+                for (int i = 0; i < voters; i++) {
+                    service.changeVote("V" + i, round % 2 == 0 ? "C2" : "C1");
+                }
+            }
+        });
+        try {
+            while (!changes.isDone()) {
+                assertEquals(voters, tally.totalVotes());
+                Map<String, Integer> total = tally.total();
+                assertEquals(voters, total.values().stream().mapToInt(Integer::intValue).sum());
+            }
+            changes.get();
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testResetStartsFromAnEmptyTree() {
+        service.registerVoter("V1", "Ann", NORTH_A_1);
+        service.castVote("V1", "C1");
+
+        service.reset();
+
+        assertTrue(tally.total().isEmpty());
+        assertTrue(tally.regions().isEmpty());
+    }
+
+    @Test
+    void testConcurrentVotesKeepLevelsConsistent() throws Exception {
+        List<District> districts = List.of(NORTH_A_1, NORTH_A_2, NORTH_B_1, SOUTH_C_1);
+        int voters = 4_000;
+        for (int i = 0; i < voters; i++) {
+            service.registerVoter("V" + i, "Voter " + i, districts.get(i % districts.size()));
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            int offset = t;
+            futures.add(pool.submit(() -> {
+                for (int i = offset; i < voters; i += 4) {
+                    service.castVote("V" + i, i % 3 == 0 ? "C1" : "C2");
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        pool.shutdown();
+
+        assertEquals(voters, tally.totalVotes());
+        Map<String, Integer> regions = new HashMap<>();
+        for (String region : tally.regions()) {
+            tally.region(region).forEach((candidate, count) -> regions.merge(candidate, count, Integer::sum));
+        }
+        assertEquals(tally.total(), regions);
+        assertEquals(service.countVotes(new PluralityCountingStrategy()), tally.total());
+    }
+
+    @Test
+    void testImporterReadsOptionalDistrictColumns(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("roll.csv");
+        Files.writeString(file, "V1,Ann,North,A,1\nV2,Ben\nV3,Cid,North,,1\nV4,Dan,North\n");
+        InMemoryVoterRepository repo = new InMemoryVoterRepository();
+
+        ImportReport report = new VoterRollImporter(repo).importFile(file);
+
+        assertEquals(2, report.accepted());
+        Voter ann = repo.findById("V1");
+        assertEquals(NORTH_A_1, ann.getDistrict());
+        assertEquals(District.UNASSIGNED, repo.findById("V2").getDistrict());
+        assertEquals(2, report.rejectedCount());
+    }
+
+    @Test
+    void testRejectsInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new HierarchicalTally(null));
+        assertThrows(IllegalArgumentException.class, () -> new District("North", " ", "1"));
+        assertThrows(IllegalArgumentException.class, () -> new Voter("V1", "Ann", null));
+        assertThrows(IllegalArgumentException.class, () -> tally.precinct(null));
+    }
+}
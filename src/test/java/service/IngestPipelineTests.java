@@ -0,0 +1,201 @@
+package service;
+
+import org.example.project.ingest.IngestPipeline;
+import org.example.project.model.Vote;
+import org.example.project.observer.VoteListener;
+import org.example.project.repo.ColumnarVoteRepository;
+import org.example.project.repo.ConcurrentVoterRepository;
+import org.example.project.repo.SnapshotCandidateRepository;
+import org.example.project.service.CastResult;
+import org.example.project.service.VoteService;
+import org.example.project.strategy.PluralityCountingStrategy;
+import org.example.project.tally.LiveTally;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests de l'ingestion séquencée à écrivain unique.
+ */
+class IngestPipelineTests {
+
+    private VoteService service;
+
+    // Étape aval qui vérifie l'ordre de séquence des votes reçus
+    private static final class RecordingStage implements VoteListener {
+        final List<Vote> votes = new ArrayList<>();
+
+        @Override
+        public void onVote(Vote vote) {
+            votes.add(vote);
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        service = new VoteService(new ColumnarVoteRepository(), new SnapshotCandidateRepository(),
+                new ConcurrentVoterRepository());
+        service.addCandidate("C1", "Alice");
+        service.addCandidate("C2", "Bob");
+    }
+
+    private void registerVoters(int count) {
+        for (int i = 0; i < count; i++) {
+            service.registerVoter("V" + i, "Voter " + i);
+        }
+    }
+
+    @Test
+    void testConcurrentProducersThroughASmallRing() throws Exception {
+        int voters = 20_000;
+        registerVoters(voters);
+        LiveTally tally = new LiveTally();
+        service.addListener(tally);
+        RecordingStage audit = new RecordingStage();
+        RecordingStage journal = new RecordingStage();
+
+        try (IngestPipeline pipeline = new IngestPipeline(service, 60, List.of(audit, journal))) {
+            assertEquals(64, pipeline.getCapacity());
+            ExecutorService pool = Executors.newFixedThreadPool(4);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                int offset = t;
+                futures.add(pool.submit(() -> {
+                    for (int i = offset; i < voters; i += 4) {
+                        pipeline.submit("V" + i, i % 2 == 0 ? "C1" : "C2");
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            pool.shutdown();
+            pipeline.drain();
+
+            assertEquals(voters, pipeline.getProcessedCount());
+            assertEquals(Map.of(CastResult.ACCEPTED, (long) voters), pipeline.getResultCounts());
+        }
+
+        assertEquals(Map.of("C1", voters / 2, "C2", voters / 2), service.countVotes(new PluralityCountingStrategy()));
+        assertEquals(voters, tally.total());
+        assertEquals(voters, audit.votes.size());
+        // Les étapes voient les votes dans l'ordre où l'écrivain les a appliqués
+        assertEquals(audit.votes, journal.votes);
+        for (int i = 1; i < audit.votes.size(); i++) {
+            assertTrue(audit.votes.get(i - 1).getSequence() < audit.votes.get(i).getSequence());
+        }
+    }
+
+    @Test
+    void testRejectionsAreCountedAndNotForwarded() throws Exception {
+        registerVoters(2);
+        RecordingStage stage = new RecordingStage();
+        try (IngestPipeline pipeline = new IngestPipeline(service, 8, List.of(stage))) {
+            pipeline.submit("V0", "C1");
+            pipeline.submit("V0", "C2");
+            pipeline.submit("V9", "C1");
+            pipeline.submit("V1", "C9");
+            pipeline.drain();
+
+            Map<CastResult, Long> counts = pipeline.getResultCounts();
+            assertEquals(1L, counts.get(CastResult.ACCEPTED));
+            assertEquals(1L, counts.get(CastResult.DUPLICATE));
+            assertEquals(1L, counts.get(CastResult.UNKNOWN_VOTER));
+            assertEquals(1L, counts.get(CastResult.UNKNOWN_CANDIDATE));
+        }
+        assertEquals(1, stage.votes.size());
+        assertEquals("C1", stage.votes.get(0).getCandidateId());
+    }
+
+    @Test
+    void testCloseDrainsThenRejectsNewSubmissions() throws Exception {
+        registerVoters(100);
+        IngestPipeline pipeline = new IngestPipeline(service);
+        for (int i = 0; i < 100; i++) {
+            pipeline.submit("V" + i, "C1");
+        }
+        pipeline.close();
+        pipeline.close();
+
+        assertEquals(100, service.getTotalVoteCount());
+        assertTrue(pipeline.isClosed());
+        assertThrows(IllegalStateException.class, () -> pipeline.submit("V0", "C1"));
+    }
+
+    @Test
+    void testEverySubmissionAcceptedDuringCloseIsApplied() throws Exception {
+        int voters = 20_000;
+        registerVoters(voters);
+        IngestPipeline pipeline = new IngestPipeline(service, 64, List.of());
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        List<Future<Integer>> futures = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            int offset = t;
+            futures.add(pool.submit(() -> {
+                int submitted = 0;
+                for (int i = offset; i < voters; i += 4) {
+                    try {
+                        pipeline.submit("V" + i, "C1");
+                        submitted++;
+                    } catch (IllegalStateException e) {
+                        break;
+                    }
+                }
+                return submitted;
+            }));
+        }
+        // Fermeture en pleine ingestion : toute séquence accordée doit être appliquée
+        while (pipeline.getProcessedCount() < voters / 4) {
+            Thread.onSpinWait();
+        }
+        pipeline.close();
+        int submitted = 0;
+        for (Future<Integer> future : futures) {
+            submitted += future.get();
+        }
+        pool.shutdown();
+
+        assertEquals(submitted, pipeline.getProcessedCount());
+        assertEquals(submitted, service.getTotalVoteCount());
+    }
+
+    @Test
+    void testWriterAppliesBatchesDirectlyToTheStores() throws Exception {
+        registerVoters(3);
+        service.closePolls();
+        String[] voterIds = {"V0", "V1", "V0", "V2"};
+        String[] candidateIds = {"C1", "C2", "C2", "C9"};
+        Vote[] accepted = new Vote[4];
+        CastResult[] results = new CastResult[4];
+        assertEquals(0, service.castBatch(voterIds, candidateIds, 4, accepted, results));
+        assertArrayEquals(new CastResult[]{CastResult.CLOSED, CastResult.CLOSED, CastResult.CLOSED,
+                CastResult.CLOSED}, results);
+
+        service.openPolls();
+        RecordingStage listener = new RecordingStage();
+        service.addListener(listener);
+        assertEquals(2, service.castBatch(voterIds, candidateIds, 4, accepted, results));
+        assertArrayEquals(new CastResult[]{CastResult.ACCEPTED, CastResult.ACCEPTED, CastResult.DUPLICATE,
+                CastResult.UNKNOWN_CANDIDATE}, results);
+        assertEquals("C2", accepted[1].getCandidateId());
+        assertNull(accepted[2]);
+        assertEquals(2, accepted[1].getSequence());
+        assertEquals(List.of(accepted[0], accepted[1]), listener.votes);
+        assertEquals(Map.of("C1", 1, "C2", 1), service.countVotes(new PluralityCountingStrategy()));
+        assertThrows(IllegalArgumentException.class,
+                () -> service.castBatch(voterIds, candidateIds, 5, accepted, results));
+    }
+
+    @Test
+    void testRejectsInvalidConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> new IngestPipeline(null));
+        assertThrows(IllegalArgumentException.class, () -> new IngestPipeline(service, 0, List.of()));
+        assertThrows(IllegalArgumentException.class, () -> new IngestPipeline(service, 8, null));
+    }
+}
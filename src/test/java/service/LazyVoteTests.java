@@ -0,0 +1,122 @@
+package service;
+
+import org.example.project.model.Candidate;
+import org.example.project.model.Vote;
+import org.example.project.model.VoteView;
+import org.example.project.model.Voter;
+import org.example.project.repo.ColumnarVoteRepository;
+import org.example.project.repo.InMemoryCandidateRepository;
+import org.example.project.repo.InMemoryVoterRepository;
+import org.example.project.service.VoteService;
+import org.example.project.strategy.PluralityCountingStrategy;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests de la matérialisation paresseuse des votes.
+ */
+class LazyVoteTests {
+
+    @Test
+    void testVoteViewResolvesNamesOnceOnFirstRead() {
+        AtomicInteger lookups = new AtomicInteger();
+        VoteView view = new VoteView("V1", "C1", 42L,
+                id -> { lookups.incrementAndGet(); return "Bob"; },
+                id -> "Alice");
+
+        assertEquals(0, lookups.get());
+        assertEquals("Bob", view.getVoterName());
+        assertEquals("Bob", view.getVoterName());
+        assertEquals(1, lookups.get());
+        assertEquals("Alice", view.getCandidateName());
+        assertEquals(42L, view.getTimestamp());
+        assertTrue(view.toString().contains("voter=Bob"));
+    }
+
+    @Test
+    void testVoteViewFallsBackToIdWhenNameIsUnknown() {
+        VoteView view = new VoteView("V1", "C1", 0L, id -> null, id -> null);
+
+        assertEquals("V1", view.getVoterName());
+        assertEquals("C1", view.getCandidateName());
+        assertThrows(IllegalArgumentException.class,
+                () -> new VoteView("V1", "C1", 0L, null, id -> null));
+        assertThrows(IllegalArgumentException.class,
+                () -> new VoteView(" ", "C1", 0L, id -> null, id -> null));
+    }
+
+    @Test
+    void testRecordStoresCompactFormWithResolver() {
+        InMemoryVoterRepository voters = new InMemoryVoterRepository();
+        voters.register(new Voter("V1", "Bob"));
+        ColumnarVoteRepository repo = ColumnarVoteRepository.resolvingNamesFrom(voters);
+
+        repo.record(new Voter("V1", "Bob"), new Candidate("C1", "Alice"), 7L);
+
+        List<Vote> votes = repo.findAll();
+        assertEquals(1, votes.size());
+        assertInstanceOf(VoteView.class, votes.get(0));
+        assertEquals("Bob", votes.get(0).getVoterName());
+        assertEquals("Alice", votes.get(0).getCandidateName());
+        assertEquals(7L, votes.get(0).getTimestamp());
+        assertTrue(repo.hasVoted("V1"));
+        assertThrows(IllegalArgumentException.class, () -> repo.record(null, null, 0L));
+    }
+
+    @Test
+    void testRecordKeepsNamesWithoutResolver() {
+        ColumnarVoteRepository repo = new ColumnarVoteRepository();
+
+        repo.record(new Voter("V1", "Bob"), new Candidate("C1", "Alice"), 7L);
+
+        Vote vote = repo.findAll().get(0);
+        assertFalse(vote instanceof VoteView);
+        assertEquals("Bob", vote.getVoterName());
+    }
+
+    @Test
+    void testServiceWithoutListenersCountsRecordedVotes() {
+        InMemoryVoterRepository voters = new InMemoryVoterRepository();
+        VoteService service = new VoteService(ColumnarVoteRepository.resolvingNamesFrom(voters),
+                new InMemoryCandidateRepository(), voters);
+        service.addCandidate("C1", "Alice");
+        service.addCandidate("C2", "Charlie");
+        for (int i = 0; i < 5; i++) {
+            service.registerVoter("V" + i, "Voter " + i);
+            service.castVote("V" + i, i < 3 ? "C1" : "C2");
+        }
+
+        Map<String, Integer> results = service.countVotes(new PluralityCountingStrategy());
+        assertEquals(3, results.get("C1"));
+        assertEquals(2, results.get("C2"));
+        assertEquals("Voter 0", service.getAllVotes().get(0).getVoterName());
+        assertThrows(IllegalStateException.class, () -> service.castVote("V0", "C2"));
+    }
+
+    @Test
+    void testSaveStoresCompactFormWhenListenersAreAttached() {
+        InMemoryVoterRepository voters = new InMemoryVoterRepository();
+        ColumnarVoteRepository repo = ColumnarVoteRepository.resolvingNamesFrom(voters);
+        VoteService service = new VoteService(repo, new InMemoryCandidateRepository(), voters);
+        List<Vote> notified = new ArrayList<>();
+        service.addListener(notified::add);
+        service.addCandidate("C1", "Alice");
+        service.registerVoter("V1", "Bob");
+
+        service.castVote("V1", "C1");
+
+        // L'observateur reçoit le vote complet, le repository n'en garde que la forme compacte
+        assertEquals("Bob", notified.get(0).getVoterName());
+        Vote stored = repo.findByVoter("V1");
+        assertInstanceOf(VoteView.class, stored);
+        assertEquals("Bob", stored.getVoterName());
+        voters.register(new Voter("V1", "Robert"));
+        assertEquals("Robert", repo.findAll().get(0).getVoterName());
+    }
+}
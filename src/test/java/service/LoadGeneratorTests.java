@@ -0,0 +1,77 @@
+package service;
+
+import org.example.project.load.LatencyHistogram;
+import org.example.project.load.LoadConfig;
+import org.example.project.load.LoadGenerator;
+import org.example.project.load.LoadReport;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests du générateur de charge (petits scénarios).
+ */
+class LoadGeneratorTests {
+
+    @Test
+    void testSingleRoundCountsAcceptedAndRejected() throws InterruptedException {
+        LoadConfig config = new LoadConfig(2_000, 3, 4, 0.2, "concurrent", "columnar",
+                Set.of("audit", "tally", "publisher"), 0);
+        LoadReport report = new LoadGenerator(config).run();
+
+        assertEquals(1, report.rounds());
+        assertEquals(2_000, report.accepted());
+        assertEquals(report.attempts(), report.accepted() + report.rejected());
+        assertTrue(report.rejected() > 0);
+        assertTrue(report.p50Nanos() <= report.p99Nanos());
+        assertTrue(report.p99Nanos() <= report.maxNanos());
+        assertTrue(report.throughput() > 0);
+        assertTrue(report.toString().contains("throughput="));
+    }
+
+    @Test
+    void testSoakRunsSeveralRounds() throws InterruptedException {
+        LoadConfig config = LoadConfig.parse(new String[]{
+                "--voters=500", "--candidates=2", "--threads=2", "--duplicates=0",
+                "--duration=1", "--listeners=tally"});
+        LoadReport report = new LoadGenerator(config).run();
+
+        assertTrue(report.rounds() > 1);
+        assertEquals(0, report.rejected());
+        assertEquals(500L * report.rounds(), report.accepted());
+        assertTrue(report.gcCount() >= 0);
+        report.heapGrowth();
+    }
+
+    @Test
+    void testConfigValidation() {
+        LoadConfig defaults = LoadConfig.defaults();
+        assertEquals("memory", defaults.repositoryType());
+        assertThrows(IllegalArgumentException.class, () -> LoadConfig.parse(new String[]{"voters=10"}));
+        assertThrows(IllegalArgumentException.class, () -> LoadConfig.parse(new String[]{"--unknown=1"}));
+        assertThrows(IllegalArgumentException.class, () -> LoadConfig.parse(new String[]{"--listeners=nope"}));
+        assertThrows(IllegalArgumentException.class, () -> LoadConfig.parse(new String[]{"--duplicates=1"}));
+        assertThrows(IllegalArgumentException.class, () -> LoadConfig.parse(new String[]{"--threads=0"}));
+        assertThrows(IllegalArgumentException.class, () -> new LoadGenerator(null));
+    }
+
+    @Test
+    void testHistogramPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.percentile(99));
+        for (int i = 1; i <= 1_000; i++) {
+            histogram.record(i * 1_000L);
+        }
+        LatencyHistogram other = new LatencyHistogram();
+        other.record(5_000_000);
+        histogram.merge(other);
+
+        assertEquals(1_001, histogram.count());
+        assertEquals(5_000_000, histogram.max());
+        long p50 = histogram.percentile(50);
+        assertTrue(p50 >= 500_000 && p50 <= 520_000, "p50=" + p50);
+        assertEquals(5_000_000, histogram.percentile(100));
+    }
+}
@@ -0,0 +1,100 @@
+package service;
+
+import org.example.project.model.Vote;
+import org.example.project.repo.ColumnarVoteRepository;
+import org.example.project.repo.InMemoryCandidateRepository;
+import org.example.project.repo.InMemoryVoteRepository;
+import org.example.project.repo.InMemoryVoterRepository;
+import org.example.project.repo.VoteRepository;
+import org.example.project.service.VoteService;
+import org.example.project.strategy.CountingStrategy;
+import org.example.project.strategy.PluralityCountingStrategy;
+import org.example.project.strategy.RankedChoiceCountingStrategy;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests du flux ordonné des votes et du comptage en un seul passage.
+ */
+class OrderedCountTests {
+
+    static Stream<Supplier<VoteRepository>> repositories() {
+        return Stream.of(InMemoryVoteRepository::new, ColumnarVoteRepository::new);
+    }
+
+    @ParameterizedTest
+    @MethodSource("repositories")
+    void testStreamFollowsAppendOrderAcrossBatches(Supplier<VoteRepository> factory) {
+        VoteRepository repo = factory.get();
+        int total = 10_000;
+        // Horodatages décroissants : seul l'ordre d'ajout compte
+        for (int i = 0; i < total; i++) {
+            repo.save(new Vote("V" + i, "Voter", "C" + (i % 3), "Candidate", total - i));
+        }
+
+        try (Stream<Vote> votes = repo.streamInOrder()) {
+            List<String> ids = votes.map(Vote::getVoterId).toList();
+            assertEquals(total, ids.size());
+            for (int i = 0; i < total; i++) {
+                assertEquals("V" + i, ids.get(i));
+            }
+        }
+        int[] seen = {0};
+        repo.forEach(vote -> assertEquals("V" + seen[0]++, vote.getVoterId()));
+        assertEquals(total, seen[0]);
+    }
+
+    @ParameterizedTest
+    @MethodSource("repositories")
+    void testSinglePassCountsMatchListCounts(Supplier<VoteRepository> factory) {
+        VoteRepository repo = factory.get();
+        for (int i = 0; i < 50; i++) {
+            repo.save(new Vote("V" + i, "Voter", "C" + (i % 4), "Candidate", i));
+        }
+
+        for (CountingStrategy strategy : List.of(new PluralityCountingStrategy(), new RankedChoiceCountingStrategy())) {
+            assertEquals(strategy.count(repo.findAll()), strategy.countInOrder(repo.streamInOrder()));
+        }
+    }
+
+    @Test
+    void testRankedChoiceWeightsByAppendOrder() {
+        Map<String, Integer> results = new RankedChoiceCountingStrategy().countInOrder(Stream.of(
+                new Vote("V1", "A", "C1", "Alice", 30L),
+                new Vote("V2", "B", "C2", "Charlie", 10L)));
+
+        assertEquals(1, results.get("C1"));
+        assertEquals(2, results.get("C2"));
+    }
+
+    @Test
+    void testCustomStrategyFallsBackToListCount() {
+        CountingStrategy custom = new CountingStrategy() {
+            @Override
+            public Map<String, Integer> count(List<Vote> votes) {
+                return Map.of("size", votes.size());
+            }
+
+            @Override
+            public String getName() {
+                return "Size";
+            }
+        };
+        VoteService service = new VoteService(new InMemoryVoteRepository(),
+                new InMemoryCandidateRepository(), new InMemoryVoterRepository());
+        service.addCandidate("C1", "Alice");
+        service.registerVoter("V1", "Bob");
+        service.castVote("V1", "C1");
+
+        assertEquals(Map.of("size", 1), service.countVotes(custom));
+        assertEquals(Map.of("C1", 1), service.countVotes(new PluralityCountingStrategy()));
+    }
+}
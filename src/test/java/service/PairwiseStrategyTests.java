@@ -0,0 +1,257 @@
+package service;
+
+import org.example.project.model.RankedBallot;
+import org.example.project.model.Vote;
+import org.example.project.observer.VoteListener;
+import org.example.project.repo.InMemoryCandidateRepository;
+import org.example.project.repo.InMemoryVoteRepository;
+import org.example.project.repo.InMemoryVoterRepository;
+import org.example.project.service.CastResult;
+import org.example.project.service.VoteService;
+import org.example.project.strategy.BordaCountingStrategy;
+import org.example.project.strategy.CountingEngine;
+import org.example.project.strategy.PairwiseMatrix;
+import org.example.project.strategy.PluralityCountingStrategy;
+import org.example.project.strategy.SchulzeCountingStrategy;
+import org.example.project.strategy.VoteAccumulator;
+import org.example.project.tally.PairwiseTally;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests de la matrice de préférences et des méthodes Borda et Schulze.
+ */
+class PairwiseStrategyTests {
+
+    private static void add(List<RankedBallot> ballots, int copies, String ranking) {
+        for (int i = 0; i < copies; i++) {
+            ballots.add(new RankedBallot("V" + ballots.size(), List.of(ranking.split(""))));
+        }
+    }
+
+    // Exemple de référence de la méthode de Schulze : 45 électeurs, 5 candidats
+    private static List<RankedBallot> schulzeExample() {
+        List<RankedBallot> ballots = new ArrayList<>();
+        add(ballots, 5, "ACBED");
+        add(ballots, 5, "ADECB");
+        add(ballots, 8, "BEDAC");
+        add(ballots, 3, "CABED");
+        add(ballots, 7, "CAEBD");
+        add(ballots, 2, "CBADE");
+        add(ballots, 7, "DCEBA");
+        add(ballots, 8, "EBADC");
+        return ballots;
+    }
+
+    @Test
+    void testSchulzeReferenceExample() {
+        PairwiseMatrix matrix = new PairwiseMatrix();
+        schulzeExample().forEach(matrix::add);
+
+        assertEquals(45, matrix.getBallotCount());
+        assertEquals(20, matrix.preference("A", "B"));
+        assertEquals(25, matrix.preference("B", "A"));
+        Map<String, Integer> results = SchulzeCountingStrategy.score(matrix);
+        assertEquals(Map.of("E", 4, "A", 3, "C", 2, "B", 1, "D", 0), results);
+        assertEquals("E", CountingEngine.winnerOf(results));
+    }
+
+    @Test
+    void testBordaWithTruncatedBallots() {
+        List<RankedBallot> ballots = new ArrayList<>();
+        add(ballots, 2, "ABC");
+        add(ballots, 1, "BCA");
+        add(ballots, 1, "C");
+        PairwiseMatrix matrix = new PairwiseMatrix();
+        ballots.forEach(matrix::add);
+
+        // Sur le bulletin "C", A et B sont à égalité derrière C
+        assertEquals(Map.of("A", 4, "B", 4, "C", 3), BordaCountingStrategy.score(matrix));
+        assertEquals(2, matrix.preference("C", "A"));
+        assertEquals(0, matrix.preference("A", "Z"));
+    }
+
+    @Test
+    void testShardedBuildMatchesSequentialBuild() {
+        List<RankedBallot> ballots = schulzeExample();
+        PairwiseMatrix sequential = new PairwiseMatrix();
+        ballots.forEach(sequential::add);
+
+        PairwiseMatrix sharded = PairwiseMatrix.fromShards(List.of(
+                ballots.subList(30, 45), ballots.subList(0, 10), ballots.subList(10, 30)));
+
+        assertEquals(sequential.getBallotCount(), sharded.getBallotCount());
+        for (String a : sequential.getCandidateIds()) {
+            for (String b : sequential.getCandidateIds()) {
+                assertEquals(sequential.preference(a, b), sharded.preference(a, b), a + ">" + b);
+            }
+        }
+        assertEquals(SchulzeCountingStrategy.score(sequential), SchulzeCountingStrategy.score(sharded));
+        assertEquals(BordaCountingStrategy.score(sequential), BordaCountingStrategy.score(sharded));
+    }
+
+    @Test
+    void testStrategiesCountSingleChoiceVotes() {
+        List<Vote> votes = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            votes.add(new Vote("V" + i, "Voter", i < 4 ? "C1" : "C2", "Candidate"));
+        }
+
+        Map<String, Integer> borda = new BordaCountingStrategy().count(votes);
+        Map<String, Integer> schulze = new SchulzeCountingStrategy().count(votes);
+        assertEquals(Map.of("C1", 4, "C2", 2), borda);
+        assertEquals(Map.of("C1", 1, "C2", 0), schulze);
+
+        VoteAccumulator first = new SchulzeCountingStrategy().newAccumulator();
+        VoteAccumulator second = new SchulzeCountingStrategy().newAccumulator();
+        votes.subList(0, 3).forEach(first::accept);
+        votes.subList(3, 6).forEach(second::accept);
+        first.merge(second);
+        assertEquals(schulze, first.result());
+        assertThrows(IllegalArgumentException.class,
+                () -> first.merge(new BordaCountingStrategy().newAccumulator()));
+        assertThrows(IllegalArgumentException.class,
+                () -> first.merge(new PluralityCountingStrategy().newAccumulator()));
+        assertNotNull(new BordaCountingStrategy().getName());
+        assertNotNull(new SchulzeCountingStrategy().getName());
+    }
+
+    @Test
+    void testMatrixGrowsWithNewCandidates() {
+        PairwiseMatrix matrix = new PairwiseMatrix();
+        matrix.add(new RankedBallot("V0", List.of("C0", "C1")));
+        for (int i = 2; i < 20; i++) {
+            matrix.add("C" + i);
+        }
+
+        assertEquals(20, matrix.size());
+        assertEquals(1, matrix.preference("C0", "C1"));
+        assertEquals(1, matrix.preference("C0", "C19"));
+        assertEquals(1, matrix.preference("C19", "C0"));
+        assertEquals(19, BordaCountingStrategy.score(matrix).get("C0"));
+    }
+
+    private static VoteService rankedService(List<RankedBallot> ballots) {
+        VoteService service = new VoteService(new InMemoryVoteRepository(),
+                new InMemoryCandidateRepository(), new InMemoryVoterRepository());
+        for (String id : List.of("A", "B", "C", "D", "E")) {
+            service.addCandidate(id, "Candidate " + id);
+        }
+        for (RankedBallot ballot : ballots) {
+            service.registerVoter(ballot.getVoterId(), "Voter " + ballot.getVoterId());
+        }
+        return service;
+    }
+
+    @Test
+    void testServiceCountsRankedBallotsFromMaintainedMatrix() {
+        List<RankedBallot> ballots = schulzeExample();
+        VoteService service = rankedService(ballots);
+        List<RankedBallot> notified = new ArrayList<>();
+        service.addListener(new VoteListener() {
+            @Override
+            public void onVote(Vote vote) {
+            }
+
+            @Override
+            public void onRankedBallot(Vote firstChoice, RankedBallot ballot) {
+                notified.add(ballot);
+            }
+        });
+        ballots.forEach(service::castRankedBallot);
+
+        // Au premier choix seul, C gagnerait : le classement complet vient bien de la matrice
+        assertEquals(Map.of("E", 4, "A", 3, "C", 2, "B", 1, "D", 0),
+                service.countVotes(new SchulzeCountingStrategy()));
+        assertEquals("E", service.getWinner(new SchulzeCountingStrategy()).getId());
+        assertEquals(12, service.countVotes(new PluralityCountingStrategy()).get("C"));
+        assertEquals(45, notified.size());
+
+        // Un changement de vote retire le classement et ajoute un choix unique
+        service.changeVote("V0", "E");
+        PairwiseTally reference = new PairwiseTally();
+        ballots.subList(1, 45).forEach(reference::addBallot);
+        reference.addSingleChoice("E");
+        assertEquals(BordaCountingStrategy.score(reference.snapshot()),
+                service.countVotes(new BordaCountingStrategy()));
+
+        service.retractVote("V0");
+        reference.onVoteRetracted(new Vote("V0", "Voter V0", "E", "Candidate E"));
+        assertEquals(44, reference.snapshot().getBallotCount());
+        assertEquals(BordaCountingStrategy.score(reference.snapshot()),
+                service.countVotes(new BordaCountingStrategy()));
+    }
+
+    @Test
+    void testCountAllAgreesWithCountVotesOnRankedBallots() {
+        List<RankedBallot> ballots = schulzeExample();
+        VoteService service = rankedService(ballots);
+        ballots.forEach(service::castRankedBallot);
+
+        List<CountingEngine.Outcome> outcomes = service.countAll(List.of(new PluralityCountingStrategy(),
+                new BordaCountingStrategy(), new SchulzeCountingStrategy()));
+        assertEquals(service.countVotes(new PluralityCountingStrategy()), outcomes.get(0).results());
+        assertEquals(service.countVotes(new BordaCountingStrategy()), outcomes.get(1).results());
+        assertEquals(service.countVotes(new SchulzeCountingStrategy()), outcomes.get(2).results());
+        assertInstanceOf(BordaCountingStrategy.class, outcomes.get(1).strategy());
+        assertEquals("E", outcomes.get(2).winnerId());
+        assertEquals(outcomes.get(1).results(),
+                service.countAll(List.of(new BordaCountingStrategy())).get(0).results());
+    }
+
+    @Test
+    void testRankedBallotRejectionsAndStreamFallback() {
+        VoteService service = rankedService(List.of(new RankedBallot("V1", List.of("A"))));
+        assertEquals(CastResult.UNKNOWN_CANDIDATE, service.tryCastRankedBallot(null));
+        assertEquals(CastResult.UNKNOWN_CANDIDATE,
+                service.tryCastRankedBallot(new RankedBallot("V1", List.of("A", "Z"))));
+        assertEquals(CastResult.UNKNOWN_VOTER,
+                service.tryCastRankedBallot(new RankedBallot("V9", List.of("A"))));
+        assertThrows(IllegalArgumentException.class,
+                () -> service.castRankedBallot(new RankedBallot("V1", List.of("Z"))));
+        assertThrows(IllegalArgumentException.class, () -> service.castRankedBallot(null));
+        service.castRankedBallot(new RankedBallot("V1", List.of("B", "A")));
+        assertThrows(IllegalStateException.class,
+                () -> service.castRankedBallot(new RankedBallot("V1", List.of("A"))));
+
+        // Votes ajoutés hors du service : la matrice est incomplète, on relit les votes
+        InMemoryVoteRepository votes = new InMemoryVoteRepository();
+        VoteService fallback = new VoteService(votes, new InMemoryCandidateRepository(), new InMemoryVoterRepository());
+        votes.save(new Vote("V1", "Voter", "A", "Candidate A"));
+        assertEquals(Map.of("A", 0), fallback.countVotes(new BordaCountingStrategy()));
+        assertEquals(Map.of("A", 0), fallback.countAll(List.of(new BordaCountingStrategy())).get(0).results());
+        assertThrows(UnsupportedOperationException.class,
+                () -> new PluralityCountingStrategy().scorePairwise(new PairwiseMatrix()));
+    }
+
+    @Test
+    void testMatrixRemovesBallots() {
+        PairwiseMatrix matrix = new PairwiseMatrix();
+        RankedBallot ballot = new RankedBallot("V1", List.of("A", "B"));
+        matrix.add(ballot);
+        matrix.add("B", 3);
+        matrix.remove(ballot);
+
+        assertEquals(3, matrix.getBallotCount());
+        assertEquals(0, matrix.preference("A", "B"));
+        assertEquals(3, matrix.preference("B", "A"));
+    }
+
+    @Test
+    void testBallotValidation() {
+        assertThrows(IllegalArgumentException.class, () -> new RankedBallot("V1", List.of()));
+        assertThrows(IllegalArgumentException.class, () -> new RankedBallot("V1", List.of("A", "A")));
+        assertThrows(IllegalArgumentException.class, () -> new RankedBallot(" ", List.of("A")));
+        assertThrows(IllegalArgumentException.class, () -> new RankedBallot("V1", List.of("A", " ")));
+        assertEquals(List.of("A", "B"), new RankedBallot("V1", List.of("A", "B")).getRanking());
+        PairwiseMatrix matrix = new PairwiseMatrix();
+        assertThrows(IllegalArgumentException.class, () -> matrix.add((RankedBallot) null));
+        assertThrows(IllegalArgumentException.class, () -> matrix.add(" "));
+        assertThrows(IllegalArgumentException.class, () -> matrix.merge(null));
+    }
+}
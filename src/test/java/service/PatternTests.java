@@ -46,6 +46,14 @@ class PatternTests {
             assertInstanceOf(InMemoryVoterRepository.class, repo);
         }
 
+        @Test
+        void testFactoryCreatesConcurrentRepositories() {
+            assertInstanceOf(ConcurrentCandidateRepository.class,
+                    RepositoryFactory.createCandidateRepository("concurrent"));
+            assertInstanceOf(ConcurrentVoterRepository.class,
+                    RepositoryFactory.createVoterRepository("concurrent"));
+        }
+
         @Test
         void testFactoryWithUnknownTypeThrowsException() {
             assertThrows(IllegalArgumentException.class,
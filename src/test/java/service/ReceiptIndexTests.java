@@ -0,0 +1,232 @@
+package service;
+
+import org.example.project.index.LongIntMap;
+import org.example.project.index.ReceiptIndex;
+import org.example.project.model.Vote;
+import org.example.project.repo.InMemoryCandidateRepository;
+import org.example.project.repo.InMemoryVoteRepository;
+import org.example.project.repo.InMemoryVoterRepository;
+import org.example.project.service.VoteService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests de l'index de reçus et de sa table long → int à adressage ouvert.
+ */
+class ReceiptIndexTests {
+
+    private static final byte[] KEY = "receipt-index-tests-secret-key!!".getBytes(StandardCharsets.US_ASCII);
+
+    private VoteService service;
+    private ReceiptIndex receipts;
+
+    @BeforeEach
+    void setUp() {
+        service = new VoteService(new InMemoryVoteRepository(), new InMemoryCandidateRepository(),
+                new InMemoryVoterRepository());
+        service.addCandidate("C1", "Alice");
+        service.addCandidate("C2", "Bob");
+        receipts = new ReceiptIndex(service::getCurrentVote, KEY);
+        service.addListener(receipts);
+    }
+
+    @Test
+    void testLongIntMapMatchesAHashMapUnderRandomOperations() {
+        LongIntMap map = new LongIntMap();
+        Map<Long, Integer> reference = new HashMap<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 200_000; i++) {
+            long key = random.nextInt(5_000) * 0x9E3779B97F4A7C15L;
+            switch (random.nextInt(3)) {
+                case 0 -> assertEquals(orMissing(reference.put(key, i)), map.put(key, i, -1));
+                case 1 -> assertEquals(orMissing(reference.remove(key)), map.remove(key, -1));
+                default -> assertEquals(orMissing(reference.get(key)), map.get(key, -1));
+            }
+        }
+        assertEquals(reference.size(), map.size());
+        map.clear();
+        assertEquals(0, map.size());
+        assertEquals(-1, map.get(0, -1));
+        assertThrows(IllegalArgumentException.class, () -> new LongIntMap(-1));
+    }
+
+    private static int orMissing(Integer value) {
+        return value == null ? -1 : value;
+    }
+
+    @Test
+    void testReceiptsAndVoterIdsLeadToTheStoredVote() {
+        service.registerVoter("V1", "Ann");
+        service.registerVoter("V2", "Ben");
+        service.castVote("V1", "C1");
+        service.castVote("V2", "C2");
+
+        long receipt = receipts.receiptFor("V1").orElseThrow();
+        Vote vote = receipts.findByReceipt(receipt);
+        assertEquals("V1", vote.getVoterId());
+        assertEquals("C1", vote.getCandidateId());
+        assertTrue(receipts.isCurrent(receipt));
+        assertEquals("C2", receipts.findByVoter("V2").getCandidateId());
+        assertNotEquals(receipt, receipts.receiptFor("V2").orElseThrow());
+        assertEquals(receipt, ReceiptIndex.parseReceipt(ReceiptIndex.formatReceipt(receipt)));
+
+        assertNull(receipts.findByReceipt(receipt + 1));
+        assertFalse(receipts.isCurrent(receipt + 1));
+        assertNull(receipts.findByVoter("V3"));
+        assertNull(receipts.findByVoter(null));
+        assertTrue(receipts.receiptFor("V3").isEmpty());
+    }
+
+    @Test
+    void testChangedAndRetractedVotesKeepTheirReceiptsButAreNoLongerCurrent() {
+        service.registerVoter("V1", "Ann");
+        service.registerVoter("V2", "Ben");
+        service.castVote("V1", "C1");
+        service.castVote("V2", "C1");
+        long first = receipts.receiptFor("V1").orElseThrow();
+        long retracted = receipts.receiptFor("V2").orElseThrow();
+
+        service.changeVote("V1", "C2");
+        service.retractVote("V2");
+
+        long second = receipts.receiptFor("V1").orElseThrow();
+        assertNotEquals(first, second);
+        // L'ancien reçu reste connu, mais ne mène plus à un vote compté
+        assertTrue(receipts.contains(first));
+        assertNull(receipts.findByReceipt(first));
+        assertEquals("C2", receipts.findByReceipt(second).getCandidateId());
+        assertFalse(receipts.isCurrent(first));
+        assertTrue(receipts.isCurrent(second));
+        assertFalse(receipts.isCurrent(retracted));
+        assertNull(receipts.findByVoter("V2"));
+        assertEquals(3, receipts.size());
+
+        service.reset();
+        assertEquals(0, receipts.size());
+        assertNull(receipts.findByReceipt(second));
+        assertFalse(receipts.contains(second));
+    }
+
+    @Test
+    void testLookupsRunAlongsideIngestion() throws Exception {
+        int voters = 20_000;
+        for (int i = 0; i < voters; i++) {
+            service.registerVoter("V" + i, "Voter " + i);
+        }
+        AtomicBoolean done = new AtomicBoolean();
+        ExecutorService pool = Executors.newFixedThreadPool(3);
+        List<Future<?>> writers = new ArrayList<>();
+        for (int t = 0; t < 2; t++) {
+            int offset = t;
+            writers.add(pool.submit(() -> {
+                for (int i = offset; i < voters; i += 2) {
+                    service.castVote("V" + i, "C1");
+                }
+            }));
+        }
+        Future<Integer> reader = pool.submit(() -> {
+            int found = 0;
+            Random random = new Random(7);
+            while (!done.get()) {
+                String voterId = "V" + random.nextInt(voters);
+                OptionalLong receipt = receipts.receiptFor(voterId);
+                if (receipt.isPresent()) {
+                    assertEquals(voterId, receipts.findByReceipt(receipt.getAsLong()).getVoterId());
+                    found++;
+                }
+            }
+            return found;
+        });
+        try {
+            for (Future<?> writer : writers) {
+                writer.get();
+            }
+        } finally {
+            done.set(true);
+            pool.shutdown();
+        }
+        assertTrue(reader.get() >= 0);
+
+        assertEquals(voters, receipts.size());
+        for (int i = 0; i < voters; i++) {
+            assertTrue(receipts.isCurrent(receipts.receiptFor("V" + i).orElseThrow()));
+        }
+    }
+
+    @Test
+    void testRejectsInvalidInput() {
+        assertThrows(IllegalArgumentException.class, () -> receipts.receiptOf(null));
+        assertThrows(IllegalArgumentException.class,
+                () -> receipts.receiptOf(new Vote("V1", "Ann", "C1", "Alice")));
+        assertThrows(IllegalArgumentException.class, () -> new ReceiptIndex(null, KEY));
+        assertThrows(IllegalArgumentException.class, () -> new ReceiptIndex(service::getCurrentVote, new byte[8]));
+        assertThrows(IllegalArgumentException.class, () -> new ReceiptIndex(service::getCurrentVote, null));
+        assertThrows(IllegalArgumentException.class, () -> ReceiptIndex.loadOrCreateKey(null));
+        assertThrows(IllegalArgumentException.class, () -> ReceiptIndex.parseReceipt("xyz"));
+        assertThrows(IllegalArgumentException.class, () -> ReceiptIndex.parseReceipt(null));
+    }
+
+    @Test
+    void testReceiptsSurviveARestartWithThePersistedKey(@TempDir Path dir) throws Exception {
+        Path keyFile = dir.resolve("receipt.key");
+        byte[] key = ReceiptIndex.loadOrCreateKey(keyFile);
+        assertEquals(ReceiptIndex.KEY_BYTES, key.length);
+        assertArrayEquals(key, ReceiptIndex.loadOrCreateKey(keyFile));
+
+        InMemoryVoteRepository repository = new InMemoryVoteRepository();
+        VoteService first = new VoteService(repository, new InMemoryCandidateRepository(),
+                new InMemoryVoterRepository());
+        first.addCandidate("C1", "Alice");
+        first.registerVoter("V1", "Ann");
+        ReceiptIndex before = new ReceiptIndex(first::getCurrentVote, key);
+        first.addListener(before);
+        first.castVote("V1", "C1");
+        long receipt = before.receiptFor("V1").orElseThrow();
+
+        // Nouveau processus : même repository, clé relue, index reconstruit depuis les votes
+        ReceiptIndex after = new ReceiptIndex(repository::findByVoter, ReceiptIndex.loadOrCreateKey(keyFile));
+        repository.forEach(after::onVote);
+        assertEquals("C1", after.findByReceipt(receipt).getCandidateId());
+        assertEquals(receipt, after.receiptFor("V1").orElseThrow());
+
+        Files.write(keyFile, new byte[3]);
+        assertThrows(IllegalStateException.class, () -> ReceiptIndex.loadOrCreateKey(keyFile));
+    }
+
+    @Test
+    void testReceiptsAreAKeyedMacOfTheSequence() throws Exception {
+        service.registerVoter("V1", "Ann");
+        service.registerVoter("V2", "Ben");
+        service.castVote("V1", "C1");
+        service.castVote("V2", "C1");
+        Vote vote = receipts.findByVoter("V2");
+
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(KEY, "HmacSHA256"));
+        long expected = ByteBuffer.wrap(mac.doFinal(ByteBuffer.allocate(8).putLong(vote.getSequence()).array()))
+                .getLong();
+        assertEquals(expected, receipts.receiptOf(vote));
+
+        // Sans la clé, un reçu connu ne donne pas ceux des séquences voisines
+        ReceiptIndex otherKey = new ReceiptIndex(service::getCurrentVote);
+        assertNotEquals(receipts.receiptOf(vote), otherKey.receiptOf(vote));
+        long first = receipts.receiptFor("V1").orElseThrow();
+        long second = receipts.receiptFor("V2").orElseThrow();
+        assertTrue(Long.bitCount(first ^ second) > 8);
+    }
+}
@@ -0,0 +1,183 @@
+package service;
+
+import org.example.project.model.Vote;
+import org.example.project.replication.*;
+import org.example.project.repo.InMemoryCandidateRepository;
+import org.example.project.repo.InMemoryVoteRepository;
+import org.example.project.repo.InMemoryVoterRepository;
+import org.example.project.service.VoteService;
+import org.example.project.strategy.PluralityCountingStrategy;
+import org.example.project.tally.LiveTally;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests de la réplication leader/suiveurs sur le transport en mémoire.
+ */
+class ReplicationTests {
+
+    @Test
+    void testFollowersApplyVotesAndTallies() throws InterruptedException {
+        VoteService service = new VoteService(new InMemoryVoteRepository(),
+                new InMemoryCandidateRepository(), new InMemoryVoterRepository());
+        service.addCandidate("C1", "Alice");
+        service.addCandidate("C2", "Bob");
+
+        ReplicationLeader leader = new ReplicationLeader(16);
+        service.addListener(leader);
+        InMemoryVoteRepository replicaVotes = new InMemoryVoteRepository();
+        ReplicationFollower follower = new ReplicationFollower("replica-1", replicaVotes);
+        LiveTally replicaTally = new LiveTally();
+        follower.addListener(replicaTally);
+
+        try (LoopbackTransport transport = LoopbackTransport.connect(leader, follower)) {
+            for (int i = 0; i < 100; i++) {
+                service.registerVoter("V" + i, "Voter" + i);
+                service.castVote("V" + i, i % 3 == 0 ? "C2" : "C1");
+            }
+            leader.ship();
+            assertTrue(transport.drain(2_000));
+        }
+
+        assertEquals(100, follower.getAppliedSequence());
+        assertEquals(100, replicaVotes.count());
+        assertEquals(Map.of("C1", 66, "C2", 34), replicaTally.snapshot());
+        ReplicationStats stats = leader.getStats().get(0);
+        assertEquals("replica-1", stats.followerId());
+        assertEquals(0, stats.lag());
+        assertTrue(follower.getThroughput() >= 0);
+    }
+
+    @Test
+    void testFollowersMirrorChangesAndRetractions() throws InterruptedException {
+        VoteService service = new VoteService(new InMemoryVoteRepository(),
+                new InMemoryCandidateRepository(), new InMemoryVoterRepository());
+        service.addCandidate("C1", "Alice");
+        service.addCandidate("C2", "Bob");
+        ReplicationLeader leader = new ReplicationLeader(4);
+        service.addListener(leader);
+        InMemoryVoteRepository replicaVotes = new InMemoryVoteRepository();
+        ReplicationFollower follower = new ReplicationFollower("replica-1", replicaVotes);
+        LiveTally replicaTally = new LiveTally();
+        follower.addListener(replicaTally);
+
+        try (LoopbackTransport transport = LoopbackTransport.connect(leader, follower)) {
+            for (int i = 0; i < 10; i++) {
+                service.registerVoter("V" + i, "Voter" + i);
+                service.castVote("V" + i, "C1");
+            }
+            service.changeVote("V0", "C2");
+            service.changeVote("V1", "C2");
+            service.retractVote("V2");
+            leader.ship();
+            assertTrue(transport.drain(2_000));
+        }
+
+        assertEquals(13, follower.getAppliedSequence());
+        assertEquals(9, replicaVotes.count());
+        assertFalse(replicaVotes.hasVoted("V2"));
+        assertEquals("C2", replicaVotes.findByVoter("V0").getCandidateId());
+        assertEquals(service.countVotes(new PluralityCountingStrategy()), replicaTally.snapshot());
+        assertEquals(Map.of("C1", 7, "C2", 2), replicaTally.snapshot());
+        assertThrows(IllegalArgumentException.class, () -> LogEntry.change(null, vote(0)));
+        assertThrows(IllegalArgumentException.class, () -> LogEntry.retract(null));
+    }
+
+    @Test
+    void testFollowersReplayServiceResets() throws InterruptedException {
+        VoteService service = new VoteService(new InMemoryVoteRepository(),
+                new InMemoryCandidateRepository(), new InMemoryVoterRepository());
+        ReplicationLeader leader = new ReplicationLeader(4);
+        service.addListener(leader);
+        InMemoryVoteRepository replicaVotes = new InMemoryVoteRepository();
+        ReplicationFollower follower = new ReplicationFollower("replica-1", replicaVotes);
+        LiveTally replicaTally = new LiveTally();
+        follower.addListener(replicaTally);
+
+        try (LoopbackTransport transport = LoopbackTransport.connect(leader, follower)) {
+            service.addCandidate("C1", "Alice");
+            service.registerVoter("V1", "Ann");
+            service.castVote("V1", "C1");
+            service.reset();
+            service.addCandidate("C2", "Bob");
+            service.registerVoter("V2", "Eve");
+            service.castVote("V2", "C2");
+            leader.ship();
+            assertTrue(transport.drain(2_000));
+        }
+
+        assertEquals(3, follower.getAppliedSequence());
+        assertEquals(List.of("V2"), replicaVotes.findAll().stream().map(Vote::getVoterId).toList());
+        assertEquals(Map.of("C2", 1), replicaTally.snapshot());
+    }
+
+    @Test
+    void testLateFollowerCatchesUpFromOffset() throws InterruptedException {
+        ReplicationLeader leader = new ReplicationLeader(10);
+        for (int i = 0; i < 25; i++) {
+            leader.onVote(vote(i));
+        }
+        leader.ship();  // aucun suiveur encore
+
+        InMemoryVoteRepository replica = new InMemoryVoteRepository();
+        replica.save(vote(0));  // état restauré jusqu'à la séquence 1
+        ReplicationFollower follower = new ReplicationFollower("late", replica, 1);
+        try (LoopbackTransport transport = LoopbackTransport.connect(leader, follower)) {
+            assertEquals(25, leader.getStats().get(0).lag());  // rien d'acquitté encore
+
+            leader.onVote(vote(25));
+            leader.ship();  // lot 26..26 : trou détecté, rattrapage 2..25
+            assertTrue(transport.drain(2_000));
+        }
+
+        assertEquals(26, follower.getAppliedSequence());
+        List<Vote> votes = replica.findAll();
+        assertEquals(26, votes.size());
+        assertEquals("V25", votes.get(25).getVoterId());
+        assertEquals(0, leader.getStats().get(0).lag());
+    }
+
+    @Test
+    void testDuplicateBatchesAreIgnoredAndBackgroundShipping() throws InterruptedException {
+        ReplicationLeader leader = new ReplicationLeader();
+        InMemoryVoteRepository replica = new InMemoryVoteRepository();
+        ReplicationFollower follower = new ReplicationFollower("f", replica);
+        try (LoopbackTransport transport = LoopbackTransport.connect(leader, follower)) {
+            leader.start(1);
+            leader.onVote(vote(0));
+            leader.onVote(vote(1));
+            long deadline = System.currentTimeMillis() + 2_000;
+            while (follower.getAppliedSequence() < 2 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(5);
+            }
+            follower.receive(leader.fetch(1, 10));  // relivraison
+            leader.close();
+            assertTrue(transport.drain(1_000));
+            leader.removeFollower(transport);
+        }
+        assertEquals(2, replica.count());
+        assertTrue(leader.getStats().isEmpty());
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new ReplicationLeader(0));
+        assertThrows(IllegalArgumentException.class, () -> new ReplicationFollower(" ", new InMemoryVoteRepository()));
+        assertThrows(IllegalArgumentException.class, () -> new ReplicationFollower("f", null));
+        assertThrows(IllegalArgumentException.class, () -> new ReplicationFollower("f", new InMemoryVoteRepository(), -1));
+        assertThrows(IllegalArgumentException.class, () -> new VoteBatch(0, List.of()));
+        assertThrows(IllegalArgumentException.class, () -> new ReplicationLeader().fetch(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new ReplicationLeader().addFollower(null));
+        assertThrows(IllegalArgumentException.class, () -> LoopbackTransport.connect(null, null));
+        assertThrows(IllegalStateException.class,
+                () -> new ReplicationFollower("f", new InMemoryVoteRepository()).catchUp(0));
+    }
+
+    private static Vote vote(int i) {
+        return new Vote("V" + i, "Voter" + i, "C1", "Alice", i);
+    }
+}
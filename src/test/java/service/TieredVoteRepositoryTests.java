@@ -0,0 +1,196 @@
+package service;
+
+import org.example.project.factory.RepositoryFactory;
+import org.example.project.model.Vote;
+import org.example.project.repo.InMemoryCandidateRepository;
+import org.example.project.repo.InMemoryVoterRepository;
+import org.example.project.repo.VoteRepository;
+import org.example.project.service.VoteService;
+import org.example.project.strategy.PluralityCountingStrategy;
+import org.example.project.strategy.RankedChoiceCountingStrategy;
+import org.example.project.tier.TieredVoteRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests du repository à deux niveaux (mémoire puis segments sur disque).
+ */
+class TieredVoteRepositoryTests {
+
+    @TempDir
+    Path tempDir;
+
+    private static Vote vote(int i) {
+        return new Vote("V" + i, "Voter " + i, "C" + (i % 3), "Candidate " + (i % 3), i);
+    }
+
+    private static long segmentFiles(Path dir) throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.count();
+        }
+    }
+
+    @Test
+    void testVotesSpillToSegmentsAndReadBackInOrder() throws Exception {
+        try (TieredVoteRepository repo = new TieredVoteRepository(tempDir, 100, 100)) {
+            for (int i = 0; i < 450; i++) {
+                repo.save(vote(i));
+            }
+            repo.awaitIdle();
+
+            assertEquals(450, repo.count());
+            assertEquals(4, repo.getSegmentCount());
+            assertEquals(400, repo.getSpilledCount());
+            assertEquals(50, repo.getHotCount());
+
+            List<Vote> all = repo.findAll();
+            assertEquals(450, all.size());
+            for (int i = 0; i < 450; i++) {
+                assertEquals("V" + i, all.get(i).getVoterId());
+                assertEquals("Voter " + i, all.get(i).getVoterName());
+                assertEquals(i, all.get(i).getTimestamp());
+            }
+            assertTrue(repo.hasVoted("V0"));
+            assertFalse(repo.hasVoted("V450"));
+            assertFalse(repo.hasVoted(null));
+        }
+    }
+
+    @Test
+    void testCompactionMergesOldSegments() throws Exception {
+        try (TieredVoteRepository repo = new TieredVoteRepository(tempDir, 10, 3)) {
+            for (int i = 0; i < 95; i++) {
+                repo.save(vote(i));
+            }
+            repo.awaitIdle();
+
+            assertTrue(repo.getSegmentCount() < 3);
+            assertEquals(90, repo.getSpilledCount());
+            assertEquals(repo.getSegmentCount(), segmentFiles(tempDir));
+            try (Stream<Vote> votes = repo.streamInOrder()) {
+                assertEquals(95, votes.count());
+            }
+            assertEquals("V94", repo.findAll().get(94).getVoterId());
+        }
+    }
+
+    @Test
+    void testPullIterationAcrossTiers() throws Exception {
+        try (TieredVoteRepository repo = new TieredVoteRepository(tempDir, 5, 100)) {
+            for (int i = 0; i < 12; i++) {
+                repo.save(vote(i));
+            }
+            repo.awaitIdle();
+
+            try (Stream<Vote> votes = repo.streamInOrder()) {
+                Iterator<Vote> iterator = votes.iterator();
+                for (int i = 0; i < 12; i++) {
+                    assertEquals("V" + i, iterator.next().getVoterId());
+                }
+                assertFalse(iterator.hasNext());
+            }
+        }
+    }
+
+    @Test
+    void testCountingUsesMaintainedTallies() throws Exception {
+        try (TieredVoteRepository repo = new TieredVoteRepository(tempDir, 4, 2)) {
+            VoteService service = new VoteService(repo, new InMemoryCandidateRepository(), new InMemoryVoterRepository());
+            service.addCandidate("C1", "Alice");
+            service.addCandidate("C2", "Charlie");
+            for (int i = 0; i < 10; i++) {
+                service.registerVoter("V" + i, "Voter " + i);
+                service.castVote("V" + i, i < 7 ? "C1" : "C2");
+            }
+            repo.awaitIdle();
+
+            assertEquals(Map.of("C1", 7, "C2", 3), repo.tallies().orElseThrow());
+            assertEquals(Map.of("C1", 7, "C2", 3), service.countVotes(new PluralityCountingStrategy()));
+            Map<String, Integer> ranked = service.countVotes(new RankedChoiceCountingStrategy());
+            assertEquals(1 + 2 + 3 + 4 + 5 + 6 + 7, ranked.get("C1"));
+            assertEquals("C1", service.getWinner(new PluralityCountingStrategy()).getId());
+        }
+    }
+
+    @Test
+    void testClearRemovesAllTiers() throws Exception {
+        try (TieredVoteRepository repo = new TieredVoteRepository(tempDir, 10, 100)) {
+            for (int i = 0; i < 35; i++) {
+                repo.save(vote(i));
+            }
+            repo.awaitIdle();
+            repo.clear();
+
+            assertEquals(0, repo.count());
+            assertTrue(repo.findAll().isEmpty());
+            assertTrue(repo.tallies().orElseThrow().isEmpty());
+            assertEquals(0, segmentFiles(tempDir));
+
+            repo.save(vote(1));
+            assertEquals(1, repo.findAll().size());
+        }
+    }
+
+    @Test
+    void testUnclosedStreamsReleaseSpilledSegments() throws Exception {
+        try (TieredVoteRepository repo = new TieredVoteRepository(tempDir, 10, 100)) {
+            for (int i = 0; i < 25; i++) {
+                repo.save(vote(i));
+            }
+            repo.awaitIdle();
+
+            // Lu jusqu'au bout sans close() : libéré par le spliterator lui-même
+            Iterator<Vote> exhausted = repo.streamInOrder().iterator();
+            exhausted.forEachRemaining(vote -> { });
+            readOneWithoutClosing(repo);
+            repo.clear();
+
+            // Le flux abandonné est libéré dès qu'il devient inaccessible
+            long deadline = System.currentTimeMillis() + 5_000;
+            while (segmentFiles(tempDir) > 0 && System.currentTimeMillis() < deadline) {
+                System.gc();
+                Thread.sleep(10);
+            }
+            assertEquals(0, segmentFiles(tempDir));
+        }
+    }
+
+    private static void readOneWithoutClosing(TieredVoteRepository repo) {
+        assertEquals("V0", repo.streamInOrder().iterator().next().getVoterId());
+    }
+
+    @Test
+    void testCloseDeletesSegmentsAndRejectsWrites() throws Exception {
+        TieredVoteRepository repo = new TieredVoteRepository(tempDir, 10, 100);
+        for (int i = 0; i < 25; i++) {
+            repo.save(vote(i));
+        }
+        repo.awaitIdle();
+        assertEquals(2, segmentFiles(tempDir));
+
+        repo.close();
+
+        assertEquals(0, segmentFiles(tempDir));
+        assertThrows(IllegalStateException.class, () -> repo.save(vote(99)));
+        assertThrows(IllegalStateException.class, repo::findAll);
+        assertThrows(IllegalArgumentException.class, () -> new TieredVoteRepository(tempDir, 0, 4));
+        assertThrows(IllegalArgumentException.class, () -> new TieredVoteRepository(tempDir, 10, 1));
+    }
+
+    @Test
+    void testFactoryCreatesTieredRepository() throws Exception {
+        VoteRepository repo = RepositoryFactory.createVoteRepository("tiered");
+        assertInstanceOf(TieredVoteRepository.class, repo);
+        ((TieredVoteRepository) repo).close();
+    }
+}
@@ -0,0 +1,219 @@
+package service;
+
+import org.example.project.election.Election;
+import org.example.project.election.ElectionRegistry;
+import org.example.project.model.Vote;
+import org.example.project.observer.AuditVoteListener;
+import org.example.project.repo.ColumnarVoteRepository;
+import org.example.project.repo.InMemoryCandidateRepository;
+import org.example.project.repo.InMemoryVoteRepository;
+import org.example.project.repo.InMemoryVoterRepository;
+import org.example.project.repo.SnapshotCandidateRepository;
+import org.example.project.repo.VoteRepository;
+import org.example.project.service.CastResult;
+import org.example.project.service.VoteService;
+import org.example.project.strategy.PluralityCountingStrategy;
+import org.example.project.strategy.RankedChoiceCountingStrategy;
+import org.example.project.tally.LiveTally;
+import org.example.project.tally.OrdinalTally;
+import org.example.project.tier.TieredVoteRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests du changement et du retrait de vote, avec mise à jour des totaux par delta.
+ */
+class VoteChangeTests {
+
+    static Stream<Supplier<VoteRepository>> repositories() {
+        return Stream.of(InMemoryVoteRepository::new, ColumnarVoteRepository::new);
+    }
+
+    @ParameterizedTest
+    @MethodSource("repositories")
+    void testSupersedeMovesVoteToEndAndRetractLeavesNoTrace(Supplier<VoteRepository> factory) {
+        VoteRepository repo = factory.get();
+        int total = 5000;
+        for (int i = 0; i < total; i++) {
+            repo.save(new Vote("V" + i, "Voter", "C1", "Alice", i));
+        }
+
+        Vote previous = repo.supersede(new Vote("V0", "Voter", "C2", "Bob", total));
+        assertEquals("C1", previous.getCandidateId());
+        assertEquals("C2", repo.findByVoter("V0").getCandidateId());
+        assertEquals("C1", repo.retract("V4500").getCandidateId());
+        assertNull(repo.findByVoter("V4500"));
+        assertFalse(repo.hasVoted("V4500"));
+        assertTrue(repo.supportsVoteChanges());
+
+        assertEquals(total - 1, repo.count());
+        assertEquals(total - 1, repo.findAll().size());
+        List<Vote> ordered = repo.streamInOrder().toList();
+        assertEquals(total - 1, ordered.size());
+        assertEquals("V1", ordered.get(0).getVoterId());
+        assertEquals("V0", ordered.get(ordered.size() - 1).getVoterId());
+        int[] seen = {0};
+        repo.forEach(vote -> seen[0]++);
+        assertEquals(total - 1, seen[0]);
+
+        assertThrows(IllegalStateException.class, () -> repo.retract("V4500"));
+        assertThrows(IllegalStateException.class, () -> repo.supersede(new Vote("X", "X", "C1", "Alice")));
+        assertNull(repo.findByVoter(null));
+
+        repo.clear();
+        assertEquals(0, repo.count());
+        assertNull(repo.findByVoter("V0"));
+    }
+
+    @Test
+    void testServiceChangesVoteAndTalliesFollowByDelta() {
+        SnapshotCandidateRepository candidates = new SnapshotCandidateRepository();
+        VoteService service = new VoteService(new InMemoryVoteRepository(), candidates, new InMemoryVoterRepository());
+        LiveTally live = new LiveTally();
+        OrdinalTally ordinal = new OrdinalTally(candidates);
+        service.addListener(live);
+        service.addListener(ordinal);
+        service.addCandidate("C1", "Alice");
+        service.addCandidate("C2", "Bob");
+        service.registerVoter("V1", "Ann");
+        service.registerVoter("V2", "Ben");
+        service.castVote("V1", "C1");
+        service.castVote("V2", "C1");
+
+        assertEquals(CastResult.ACCEPTED, service.tryChangeVote("V1", "C2"));
+
+        assertEquals(Map.of("C1", 1, "C2", 1), live.snapshot());
+        assertEquals(Map.of("C1", 1, "C2", 1), ordinal.snapshot().toMap());
+        assertEquals(Map.of("C1", 1, "C2", 1), service.countVotes(new PluralityCountingStrategy()));
+        // Le vote changé prend le dernier rang
+        assertEquals(Map.of("C1", 1, "C2", 2), service.countVotes(new RankedChoiceCountingStrategy()));
+        assertEquals("C2", service.getCurrentVote("V1").getCandidateId());
+        assertEquals(2, service.getTotalVoteCount());
+    }
+
+    @Test
+    void testRetractedVoterMayVoteAgain() {
+        VoteService service = new VoteService(new ColumnarVoteRepository(),
+                new InMemoryCandidateRepository(), new InMemoryVoterRepository());
+        LiveTally live = new LiveTally();
+        service.addListener(live);
+        service.addCandidate("C1", "Alice");
+        service.addCandidate("C2", "Bob");
+        service.registerVoter("V1", "Ann");
+        service.castVote("V1", "C1");
+
+        service.retractVote("V1");
+        assertFalse(service.hasVoted("V1"));
+        assertTrue(live.snapshot().isEmpty());
+        assertEquals(CastResult.NOT_VOTED, service.tryRetractVote("V1"));
+        assertEquals(CastResult.NOT_VOTED, service.tryChangeVote("V1", "C2"));
+
+        service.castVote("V1", "C2");
+        assertEquals(Map.of("C2", 1), live.snapshot());
+        assertEquals(CastResult.DUPLICATE, service.tryCastVote("V1", "C1"));
+    }
+
+    @Test
+    void testRejectionsAndMessages() {
+        VoteService service = new VoteService(new InMemoryVoteRepository(),
+                new InMemoryCandidateRepository(), new InMemoryVoterRepository());
+        service.addCandidate("C1", "Alice");
+        service.registerVoter("V1", "Ann");
+
+        assertEquals(CastResult.UNKNOWN_VOTER, service.tryChangeVote("V9", "C1"));
+        assertEquals(CastResult.UNKNOWN_VOTER, service.tryRetractVote(null));
+        assertEquals(CastResult.UNKNOWN_CANDIDATE, service.tryChangeVote("V1", "C9"));
+        assertEquals("Voter Ann has not voted",
+                assertThrows(IllegalStateException.class, () -> service.changeVote("V1", "C1")).getMessage());
+        assertThrows(IllegalArgumentException.class, () -> service.retractVote(" "));
+        assertThrows(IllegalArgumentException.class, () -> service.changeVote("V1", null));
+
+        service.castVote("V1", "C1");
+        service.closePolls();
+        assertEquals(CastResult.CLOSED, service.tryChangeVote("V1", "C1"));
+        assertEquals(CastResult.CLOSED, service.tryRetractVote("V1"));
+        assertThrows(IllegalStateException.class, () -> service.retractVote("V1"));
+    }
+
+    @Test
+    void testRepositoriesWithoutChangesAreRejected(@TempDir Path dir) throws Exception {
+        try (TieredVoteRepository tiered = new TieredVoteRepository(dir)) {
+            VoteService service = new VoteService(tiered, new InMemoryCandidateRepository(), new InMemoryVoterRepository());
+            assertEquals(CastResult.UNSUPPORTED, service.tryChangeVote("V1", "C1"));
+            assertEquals(CastResult.UNSUPPORTED, service.tryRetractVote("V1"));
+            assertEquals("Vote changes are not supported by TieredVoteRepository",
+                    assertThrows(UnsupportedOperationException.class, () -> service.changeVote("V1", "C1")).getMessage());
+            assertThrows(UnsupportedOperationException.class, () -> tiered.retract("V1"));
+            tiered.save(new Vote("V1", "Ann", "C1", "Alice"));
+            assertEquals("C1", tiered.findByVoter("V1").getCandidateId());
+            assertNull(tiered.findByVoter("V2"));
+        }
+    }
+
+    @Test
+    void testListenersThatCannotMirrorChangesBlockThem() {
+        VoteService service = new VoteService(new InMemoryVoteRepository(),
+                new InMemoryCandidateRepository(), new InMemoryVoterRepository());
+        service.addCandidate("C1", "Alice");
+        service.addCandidate("C2", "Bob");
+        service.registerVoter("V1", "Ann");
+        service.castVote("V1", "C1");
+        service.votePublisher();
+
+        assertEquals(CastResult.UNSUPPORTED, service.tryChangeVote("V1", "C2"));
+        assertEquals(CastResult.UNSUPPORTED, service.tryRetractVote("V1"));
+        assertEquals("Vote changes are not supported by VotePublisher",
+                assertThrows(UnsupportedOperationException.class, () -> service.retractVote("V1")).getMessage());
+        assertEquals("C1", service.getCurrentVote("V1").getCandidateId());
+    }
+
+    @Test
+    void testAuditTrailFollowsChangesAndRetractions() {
+        VoteService service = new VoteService(new InMemoryVoteRepository(),
+                new InMemoryCandidateRepository(), new InMemoryVoterRepository());
+        AuditVoteListener audit = new AuditVoteListener();
+        service.addListener(audit);
+        service.addCandidate("C1", "Alice");
+        service.addCandidate("C2", "Bob");
+        service.registerVoter("V1", "Ann");
+
+        service.castVote("V1", "C1");
+        service.changeVote("V1", "C2");
+        service.retractVote("V1");
+        service.castVote("V1", "C1");
+
+        assertEquals(List.of("C1", "C2", "C1"),
+                audit.getAuditLog().stream().map(Vote::getCandidateId).toList());
+        assertEquals("C2", audit.getRetractedVotes().get(0).getCandidateId());
+        // Revoter après un retrait n'est pas compté comme une fraude
+        assertEquals(Map.of("V1", 1), audit.getVoterVoteCount());
+        service.reset();
+        assertTrue(audit.getVoterVoteCount().isEmpty());
+    }
+
+    @Test
+    void testElectionChangesUpdateLiveResults() {
+        ElectionRegistry registry = new ElectionRegistry();
+        registry.registerVoter("V1", "Ann");
+        Election election = registry.createElection("E1", "Mayor");
+        election.addCandidate("C1", "Alice");
+        election.addCandidate("C2", "Bob");
+        election.castVote("V1", "C1");
+
+        assertEquals(CastResult.ACCEPTED, election.tryChangeVote("V1", "C2"));
+        assertEquals(Map.of("C2", 1), election.getResults());
+        assertEquals(CastResult.ACCEPTED, election.tryRetractVote("V1"));
+        assertTrue(election.getResults().isEmpty());
+        assertFalse(election.hasVoted("V1"));
+    }
+}
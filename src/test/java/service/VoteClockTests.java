@@ -0,0 +1,114 @@
+package service;
+
+import org.example.project.model.Candidate;
+import org.example.project.model.Clocks;
+import org.example.project.model.CoarseVoteClock;
+import org.example.project.model.Vote;
+import org.example.project.model.Voter;
+import org.example.project.repo.ColumnarVoteRepository;
+import org.example.project.repo.InMemoryVoteRepository;
+import org.example.project.strategy.RankedChoiceCountingStrategy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests de l'horloge du modèle et de l'ordre strict des votes.
+ */
+class VoteClockTests {
+
+    @AfterEach
+    void restoreClock() {
+        Clocks.useSystemClock();
+    }
+
+    @Test
+    void testInstalledClockStampsVotesAndVoters() {
+        Clocks.install(() -> 1234L);
+
+        assertEquals(1234L, new Vote("V1", "Bob", "C1", "Alice").getTimestamp());
+        assertEquals(1234L, new Voter("V1", "Bob").getTimestamp());
+        assertThrows(IllegalArgumentException.class, () -> Clocks.install(null));
+    }
+
+    @Test
+    void testSequenceIsStrictlyIncreasingWithEqualTimestamps() {
+        Clocks.install(() -> 1L);
+        InMemoryVoteRepository repo = new InMemoryVoteRepository();
+
+        Vote first = new Vote("V1", "Bob", "C1", "Alice");
+        Vote second = new Vote("V2", "Eve", "C1", "Alice");
+        assertEquals(0, first.getSequence());  // attribuée au stockage, pas à la construction
+        repo.save(first);
+        repo.save(second);
+
+        assertEquals(first.getTimestamp(), second.getTimestamp());
+        assertTrue(second.getSequence() > first.getSequence());
+    }
+
+    @Test
+    void testSequenceIsStampedOnceAndStableAcrossReads() {
+        ColumnarVoteRepository columnar = new ColumnarVoteRepository();
+        columnar.record(new Voter("V1", "Bob"), new Candidate("C1", "Alice"), 5L);
+        columnar.save(new Vote("V2", "Eve", "C1", "Alice", 6L));
+
+        assertEquals(List.of(1L, 2L), columnar.findAll().stream().map(Vote::getSequence).toList());
+        assertEquals(2L, columnar.findByVoter("V2").getSequence());
+
+        // Un vote déjà numéroté (répliqué, relu) garde sa séquence
+        InMemoryVoteRepository follower = new InMemoryVoteRepository();
+        Vote replicated = columnar.findByVoter("V2");
+        follower.save(replicated);
+        assertEquals(2L, replicated.getSequence());
+        Vote next = new Vote("V3", "Max", "C1", "Alice");
+        follower.save(next);
+        assertEquals(3L, next.getSequence());
+
+        assertEquals(3L, next.stampSequence(9L));
+        assertThrows(IllegalArgumentException.class, () -> next.stampSequence(0));
+        assertThrows(IllegalArgumentException.class, () -> new Vote("V1", "Bob", "C1", "Alice", 0L, -1L));
+    }
+
+    @Test
+    void testCoarseClockAdvancesAndNeverGoesBack() throws InterruptedException {
+        try (CoarseVoteClock clock = new CoarseVoteClock(1)) {
+            long start = clock.millis();
+            long deadline = System.currentTimeMillis() + 2_000;
+            while (clock.millis() == start && System.currentTimeMillis() < deadline) {
+                Thread.sleep(2);
+            }
+            assertTrue(clock.millis() > start);
+            assertEquals(1, clock.getTickMillis());
+        }
+        assertThrows(IllegalArgumentException.class, () -> new CoarseVoteClock(0));
+    }
+
+    @Test
+    void testRankedChoiceUsesInsertionOrderWhenChronological() {
+        Vote v1 = new Vote("V1", "A", "C1", "Alice", 10L);
+        Vote v2 = new Vote("V2", "B", "C2", "Charlie", 10L);
+        Vote v3 = new Vote("V3", "C", "C1", "Alice", 20L);
+
+        Map<String, Integer> results = new RankedChoiceCountingStrategy().count(List.of(v1, v2, v3));
+
+        assertEquals(1 + 3, results.get("C1"));
+        assertEquals(2, results.get("C2"));
+    }
+
+    @Test
+    void testRankedChoiceSortsWhenOutOfOrder() {
+        Vote early = new Vote("V1", "A", "C1", "Alice", 10L, 1L);
+        Vote late = new Vote("V2", "B", "C2", "Charlie", 20L, 2L);
+        // Même horodatage : la séquence départage, pas la position dans la liste
+        Vote tie = new Vote("V3", "C", "C2", "Charlie", 10L, 3L);
+
+        Map<String, Integer> results = new RankedChoiceCountingStrategy().count(List.of(late, tie, early));
+
+        assertEquals(1, results.get("C1"));
+        assertEquals(2 + 3, results.get("C2"));
+    }
+}
@@ -0,0 +1,194 @@
+package service;
+
+import org.example.project.ledger.InclusionProof;
+import org.example.project.ledger.VoteLedger;
+import org.example.project.model.Vote;
+import org.example.project.repo.InMemoryCandidateRepository;
+import org.example.project.repo.InMemoryVoteRepository;
+import org.example.project.repo.InMemoryVoterRepository;
+import org.example.project.service.VoteService;
+import org.junit.jupiter.api.Test;
+
+import java.security.MessageDigest;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests du registre chaîné avec arbre de Merkle incrémental.
+ */
+class VoteLedgerTests {
+
+    private static Vote vote(int i) {
+        return new Vote("V" + i, "Voter " + i, "C" + (i % 3), "Candidate " + (i % 3));
+    }
+
+    private static byte[] sha256(byte prefix, byte[]... parts) throws Exception {
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        digest.update(prefix);
+        for (byte[] part : parts) {
+            digest.update(part);
+        }
+        return digest.digest();
+    }
+
+    // Racine calculée naïvement selon la RFC 9162, pour comparaison
+    private static byte[] referenceRoot(List<byte[]> leaves) throws Exception {
+        if (leaves.size() == 1) {
+            return leaves.get(0);
+        }
+        int split = Integer.highestOneBit(leaves.size() - 1);
+        return sha256((byte) 1, referenceRoot(leaves.subList(0, split)),
+                referenceRoot(leaves.subList(split, leaves.size())));
+    }
+
+    @Test
+    void testIncrementalRootMatchesFullRecomputation() throws Exception {
+        try (VoteLedger ledger = new VoteLedger()) {
+            List<byte[]> leaves = new ArrayList<>();
+            for (int i = 0; i < 70; i++) {
+                Vote vote = vote(i);
+                ledger.onVote(vote);
+                leaves.add(VoteLedger.castLeafHash(vote));
+                ledger.awaitHashed();
+                assertArrayEquals(referenceRoot(leaves), ledger.root(), "size " + (i + 1));
+            }
+            assertEquals(70, ledger.size());
+        }
+    }
+
+    @Test
+    void testEveryEntryHasAVerifiableInclusionProof() throws Exception {
+        try (VoteLedger ledger = new VoteLedger()) {
+            List<Vote> votes = new ArrayList<>();
+            for (int i = 0; i < 37; i++) {
+                votes.add(vote(i));
+                ledger.onVote(votes.get(i));
+            }
+            ledger.awaitHashed();
+            byte[] root = ledger.root();
+
+            for (int i = 0; i < votes.size(); i++) {
+                InclusionProof proof = ledger.proof(i);
+                assertTrue(proof.verify(root), "index " + i);
+                assertArrayEquals(VoteLedger.castLeafHash(votes.get(i)), proof.leafHash());
+                assertTrue(proof.path().size() <= 6);
+            }
+
+            // Une feuille ou une racine altérée ne vérifie plus
+            InclusionProof proof = ledger.proof(5);
+            InclusionProof forged = new InclusionProof(5, proof.treeSize(),
+                    VoteLedger.castLeafHash(vote(6)), proof.path());
+            assertFalse(forged.verify(root));
+            byte[] otherRoot = root.clone();
+            otherRoot[0] ^= 1;
+            assertFalse(proof.verify(otherRoot));
+            assertFalse(proof.verify(null));
+        }
+    }
+
+    @Test
+    void testChainHeadDependsOnTheWholeHistory() throws Exception {
+        Vote first = vote(1);
+        Vote second = vote(2);
+        try (VoteLedger a = new VoteLedger(); VoteLedger b = new VoteLedger(); VoteLedger c = new VoteLedger()) {
+            a.onVote(first);
+            a.onVote(second);
+            b.onVote(first);
+            b.onVote(second);
+            c.onVote(second);
+            c.onVote(first);
+            a.awaitHashed();
+            b.awaitHashed();
+            c.awaitHashed();
+
+            assertArrayEquals(a.chainHead(), b.chainHead());
+            assertFalse(Arrays.equals(a.chainHead(), c.chainHead()));
+            assertArrayEquals(a.root(), b.root());
+        }
+    }
+
+    @Test
+    void testRecordsServiceEventsIncludingChangesAndResets() throws Exception {
+        VoteService service = new VoteService(new InMemoryVoteRepository(), new InMemoryCandidateRepository(),
+                new InMemoryVoterRepository());
+        service.addCandidate("C1", "Alice");
+        service.addCandidate("C2", "Bob");
+        try (VoteLedger ledger = new VoteLedger()) {
+            service.addListener(ledger);
+            int voters = 2_000;
+            for (int i = 0; i < voters; i++) {
+                service.registerVoter("V" + i, "Voter " + i);
+            }
+            ExecutorService pool = Executors.newFixedThreadPool(4);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                int offset = t;
+                futures.add(pool.submit(() -> {
+                    for (int i = offset; i < voters; i += 4) {
+                        service.castVote("V" + i, "C1");
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            pool.shutdown();
+            service.changeVote("V0", "C2");
+            service.retractVote("V1");
+            service.reset();
+
+            ledger.awaitHashed();
+            assertEquals(voters + 3, ledger.size());
+            assertTrue(ledger.proof(voters + 2).verify(ledger.root()));
+            assertThrows(IllegalArgumentException.class, () -> ledger.proof(voters + 3));
+        }
+    }
+
+    @Test
+    void testEmptyAndClosedLedgers() throws Exception {
+        VoteLedger ledger = new VoteLedger();
+        assertArrayEquals(MessageDigest.getInstance("SHA-256").digest(), ledger.root());
+        assertThrows(IllegalArgumentException.class, () -> ledger.leafHash(0));
+        ledger.close();
+        ledger.close();
+        assertThrows(IllegalStateException.class, () -> ledger.onVote(vote(1)));
+        assertThrows(IllegalArgumentException.class, () -> VoteLedger.castLeafHash(null));
+    }
+
+    @Test
+    void testLeafHashIgnoresTheRepositorySequence() throws Exception {
+        Vote cast = new Vote("V1", "Voter 1", "C1", "Alice", 1_000L);
+        InMemoryVoteRepository repository = new InMemoryVoteRepository();
+        repository.save(new Vote("V0", "Voter 0", "C1", "Alice", 500L));
+        repository.save(cast);
+        // Un suiveur ou un dépôt rechargé renumérote : la preuve doit rester valable
+        Vote reread = new Vote("V1", "Voter 1", "C1", "Alice", 1_000L, 42);
+        try (VoteLedger ledger = new VoteLedger()) {
+            ledger.onVote(cast);
+            ledger.awaitHashed();
+            assertEquals(2, cast.getSequence());
+            assertArrayEquals(ledger.leafHash(0), VoteLedger.castLeafHash(reread));
+            assertTrue(ledger.proof(0).verify(ledger.root()));
+        }
+    }
+
+    @Test
+    void testUnencodableEntryDoesNotStopTheHasher() throws Exception {
+        // writeUTF refuse les chaînes de plus de 65535 octets
+        Vote oversized = new Vote("V".repeat(70_000), "Voter", "C1", "Alice");
+        Vote last = vote(2);
+        try (VoteLedger ledger = new VoteLedger()) {
+            ledger.onVote(vote(1));
+            ledger.onVote(oversized);
+            ledger.onVote(last);
+            ledger.awaitHashed();
+            assertEquals(2, ledger.size());
+            assertEquals(1, ledger.failedCount());
+            assertArrayEquals(VoteLedger.castLeafHash(last), ledger.leafHash(1));
+        }
+    }
+}
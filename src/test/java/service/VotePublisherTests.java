@@ -0,0 +1,214 @@
+package service;
+
+import org.example.project.model.Vote;
+import org.example.project.observer.BufferPolicy;
+import org.example.project.observer.VotePublisher;
+import org.example.project.repo.InMemoryCandidateRepository;
+import org.example.project.repo.InMemoryVoteRepository;
+import org.example.project.repo.InMemoryVoterRepository;
+import org.example.project.service.VoteService;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests du flux réactif des votes (demande, politiques de tampon, multidiffusion).
+ */
+class VotePublisherTests {
+
+    private static final Executor DIRECT = Runnable::run;
+
+    @Test
+    void testDeliversOnlyRequestedVotes() {
+        VotePublisher publisher = new VotePublisher(8, BufferPolicy.DROP_OLDEST, DIRECT);
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher.subscribe(subscriber);
+
+        publish(publisher, 5);
+        assertTrue(subscriber.received.isEmpty());
+
+        subscriber.subscription.request(2);
+        assertEquals(2, subscriber.received.size());
+        subscriber.subscription.request(10);
+        assertEquals(5, subscriber.received.size());
+        assertEquals("V4", subscriber.received.get(4).getVoterId());
+    }
+
+    @Test
+    void testMulticastSharesVoteInstances() {
+        VotePublisher publisher = new VotePublisher(8, BufferPolicy.BLOCK, DIRECT);
+        RecordingSubscriber first = new RecordingSubscriber();
+        RecordingSubscriber second = new RecordingSubscriber();
+        publisher.subscribe(first);
+        publisher.subscribe(second);
+        first.subscription.request(Long.MAX_VALUE);
+        second.subscription.request(Long.MAX_VALUE);
+
+        publish(publisher, 3);
+
+        assertEquals(2, publisher.getSubscriberCount());
+        assertSame(first.received.get(2), second.received.get(2));
+    }
+
+    @Test
+    void testDropOldestSkipsOverwrittenVotes() {
+        VotePublisher publisher = new VotePublisher(4, BufferPolicy.DROP_OLDEST, DIRECT);
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher.subscribe(subscriber);
+
+        publish(publisher, 10);
+        subscriber.subscription.request(100);
+
+        assertEquals(4, subscriber.received.size());
+        assertEquals("V6", subscriber.received.get(0).getVoterId());
+        assertEquals(BufferPolicy.DROP_OLDEST, publisher.getPolicy());
+    }
+
+    @Test
+    void testErrorPolicyFailsLaggingSubscriber() {
+        VotePublisher publisher = new VotePublisher(4, BufferPolicy.ERROR, DIRECT);
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher.subscribe(subscriber);
+
+        publish(publisher, 6);
+        subscriber.subscription.request(1);
+
+        assertInstanceOf(IllegalStateException.class, subscriber.error);
+        assertEquals(0, publisher.getSubscriberCount());
+    }
+
+    @Test
+    void testInvalidDemandAndCompletion() {
+        VotePublisher publisher = new VotePublisher(4, BufferPolicy.BLOCK, DIRECT);
+        RecordingSubscriber bad = new RecordingSubscriber();
+        RecordingSubscriber good = new RecordingSubscriber();
+        publisher.subscribe(bad);
+        publisher.subscribe(good);
+
+        bad.subscription.request(0);
+        assertInstanceOf(IllegalArgumentException.class, bad.error);
+
+        good.subscription.request(1);
+        publish(publisher, 1);
+        publisher.close();
+        assertTrue(good.completed);
+        assertEquals(1, good.received.size());
+
+        assertThrows(IllegalArgumentException.class, () -> new VotePublisher(0, BufferPolicy.BLOCK, DIRECT));
+        assertThrows(IllegalArgumentException.class, () -> new VotePublisher(4, null, DIRECT));
+        assertThrows(IllegalArgumentException.class, () -> new VotePublisher(4, BufferPolicy.BLOCK, null));
+    }
+
+    @Test
+    void testBlockPolicyAppliesBackpressureToProducer() throws InterruptedException {
+        VotePublisher publisher = new VotePublisher(2, BufferPolicy.BLOCK, DIRECT);
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher.subscribe(subscriber);
+
+        CountDownLatch done = new CountDownLatch(1);
+        Thread producer = new Thread(() -> {
+            publish(publisher, 3);
+            done.countDown();
+        });
+        producer.start();
+
+        assertFalse(done.await(100, TimeUnit.MILLISECONDS));  // anneau plein, aucune demande
+        subscriber.subscription.request(3);
+        assertTrue(done.await(2, TimeUnit.SECONDS));
+        producer.join();
+        subscriber.subscription.request(1);
+        assertEquals(3, subscriber.received.size());
+
+        subscriber.subscription.cancel();
+        assertEquals(0, publisher.getSubscriberCount());
+    }
+
+    @Test
+    void testServiceExposesVotePublisher() throws InterruptedException {
+        VoteService service = new VoteService(new InMemoryVoteRepository(),
+                new InMemoryCandidateRepository(), new InMemoryVoterRepository());
+        service.addCandidate("C1", "Alice");
+        service.registerVoter("V1", "John");
+
+        Flow.Publisher<Vote> votes = service.votePublisher();
+        assertSame(votes, service.votePublisher());
+        assertEquals(BufferPolicy.DROP_OLDEST, ((VotePublisher) votes).getPolicy());
+        CountDownLatch delivered = new CountDownLatch(1);
+        votes.subscribe(new RecordingSubscriber() {
+            @Override
+            public void onNext(Vote item) {
+                delivered.countDown();
+            }
+        });
+        ((VotePublisher) votes).subscribe(new RecordingSubscriber());
+
+        service.castVote("V1", "C1");
+
+        // Le premier abonné n'a rien demandé : rien ne doit arriver
+        assertFalse(delivered.await(50, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void testStalledSubscriberNeverBlocksServiceCasts() throws Exception {
+        VoteService service = new VoteService(new InMemoryVoteRepository(),
+                new InMemoryCandidateRepository(), new InMemoryVoterRepository());
+        service.addCandidate("C1", "Alice");
+        int voters = VotePublisher.DEFAULT_CAPACITY * 3;
+        for (int i = 0; i < voters; i++) {
+            service.registerVoter("V" + i, "Voter " + i);
+        }
+        // Abonné qui ne demande jamais rien
+        service.votePublisher().subscribe(new RecordingSubscriber());
+
+        Thread caster = new Thread(() -> {
+            for (int i = 0; i < voters; i++) {
+                service.castVote("V" + i, "C1");
+            }
+        });
+        caster.start();
+        caster.join(5_000);
+
+        assertFalse(caster.isAlive(), "castVote blocked on a stalled subscriber");
+        assertEquals(voters, service.getTotalVoteCount());
+    }
+
+    private static void publish(VotePublisher publisher, int count) {
+        for (int i = 0; i < count; i++) {
+            publisher.onVote(new Vote("V" + i, "Voter" + i, "C1", "Alice"));
+        }
+    }
+
+    private static class RecordingSubscriber implements Flow.Subscriber<Vote> {
+        final List<Vote> received = new CopyOnWriteArrayList<>();
+        volatile Flow.Subscription subscription;
+        volatile Throwable error;
+        volatile boolean completed;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(Vote item) {
+            received.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+    }
+}
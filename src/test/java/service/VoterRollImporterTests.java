@@ -0,0 +1,129 @@
+package service;
+
+import org.example.project.importer.ImportReport;
+import org.example.project.importer.RejectedRow;
+import org.example.project.importer.VoterRollImporter;
+import org.example.project.repo.ConcurrentVoterRepository;
+import org.example.project.repo.InMemoryVoterRepository;
+import org.example.project.repo.VoterRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests de l'import en masse de la liste électorale.
+ */
+class VoterRollImporterTests {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testImportCsvWithRejectedRows() throws IOException {
+        Path file = tempDir.resolve("roll.csv");
+        Files.writeString(file, """
+                id,name
+                V1,John
+                V2,Jane
+                ,NoId
+                V3,
+                V1,John Again
+                V 4,Space
+                V5,"Doe, John"\r
+                onlyonecolumn
+                V6,Too,Many
+                """);
+
+        VoterRepository repo = new InMemoryVoterRepository();
+        ImportReport report = new VoterRollImporter(repo, VoterRollImporter.DEFAULT_CHUNK_SIZE, true)
+                .importFile(file);
+
+        assertEquals(10, report.linesRead());
+        assertEquals(3, report.accepted());
+        assertEquals(6, report.rejectedCount());
+        assertEquals("Doe, John", repo.findById("V5").getName());
+        assertEquals("John", repo.findById("V1").getName());
+
+        List<RejectedRow> rejected = report.rejected();
+        assertEquals(4, rejected.get(0).lineNumber());
+        assertEquals("Voter ID cannot be blank", rejected.get(0).reason());
+        assertEquals("Duplicate voter ID", rejected.get(2).reason());
+        assertEquals(6, rejected.get(2).lineNumber());
+        assertTrue(report.toString().contains("3 accepted"));
+    }
+
+    @Test
+    void testSmallChunksGiveSameResultAsOneChunk() throws IOException {
+        Path file = tempDir.resolve("roll.tsv");
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 5_000; i++) {
+            content.append('V').append(i).append('\t').append("Voter ").append(i).append('\n');
+        }
+        content.append("BAD LINE\n").append("V_last\tLast Voter");  // pas de saut de ligne final
+        Files.writeString(file, content);
+
+        VoterRepository repo = new ConcurrentVoterRepository();
+        ImportReport report = new VoterRollImporter(repo, 1_000, false).importFile(file);
+
+        assertEquals(5_002, report.linesRead());
+        assertEquals(5_001, report.accepted());
+        assertEquals(5_001, repo.findAll().size());
+        assertEquals("V0", repo.findAll().get(0).getId());
+        assertEquals(5_001, report.rejected().get(0).lineNumber());
+        assertTrue(repo.isRegistered("V_last"));
+    }
+
+    @Test
+    void testQuotedFieldsAndDelimiterDetectedOncePerFile() throws IOException {
+        Path file = tempDir.resolve("quoted.csv");
+        Files.writeString(file, """
+                id,name,region,district,precinct
+                V1,"Doe, John",North,D1,P1
+                "V2","Say \"\"Hi\"\"",North,D1,P2
+                V3,"Unterminated
+                V4,Mid"Quote
+                V5\tTab Voter
+                V6,"Quoted" trailing
+                """);
+
+        VoterRepository repo = new InMemoryVoterRepository();
+        ImportReport report = new VoterRollImporter(repo, VoterRollImporter.DEFAULT_CHUNK_SIZE, true)
+                .importFile(file);
+
+        assertEquals(2, report.accepted());
+        assertEquals("Doe, John", repo.findById("V1").getName());
+        assertEquals("Say \"Hi\"", repo.findById("V2").getName());
+        assertEquals("P2", repo.findById("V2").getDistrict().getPrecinct());
+        List<RejectedRow> rejected = report.rejected();
+        assertEquals("Malformed quoted field", rejected.get(0).reason());
+        assertEquals("Malformed quoted field", rejected.get(1).reason());
+        // Fichier à virgules : une ligne tabulée n'a qu'une colonne
+        assertEquals("Expected 2 or 5 columns", rejected.get(2).reason());
+        assertEquals("Malformed quoted field", rejected.get(3).reason());
+
+        Path tsv = tempDir.resolve("quoted.tsv");
+        Files.writeString(tsv, "id\tname\nV1\t\"Doe\tJohn\"\nV2\tJane, Smith\n");
+        VoterRepository tsvRepo = new InMemoryVoterRepository();
+        new VoterRollImporter(tsvRepo, VoterRollImporter.DEFAULT_CHUNK_SIZE, true).importFile(tsv);
+        assertEquals("Doe\tJohn", tsvRepo.findById("V1").getName());
+        assertEquals("Jane, Smith", tsvRepo.findById("V2").getName());
+    }
+
+    @Test
+    void testEmptyFileAndInvalidArguments() throws IOException {
+        Path file = Files.createFile(tempDir.resolve("empty.csv"));
+        ImportReport report = new VoterRollImporter(new InMemoryVoterRepository()).importFile(file);
+
+        assertEquals(0, report.accepted());
+        assertEquals(0, report.linesRead());
+        assertThrows(IllegalArgumentException.class, () -> new VoterRollImporter(null));
+        assertThrows(IllegalArgumentException.class,
+                () -> new VoterRollImporter(new InMemoryVoterRepository(), 0, false));
+    }
+}
@@ -0,0 +1,169 @@
+package service;
+
+import org.example.project.index.AtomicBitSet;
+import org.example.project.index.VoterStatusIndex;
+import org.example.project.model.Voter;
+import org.example.project.repo.ConcurrentVoterRepository;
+import org.example.project.repo.InMemoryCandidateRepository;
+import org.example.project.repo.InMemoryVoteRepository;
+import org.example.project.repo.InMemoryVoterRepository;
+import org.example.project.repo.VoterRepository;
+import org.example.project.service.VoteService;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests de l'index d'état des électeurs (bitmaps vu / a voté par ordinal).
+ */
+class VoterStatusIndexTests {
+
+    @Test
+    void testBitSetPagesAreAllocatedLazily() {
+        AtomicBitSet bits = new AtomicBitSet();
+        long empty = bits.allocatedBytes();
+
+        assertTrue(bits.testAndSet(5_000_000));
+        assertFalse(bits.testAndSet(5_000_000));
+        assertTrue(bits.get(5_000_000));
+        assertFalse(bits.get(3));
+        assertEquals(1, bits.cardinality());
+        // Une seule page de 8 Ko pour un bit isolé à 5 millions
+        assertTrue(bits.allocatedBytes() - empty < 16 * 1024);
+
+        assertTrue(bits.clear(5_000_000));
+        assertFalse(bits.clear(5_000_000));
+        assertFalse(bits.clear(10));
+        bits.set(1);
+        bits.clearAll();
+        assertEquals(0, bits.cardinality());
+        assertThrows(IndexOutOfBoundsException.class, () -> bits.get(-1));
+    }
+
+    @Test
+    void testNoBitIsLostWhileTheDirectoryGrows() throws Exception {
+        int threads = 8;
+        int pagesPerThread = 128;
+        for (int round = 0; round < 10; round++) {
+            AtomicBitSet bits = new AtomicBitSet();
+            CountDownLatch start = new CountDownLatch(1);
+            ExecutorService pool = Executors.newFixedThreadPool(threads);
+            for (int t = 0; t < threads; t++) {
+                int offset = t;
+                pool.execute(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                    // Chaque bit ouvre une page neuve, en partie au-delà du répertoire courant
+                    for (int p = offset; p < threads * pagesPerThread; p += threads) {
+                        bits.set((p << 16) | offset);
+                    }
+                });
+            }
+            start.countDown();
+            pool.shutdown();
+            assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+
+            assertEquals(threads * pagesPerThread, bits.cardinality(), "round " + round);
+            for (int p = 0; p < threads * pagesPerThread; p++) {
+                assertTrue(bits.get((p << 16) | (p % threads)), "page " + p);
+            }
+        }
+    }
+
+    @Test
+    void testOnlyOneConcurrentMarkVotedWins() throws InterruptedException {
+        VoterStatusIndex index = new VoterStatusIndex();
+        int ordinal = index.ordinalOf(new VoterRepository.VoterSlot(new Voter("V1", "John"), 7));
+        AtomicInteger winners = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 100; i++) {
+            pool.execute(() -> {
+                if (index.markVoted(ordinal)) {
+                    winners.incrementAndGet();
+                }
+            });
+        }
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(5, TimeUnit.SECONDS));
+
+        assertEquals(1, winners.get());
+        assertEquals(1, index.votedCount());
+    }
+
+    @Test
+    void testRepositoryOrdinalsAreDenseAndSurviveReRegistration() {
+        for (VoterRepository voters : List.of(new InMemoryVoterRepository(), new ConcurrentVoterRepository())) {
+            voters.register(new Voter("V1", "John"));
+            voters.registerAll(List.of(new Voter("V2", "Jane"), new Voter("V3", "Max")));
+            voters.register(new Voter("V1", "Johnny"));
+
+            assertEquals(0, voters.findSlot("V1").ordinal());
+            assertEquals(1, voters.findSlot("V2").ordinal());
+            assertEquals(2, voters.findSlot("V3").ordinal());
+            assertEquals("Johnny", voters.findSlot("V1").voter().getName());
+            assertEquals(List.of("V1", "V2", "V3"), voters.findAll().stream().map(Voter::getId).toList());
+            assertNull(voters.findSlot(null));
+
+            // Jamais réutilisé après un clear : un ancien bit ne désigne pas un nouvel électeur
+            voters.clear();
+            voters.register(new Voter("V4", "Eve"));
+            assertEquals(3, voters.findSlot("V4").ordinal());
+        }
+    }
+
+    @Test
+    void testSeenAndVotedBitsAreKeyedByOrdinal() {
+        VoterStatusIndex index = new VoterStatusIndex();
+        int ordinal = index.ordinalOf(new VoterRepository.VoterSlot(new Voter("V1", "John"), 3));
+        assertEquals(3, ordinal);
+        assertFalse(index.isSeen(ordinal));
+
+        index.markSeen(ordinal);
+        assertTrue(index.markVoted(ordinal));
+        assertTrue(index.isSeen(ordinal));
+        assertTrue(index.hasVoted(ordinal));
+        assertTrue(index.bitmapBytes() > 0);
+
+        index.forget(ordinal);
+        assertFalse(index.isSeen(ordinal));
+        index.unmarkVoted(ordinal);
+        assertFalse(index.hasVoted(ordinal));
+
+        // Repository sans ordinal : repli stable par identifiant
+        int fallback = index.ordinalOf(new VoterRepository.VoterSlot(new Voter("V9", "Zoe"), -1));
+        assertEquals(fallback, index.ordinalOf(new VoterRepository.VoterSlot(new Voter("V9", "Zoe"), -1)));
+        assertThrows(IllegalArgumentException.class, () -> index.ordinalOf(null));
+
+        index.markVoted(fallback);
+        index.clear();
+        assertEquals(0, index.votedCount());
+    }
+
+    @Test
+    void testServiceUsesIndexForVotersRegisteredOutsideService() {
+        InMemoryVoterRepository voters = new InMemoryVoterRepository();
+        InMemoryVoteRepository votes = new InMemoryVoteRepository();
+        VoteService service = new VoteService(votes, new InMemoryCandidateRepository(), voters);
+        service.addCandidate("C1", "Alice");
+        voters.register(new Voter("V1", "John"));  // ex. import en masse
+
+        service.castVote("V1", "C1");
+        assertThrows(IllegalStateException.class, () -> service.castVote("V1", "C1"));
+
+        service.registerVoter("V2", "Jane");
+        service.invalidateVoter("V2");
+        voters.clear();
+        assertThrows(IllegalArgumentException.class, () -> service.castVote("V2", "C1"));
+        assertEquals(1, votes.count());
+    }
+}
@@ -0,0 +1,185 @@
+package service;
+
+import org.example.project.model.Vote;
+import org.example.project.observer.AuditVoteListener;
+import org.example.project.repo.InMemoryCandidateRepository;
+import org.example.project.repo.InMemoryVoteRepository;
+import org.example.project.repo.InMemoryVoterRepository;
+import org.example.project.service.VoteService;
+import org.example.project.wal.Durability;
+import org.example.project.wal.WalVoteRepository;
+import org.example.project.wal.WriteAheadLog;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests du journal d'écriture anticipée et de la reprise après crash.
+ */
+class WriteAheadLogTests {
+
+    @TempDir
+    Path tempDir;
+
+    @ParameterizedTest
+    @EnumSource(Durability.class)
+    void testAppendThenReplay(Durability durability) throws IOException {
+        Path file = tempDir.resolve(durability + ".wal");
+        try (WriteAheadLog log = WriteAheadLog.open(file, durability, 2)) {
+            for (int i = 0; i < 50; i++) {
+                log.append(new Vote("V" + i, "Voter" + i, "C1", "Alice", i));
+            }
+            assertEquals(durability, log.getDurability());
+        }
+
+        List<Vote> replayed = new ArrayList<>();
+        try (WriteAheadLog log = WriteAheadLog.open(file, durability)) {
+            assertEquals(50, log.replay(replayed::add));
+        }
+        assertEquals(50, replayed.size());
+        assertEquals("Voter49", replayed.get(49).getVoterName());
+        assertEquals(49, replayed.get(49).getTimestamp());
+    }
+
+    @Test
+    void testTornTailIsTruncatedOnOpen() throws IOException {
+        Path file = tempDir.resolve("torn.wal");
+        long sizeAfterTwo;
+        try (WriteAheadLog log = WriteAheadLog.open(file, Durability.SYNC)) {
+            log.append(new Vote("V1", "John", "C1", "Alice"));
+            log.append(new Vote("V2", "Jane", "C2", "Bob"));
+            sizeAfterTwo = log.size();
+            log.append(new Vote("V3", "Paul", "C2", "Bob"));
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(sizeAfterTwo + 5);  // crash au milieu du 3e enregistrement
+        }
+
+        try (WriteAheadLog log = WriteAheadLog.open(file, Durability.SYNC)) {
+            assertEquals(sizeAfterTwo, log.size());
+            log.append(new Vote("V4", "Anna", "C1", "Alice"));
+            List<String> voters = new ArrayList<>();
+            log.replay(v -> voters.add(v.getVoterId()));
+            assertEquals(List.of("V1", "V2", "V4"), voters);
+        }
+    }
+
+    @Test
+    void testSyncRacingResetNeverSkipsLaterCommits() throws Exception {
+        Path file = tempDir.resolve("race.wal");
+        try (WriteAheadLog log = WriteAheadLog.open(file, Durability.GROUP_COMMIT, 1)) {
+            Thread syncer = new Thread(() -> {
+                try {
+                    while (!Thread.currentThread().isInterrupted()) {
+                        log.sync();
+                    }
+                } catch (IOException e) {
+                    // journal fermé en fin de test
+                }
+            });
+            syncer.start();
+            for (int round = 0; round < 200; round++) {
+                for (int i = 0; i < 5; i++) {
+                    log.append(new Vote("V" + i, "John", "C1", "Alice"));
+                }
+                log.reset();
+            }
+            syncer.interrupt();
+            syncer.join();
+
+            // Après les resets, une validation groupée doit toujours attendre son propre fsync
+            log.append(new Vote("V1", "John", "C1", "Alice"));
+            List<Vote> replayed = new ArrayList<>();
+            assertEquals(1, log.replay(replayed::add));
+            assertEquals("V1", replayed.get(0).getVoterId());
+        }
+    }
+
+    @Test
+    void testServiceRecoversVotesIntoRepositoryAndListeners() throws IOException {
+        Path file = tempDir.resolve("votes.wal");
+        try (WriteAheadLog log = WriteAheadLog.open(file, Durability.GROUP_COMMIT, 1)) {
+            VoteService service = newService(new WalVoteRepository(new InMemoryVoteRepository(), log));
+            service.registerVoter("V1", "John");
+            service.registerVoter("V2", "Jane");
+            service.castVote("V1", "C1");
+            service.castVote("V2", "C2");
+        }
+
+        // Redémarrage : le repository en mémoire est vide, le journal fait foi
+        try (WriteAheadLog log = WriteAheadLog.open(file, Durability.GROUP_COMMIT, 1)) {
+            WalVoteRepository repo = new WalVoteRepository(new InMemoryVoteRepository(), log);
+            VoteService service = newService(repo);
+            AuditVoteListener audit = new AuditVoteListener();
+            service.addListener(audit);
+
+            assertEquals(2, service.recover());
+            assertEquals(2, service.getTotalVoteCount());
+            assertEquals(2, audit.getVoteCount());
+            assertTrue(service.hasVoted("V2"));
+            assertEquals(0, service.recover());  // idempotent
+
+            service.reset();
+            assertEquals(0, repo.getLog().size());
+        }
+    }
+
+    @Test
+    void testSequencesArePersistedAndNeverReusedAfterRestart() throws IOException {
+        Path file = tempDir.resolve("sequences.wal");
+        List<Long> assigned = new ArrayList<>();
+        try (WriteAheadLog log = WriteAheadLog.open(file, Durability.SYNC)) {
+            WalVoteRepository repo = new WalVoteRepository(new InMemoryVoteRepository(), log);
+            for (int i = 0; i < 3; i++) {
+                Vote vote = new Vote("V" + i, "Voter" + i, "C1", "Alice");
+                repo.save(vote);
+                assigned.add(vote.getSequence());
+            }
+        }
+        assertEquals(List.of(1L, 2L, 3L), assigned);
+
+        try (WriteAheadLog log = WriteAheadLog.open(file, Durability.SYNC)) {
+            assertEquals(3L, log.getOpenedSequence());
+            WalVoteRepository repo = new WalVoteRepository(new InMemoryVoteRepository(), log);
+            List<Long> recovered = new ArrayList<>();
+            repo.recover(vote -> recovered.add(vote.getSequence()));
+            assertEquals(assigned, recovered);
+
+            Vote next = new Vote("V9", "Voter9", "C1", "Alice");
+            repo.save(next);
+            assertEquals(4L, next.getSequence());
+        }
+    }
+
+    @Test
+    void testInvalidArguments() throws IOException {
+        Path file = tempDir.resolve("args.wal");
+        assertThrows(IllegalArgumentException.class, () -> WriteAheadLog.open(null, Durability.SYNC));
+        assertThrows(IllegalArgumentException.class, () -> WriteAheadLog.open(file, null));
+        assertThrows(IllegalArgumentException.class, () -> WriteAheadLog.open(file, Durability.ASYNC, 0));
+
+        WriteAheadLog log = WriteAheadLog.open(file, Durability.ASYNC);
+        assertThrows(IllegalArgumentException.class, () -> log.append(null));
+        assertThrows(IllegalArgumentException.class, () -> new WalVoteRepository(null, log));
+        assertThrows(IllegalArgumentException.class, () -> new WalVoteRepository(new InMemoryVoteRepository(), null));
+        log.close();
+        assertThrows(IOException.class, () -> log.append(new Vote("V1", "John", "C1", "Alice")));
+    }
+
+    private static VoteService newService(WalVoteRepository repo) {
+        VoteService service = new VoteService(repo, new InMemoryCandidateRepository(), new InMemoryVoterRepository());
+        service.addCandidate("C1", "Alice");
+        service.addCandidate("C2", "Bob");
+        return service;
+    }
+}
@@ -0,0 +1,142 @@
+package service;
+
+import org.example.project.model.Candidate;
+import org.example.project.repo.ColumnarVoteRepository;
+import org.example.project.repo.ConcurrentVoterRepository;
+import org.example.project.repo.SnapshotCandidateRepository;
+import org.example.project.service.CastResult;
+import org.example.project.service.VoteService;
+import org.example.project.strategy.PluralityCountingStrategy;
+import org.example.project.tally.WriteInSketch;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests des votes pour candidats libres et du sketch des plus cités.
+ */
+class WriteInTests {
+
+    private VoteService service;
+    private WriteInSketch sketch;
+
+    @BeforeEach
+    void setUp() {
+        service = new VoteService(new ColumnarVoteRepository(), new SnapshotCandidateRepository(),
+                new ConcurrentVoterRepository());
+        service.addCandidate("C1", "Alice");
+        sketch = new WriteInSketch(16);
+        service.addListener(sketch);
+    }
+
+    private void registerVoters(int count) {
+        for (int i = 0; i < count; i++) {
+            service.registerVoter("V" + i, "Voter " + i);
+        }
+    }
+
+    @Test
+    void testWriteInsAreRejectedUntilAllowed() {
+        registerVoters(2);
+        assertFalse(service.isWriteInsAllowed());
+        assertEquals(CastResult.UNKNOWN_CANDIDATE, service.tryCastWriteIn("V0", "Zoe"));
+        assertThrows(IllegalArgumentException.class, () -> service.castWriteIn("V0", "Zoe"));
+
+        service.allowWriteIns(true);
+        assertEquals(CastResult.ACCEPTED, service.tryCastWriteIn("V0", "  Zoe   Martin "));
+        assertEquals(CastResult.DUPLICATE, service.tryCastWriteIn("V0", "Zoe"));
+        assertEquals(CastResult.UNKNOWN_CANDIDATE, service.tryCastWriteIn("V1", " "));
+        assertEquals(CastResult.UNKNOWN_CANDIDATE, service.tryCastWriteIn("V1", "x".repeat(300)));
+        service.castWriteIn("V1", "zoe martin");
+
+        // Les deux graphies désignent le même candidat libre
+        assertEquals(Map.of("write-in:zoe martin", 2), service.certifyWriteIns());
+        assertEquals(Map.of("write-in:zoe martin", 2), service.countVotes(new PluralityCountingStrategy()));
+        assertEquals("Zoe Martin", sketch.top(1).get(0).name());
+        assertThrows(IllegalArgumentException.class, () -> service.addCandidate("write-in:zoe", "Zoe"));
+    }
+
+    @Test
+    void testHeavyHittersSurviveAFloodOfDistinctNames() {
+        int voters = 20_000;
+        registerVoters(voters);
+        service.allowWriteIns(true);
+        Random random = new Random(3);
+        for (int i = 0; i < voters; i++) {
+            String name;
+            int roll = random.nextInt(100);
+            if (roll < 30) {
+                name = "Popular One";
+            } else if (roll < 50) {
+                name = "Popular Two";
+            } else if (roll < 60) {
+                service.castVote("V" + i, "C1");
+                continue;
+            } else {
+                name = "Rare " + i;
+            }
+            service.castWriteIn("V" + i, name);
+        }
+
+        Map<String, Integer> exact = service.certifyWriteIns();
+        List<WriteInSketch.Estimate> top = sketch.top(2);
+        assertEquals("write-in:popular one", top.get(0).candidateId());
+        assertEquals("write-in:popular two", top.get(1).candidateId());
+
+        // Bornes Space-Saving : lowerBound ≤ exact ≤ count, erreur ≤ total / capacité
+        assertTrue(sketch.maxError() <= sketch.getTotal() / sketch.getCapacity());
+        for (WriteInSketch.Estimate estimate : sketch.top(sketch.getCapacity())) {
+            int count = exact.getOrDefault(estimate.candidateId(), 0);
+            assertTrue(estimate.lowerBound() <= count && count <= estimate.count(), estimate::toString);
+            assertTrue(estimate.error() <= sketch.maxError());
+        }
+        assertEquals(sketch.getCapacity(), sketch.top(100).size());
+        assertEquals(exact.values().stream().mapToLong(Integer::longValue).sum(), sketch.getTotal());
+    }
+
+    @Test
+    void testWriteInCanWinTheCount() {
+        registerVoters(3);
+        service.allowWriteIns(true);
+        service.castWriteIn("V0", "Zoe");
+        service.castWriteIn("V1", "ZOE");
+        service.castVote("V2", "C1");
+
+        Candidate winner = service.getWinner(new PluralityCountingStrategy());
+        assertNotNull(winner);
+        assertTrue(winner.isWriteIn());
+        assertEquals(Candidate.writeIn("Zoe"), winner);
+        // Nom affiché tel que saisi au premier vote, pas l'identifiant en minuscules
+        assertEquals("Zoe", winner.getName());
+        assertEquals("Alice", service.resolveCandidate("C1").getName());
+        assertNull(service.resolveCandidate("C9"));
+        assertNull(service.resolveCandidate(null));
+    }
+
+    @Test
+    void testResetClearsTheSketch() {
+        registerVoters(1);
+        service.allowWriteIns(true);
+        service.castWriteIn("V0", "Zoe");
+
+        service.reset();
+
+        assertEquals("zoe", service.resolveCandidate("write-in:zoe").getName());
+        assertEquals(0, sketch.getTotal());
+        assertTrue(sketch.top(5).isEmpty());
+        assertEquals(0, sketch.maxError());
+    }
+
+    @Test
+    void testRejectsInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new WriteInSketch(0));
+        assertThrows(IllegalArgumentException.class, () -> sketch.top(-1));
+        assertThrows(IllegalArgumentException.class, () -> sketch.add(null, "Zoe"));
+        assertThrows(IllegalArgumentException.class, () -> Candidate.writeIn(null));
+        assertTrue(Candidate.writeIn("Zoe").isWriteIn());
+        assertFalse(new Candidate("C1", "Alice").isWriteIn());
+    }
+}